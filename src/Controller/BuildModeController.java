@@ -1,6 +1,8 @@
 package Controller;
 
 import Domain.Hall;
+import Domain.HallGenerator;
+import Domain.HallValidator;
 import Domain.Inventory;
 import UI.BuildModePanel;
 import javax.swing.*;
@@ -62,34 +64,190 @@ public class BuildModeController {
         finishBuildBtn.setBorderPainted(false);
         finishBuildBtn.setOpaque(true);
 
-        finishBuildBtn.addActionListener(e -> {
-            int numberOfObjects = buildPanel.getNumberOfPlacedObjects();
+        finishBuildBtn.addActionListener(e -> finishBuilding());
 
-            if (hall.validateObjectCount(numberOfObjects)) {
-                parentController.onBuildModeFinished(
-                        buildPanel.getGrid(),
-                        buildPanel.getPlacedObjectsGrid(),
-                        previousInventory
-                );
+        JButton generateBtn = new JButton("Generate");
+        generateBtn.setFont(Utils.GameFonts.pixelFont.deriveFont(16f));
+        generateBtn.setPreferredSize(new Dimension(150, 40));
+        generateBtn.setBackground(new Color(70, 90, 160));
+        generateBtn.setForeground(Color.WHITE);
+        generateBtn.setFocusPainted(false);
+        generateBtn.setBorderPainted(false);
+        generateBtn.setOpaque(true);
+        generateBtn.addActionListener(e -> generateLayout(generateBtn));
 
-                frame.setVisible(false);
-                frame.dispose();
-                System.out.println("Closing the Build Frame!");
+        JButton undoBtn = new JButton("Undo");
+        undoBtn.setFont(Utils.GameFonts.pixelFont.deriveFont(16f));
+        undoBtn.setPreferredSize(new Dimension(100, 40));
+        undoBtn.setFocusPainted(false);
+        undoBtn.setToolTipText("Ctrl+Z");
+        undoBtn.addActionListener(e -> buildPanel.undo());
+
+        JButton redoBtn = new JButton("Redo");
+        redoBtn.setFont(Utils.GameFonts.pixelFont.deriveFont(16f));
+        redoBtn.setPreferredSize(new Dimension(100, 40));
+        redoBtn.setFocusPainted(false);
+        redoBtn.setToolTipText("Ctrl+Y");
+        redoBtn.addActionListener(e -> buildPanel.redo());
+
+        // Paint and box fill, then one entry per stamp pattern
+        String[] stampNames = BuildModePanel.getStampPatternNames();
+        String[] toolNames = new String[2 + stampNames.length];
+        toolNames[0] = "Paint";
+        toolNames[1] = "Box";
+        for (int i = 0; i < stampNames.length; i++) {
+            toolNames[2 + i] = "Stamp: " + stampNames[i];
+        }
+        JComboBox<String> toolBox = new JComboBox<>(toolNames);
+        toolBox.setFont(Utils.GameFonts.pixelFont.deriveFont(16f));
+        toolBox.setPreferredSize(new Dimension(170, 40));
+        toolBox.setFocusable(false);
+        toolBox.setToolTipText("Left button places, right button erases");
+        toolBox.addActionListener(e -> {
+            int index = toolBox.getSelectedIndex();
+            if (index >= 2) {
+                buildPanel.setStampPattern(index - 2);
+                buildPanel.setTool(BuildModePanel.Tool.STAMP);
             } else {
-                JOptionPane.showMessageDialog(frame,
-                        "Not enough objects in " + hall.getName() + "!\n" +
-                                "You need at least " + hall.getMinObjectCount() + " objects.\n" +
-                                "Currently placed: " + numberOfObjects + " objects.",
-                        "Insufficient Objects",
-                        JOptionPane.WARNING_MESSAGE);
+                buildPanel.setTool(index == 0 ? BuildModePanel.Tool.PAINT : BuildModePanel.Tool.BOX);
             }
         });
 
+        JButton templatesBtn = new JButton("Templates");
+        templatesBtn.setFont(Utils.GameFonts.pixelFont.deriveFont(16f));
+        templatesBtn.setPreferredSize(new Dimension(130, 40));
+        templatesBtn.setFocusPainted(false);
+        templatesBtn.addActionListener(e -> showTemplates());
+
+        bottomPanel.add(toolBox);
+        bottomPanel.add(undoBtn);
+        bottomPanel.add(redoBtn);
+        bottomPanel.add(generateBtn);
+        bottomPanel.add(templatesBtn);
         bottomPanel.add(finishBuildBtn);
         frame.add(bottomPanel, BorderLayout.SOUTH);
         frame.setVisible(true);
     }
 
+    /**
+     * Starts play mode with the hall as built, if it can be won and has enough objects.
+     */
+    private void finishBuilding() {
+        int numberOfObjects = buildPanel.getNumberOfPlacedObjects();
+
+        HallValidator.Report report = buildPanel.getValidationReport();
+        if (!report.isSolvable()) {
+            String problem = report.getSpawnableCells() == 0
+                    ? "The door is blocked, so the hero has nowhere to stand."
+                    : report.getUnreachableObjects().size() + " object(s), tinted red, cannot be reached from the door.";
+            JOptionPane.showMessageDialog(frame,
+                    hall.getName() + " cannot be won as built!\n" + problem,
+                    "Unreachable Objects",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        if (hall.validateObjectCount(numberOfObjects)) {
+            parentController.onBuildModeFinished(
+                    buildPanel.getGrid(),
+                    buildPanel.getPlacedObjectsGrid(),
+                    previousInventory,
+                    numberOfObjects
+            );
+
+            frame.setVisible(false);
+            frame.dispose();
+            System.out.println("Closing the Build Frame!");
+        } else {
+            JOptionPane.showMessageDialog(frame,
+                    "Not enough objects in " + hall.getName() + "!\n" +
+                            "You need at least " + hall.getMinObjectCount() + " objects.\n" +
+                            "Currently placed: " + numberOfObjects + " objects.",
+                    "Insufficient Objects",
+                    JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
+    /**
+     * Shows the template library: the current hall can be saved as a template, and a saved template can be loaded
+     * into the editor or played straight away.
+     */
+    private void showTemplates() {
+        JComboBox<TemplateLibrary.Entry> templateBox = new JComboBox<>(
+                TemplateLibrary.listTemplates().toArray(new TemplateLibrary.Entry[0]));
+        JPanel panel = new JPanel(new BorderLayout(0, 8));
+        panel.add(new JLabel(templateBox.getItemCount() > 0 ? "Saved templates:" : "No saved templates yet."),
+                BorderLayout.NORTH);
+        panel.add(templateBox, BorderLayout.CENTER);
+
+        String[] options = {"Save Current", "Load", "Play", "Cancel"};
+        int choice = JOptionPane.showOptionDialog(frame, panel, "Hall Templates", JOptionPane.DEFAULT_OPTION,
+                JOptionPane.PLAIN_MESSAGE, null, options, options[templateBox.getItemCount() > 0 ? 1 : 0]);
+        if (choice == 0) {
+            saveTemplate();
+            return;
+        }
+        TemplateLibrary.Entry entry = (TemplateLibrary.Entry) templateBox.getSelectedItem();
+        if ((choice != 1 && choice != 2) || entry == null) {
+            return;
+        }
+        TemplateLibrary.Template template = TemplateLibrary.loadTemplate(entry.getName());
+        if (template == null) {
+            JOptionPane.showMessageDialog(frame, "Could not read template " + entry.getName() + ".",
+                    "Template Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        buildPanel.applyPlacedObjects(template.getPlacedObjects());
+        if (choice == 2) {
+            finishBuilding();
+        }
+    }
+
+    /**
+     * Asks for a name and saves the current layout as a template.
+     */
+    private void saveTemplate() {
+        String name = JOptionPane.showInputDialog(frame, "Template name:", hall.getName());
+        if (name == null) {
+            return;
+        }
+        // The name is also the file name
+        name = name.trim().replaceAll("[^A-Za-z0-9 _-]", "_");
+        if (name.isEmpty()) {
+            return;
+        }
+        if (!TemplateLibrary.saveTemplate(name, hall.getName(), hall.getMinObjectCount(),
+                buildPanel.getGrid(), buildPanel.getPlacedObjectsGrid())) {
+            JOptionPane.showMessageDialog(frame, "Could not save template " + name + ".",
+                    "Template Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Generates a layout for the hall on a background thread and loads it into the build panel.
+     * The button is disabled until the layout has been applied.
+     * @param generateBtn the button that started the generation
+     */
+    private void generateLayout(JButton generateBtn) {
+        generateBtn.setEnabled(false);
+        HallGenerator generator = new HallGenerator(buildPanel.getGrid(), buildPanel.getObjectDoubleHeights(),
+                BuildModePanel.DOOR_ROW - 1, BuildModePanel.DOOR_COL);
+        long seed = System.nanoTime();
+        new Thread(() -> {
+            HallGenerator.Layout layout = generator.generate(hall.getMinObjectCount(),
+                    HallGenerator.DEFAULT_CANDIDATES, seed);
+            SwingUtilities.invokeLater(() -> {
+                if (layout != null) {
+                    buildPanel.applyLayout(layout.getObjectTypes());
+                } else {
+                    JOptionPane.showMessageDialog(frame, "Could not generate a layout for " + hall.getName() + ".",
+                            "Generation Failed", JOptionPane.WARNING_MESSAGE);
+                }
+                generateBtn.setEnabled(true);
+            });
+        }, "hall-generator").start();
+    }
+
     /**
      * Retrieves the current BuildModePanel instance used by this controller.
      * @return the BuildModePanel object
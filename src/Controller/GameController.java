@@ -1,20 +1,21 @@
 package Controller;
 
 import Domain.*;
+import UI.BuildModeAssets;
 import UI.BuildModePanel;
 import UI.GamePanel;
 import Utils.AssetPaths;
 import UI.PausePopUp;
 import UI.RokueLikeMainMenu;
+import Utils.ImageLoader;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class GameController {
@@ -32,7 +33,7 @@ public class GameController {
 
     private static final int WINDOW_WIDTH = 1100;
     private static final int WINDOW_HEIGHT = 900;
-    private static final int TIME_PER_OBJECT = 5; // seconds
+    public static final int TIME_PER_OBJECT = 5; // seconds
     private static Inventory persistentInventory = null;
 
     private static int gamesCompleted = 0;
@@ -91,6 +92,21 @@ public class GameController {
                 }
             }
         }
+        onBuildModeFinished(grid, placedObjects, previousInventory, placedObjectCount);
+    }
+
+    /**
+     * Handles the end of build mode when the caller already knows how many objects were placed,
+     * e.g. from the build panel's running counter, so the grid does not need to be scanned again.
+     * @param grid the 2D CellType array representing the board layout
+     * @param placedObjects the 2D array of placed objects
+     * @param previousInventory the Inventory carried over from a previous hall, if any
+     * @param placedObjectCount the number of placed objects
+     */
+    public void onBuildModeFinished(BuildModePanel.CellType[][] grid,
+                                    BuildModePanel.PlacedObject[][] placedObjects,
+                                    Inventory previousInventory,
+                                    int placedObjectCount) {
         timeRemaining = placedObjectCount * TIME_PER_OBJECT;
 
         if (!hall.validateObjectCount(placedObjectCount)) {
@@ -114,6 +130,73 @@ public class GameController {
         startPlayMode(grid, placedObjects, startingTime, previousInventory);
     }
 
+    /**
+     * Opens this controller's hall. If saved templates have enough objects for it, the player is first offered
+     * to play one of them straight away, or to delete them; otherwise, or on "Build New", build mode opens.
+     * @param previousInventory the Inventory carried over from a previous hall, if any
+     */
+    public void openHall(Inventory previousInventory) {
+        List<TemplateLibrary.Entry> entries = TemplateLibrary.listTemplates().stream()
+                .filter(entry -> hall.validateObjectCount(entry.getObjectCount()))
+                .collect(Collectors.toList());
+        while (!entries.isEmpty()) {
+            JComboBox<TemplateLibrary.Entry> templateBox = new JComboBox<>(
+                    entries.toArray(new TemplateLibrary.Entry[0]));
+            JPanel panel = new JPanel(new BorderLayout(0, 8));
+            panel.add(new JLabel("Play a saved template in " + hall.getName() + "?"), BorderLayout.NORTH);
+            panel.add(templateBox, BorderLayout.CENTER);
+
+            String[] options = {"Play", "Delete", "Build New"};
+            int choice = JOptionPane.showOptionDialog(null, panel, hall.getName(), JOptionPane.DEFAULT_OPTION,
+                    JOptionPane.PLAIN_MESSAGE, null, options, options[0]);
+            TemplateLibrary.Entry entry = (TemplateLibrary.Entry) templateBox.getSelectedItem();
+            if (choice == 0) {
+                if (playTemplate(entry, previousInventory)) {
+                    return;
+                }
+                entries.remove(entry);
+            } else if (choice == 1) {
+                TemplateLibrary.deleteTemplate(entry.getName());
+                entries.remove(entry);
+            } else {
+                break;
+            }
+        }
+        new BuildModeController(hall, this, previousInventory);
+    }
+
+    /**
+     * Starts play mode directly on a saved template, without opening build mode.
+     * @param entry the template to play
+     * @param previousInventory the Inventory carried over from a previous hall, if any
+     * @return true if play mode was started, false if the template could not be read or cannot be won
+     */
+    private boolean playTemplate(TemplateLibrary.Entry entry, Inventory previousInventory) {
+        TemplateLibrary.Template template = TemplateLibrary.loadTemplate(entry.getName());
+        String problem = null;
+        if (template == null) {
+            problem = "Could not read template " + entry.getName() + ".";
+        } else if (template.getGrid().length != hall.getRows() || template.getGrid()[0].length != hall.getCols()) {
+            problem = entry.getName() + " was built for a hall of a different size.";
+        } else {
+            // Templates are saved as they stand in the editor, so check them as finishing build mode would
+            HallValidator validator = new HallValidator(template.getGrid(),
+                    BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL);
+            validator.load(template.getPlacedObjects());
+            if (!validator.report().isSolvable()) {
+                problem = entry.getName() + " cannot be won as saved:\n"
+                        + "the door is blocked or some objects cannot be reached.";
+            }
+        }
+        if (problem != null) {
+            JOptionPane.showMessageDialog(null, problem, "Template Error", JOptionPane.ERROR_MESSAGE);
+            return false;
+        }
+        onBuildModeFinished(template.getGrid(), template.getPlacedObjects(), previousInventory,
+                template.getEntry().getObjectCount());
+        return true;
+    }
+
     /**
      * Generates a descriptive name for the hall based on its number (1-4).
      * @param hallNumber the numeric index of the hall
@@ -183,6 +266,27 @@ public class GameController {
         playModeFrame.setVisible(true);
 
         pausePopup = new PausePopUp(playModeFrame);
+        preloadNextHall();
+    }
+
+    /**
+     * Prepares what the transition after this hall needs while the hall is being played: the completion screen
+     * image, and either the build mode assets for the next hall or the congratulations image after the last one.
+     * Everything is decoded on background threads, so finishing the hall does not wait for any image.
+     */
+    private void preloadNextHall() {
+        int hallsAfterThis = gamesCompleted + 1;
+        CompletableFuture.runAsync(() -> {
+            if (hallsAfterThis <= COMPLETED_IMAGES.length) {
+                loadImage(COMPLETED_IMAGES[hallsAfterThis - 1]);
+            }
+            if (hallsAfterThis >= COMPLETED_IMAGES.length) {
+                loadImage(AssetPaths.CONGRATULATIONS);
+            }
+        });
+        if (hallsAfterThis < COMPLETED_IMAGES.length) {
+            BuildModeAssets.preload();
+        }
     }
 
     /**
@@ -264,9 +368,11 @@ public class GameController {
 
             GameController nextController = new GameController(nextHall);
 
-            SwingUtilities.invokeLater(() -> {
-                new BuildModeController(nextHall, nextController, currentInventory);
-            });
+            // The assets were preloaded during play; only open the editor once they are ready, so the EDT never waits.
+            // If preparing them failed the editor still opens, and prepares them again with fallback tiles if need be
+            BuildModeAssets.preload().whenComplete((assets, error) -> SwingUtilities.invokeLater(() -> {
+                nextController.openHall(currentInventory);
+            }));
 
         } else {
             showCongratulationsScreen();
@@ -306,14 +412,9 @@ public class GameController {
     private BufferedImage loadImage(String resourcePath) {
         BufferedImage image = null;
         try {
-            URL url = getClass().getResource(resourcePath);
-            if (url != null) {
-                image = ImageIO.read(url);
-            } else {
-                System.err.println("Resource not found: " + resourcePath);
-            }
+            image = ImageLoader.readCached(resourcePath);
         } catch (IOException e) {
-            e.printStackTrace();
+            System.err.println("Resource not found: " + resourcePath);
         }
         return image;
     }
@@ -463,6 +564,7 @@ public class GameController {
         );
 
         this.gameState = gameState;
+        preloadNextHall();
     }
 
     /**
@@ -553,6 +655,14 @@ public class GameController {
         persistentInventory = null;
     }
 
+    /**
+     * Returns the minimum object count of each hall, in the order the halls are played.
+     * @return a copy of the per-hall minimums
+     */
+    public static int[] getMinObjectCounts() {
+        return MIN_OBJECTS.clone();
+    }
+
     /**
      * A custom JPanel that scales a background image to fit while maintaining its aspect ratio,
      * or displays fallback text if the image is missing.
@@ -1,6 +1,7 @@
 package Controller;
 
 import Domain.GameState;
+import Utils.GameEvents;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,12 +22,19 @@ public class SaveLoadManager {
             saveFileName += ".rkl";
         }
         File file = new File(folder, saveFileName);
+        GameEvents.SaveLoadEvent event = new GameEvents.SaveLoadEvent();
+        event.begin();
+        event.operation = "save";
+        event.file = file.getName();
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
             oos.writeObject(gameState);
+            event.success = true;
             System.out.println("Game saved: " + file.getAbsolutePath());
         } catch (IOException e) {
             e.printStackTrace();
         }
+        event.bytes = file.length();
+        event.commit();
     }
 
     /**
@@ -44,11 +52,20 @@ public class SaveLoadManager {
             System.out.println("Save file does not exist: " + file.getAbsolutePath());
             return null;
         }
+        GameEvents.SaveLoadEvent event = new GameEvents.SaveLoadEvent();
+        event.begin();
+        event.operation = "load";
+        event.file = file.getName();
+        event.bytes = file.length();
         try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-            return (GameState) ois.readObject();
+            GameState state = (GameState) ois.readObject();
+            event.success = true;
+            return state;
         } catch (IOException | ClassNotFoundException e) {
             e.printStackTrace();
             return null;
+        } finally {
+            event.commit();
         }
     }
 
@@ -0,0 +1,380 @@
+package Controller;
+
+import UI.BuildModePanel;
+import Utils.GameEvents;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores built halls as reusable templates in the "templates" folder, so a layout can be loaded back into build mode
+ * or played straight away.
+ * Each template is a small binary ".rkt" file (a few hundred bytes for a 13x13 hall) that is read whole from its
+ * channel into one buffer. Files are not memory-mapped: a mapping lasts until it is garbage collected, and on
+ * Windows a mapped file cannot be overwritten, so saving over a template that was just loaded would fail.
+ * The layout is one byte per cell: the top bit marks a wall, the low bits index a table of
+ * object type names stored in the header. An "index.txt" next to the templates lists each one with its metadata,
+ * so the library can be browsed without opening every file.
+ * <pre>
+ * int     magic "RKT1"
+ * byte    rows, cols
+ * short   minimum object count of the hall it was built for
+ * long    creation time in milliseconds
+ * string  hall name
+ * byte    number of object types, followed by each type name
+ * byte[]  rows * cols cells
+ * </pre>
+ * Strings are a byte length followed by UTF-8 bytes.
+ */
+public class TemplateLibrary {
+    private static final String FOLDER = "templates";
+    private static final String EXTENSION = ".rkt";
+    private static final String INDEX_FILE = "index.txt";
+    private static final int MAGIC = 0x524B5431; // "RKT1"
+    private static final int WALL_BIT = 0x80;
+    private static final int TYPE_MASK = 0x7F;
+
+    /**
+     * A template's metadata as listed in the index.
+     */
+    public static final class Entry {
+        private final String name;
+        private final String hallName;
+        private final int objectCount;
+        private final int minObjects;
+        private final long created;
+
+        Entry(String name, String hallName, int objectCount, int minObjects, long created) {
+            this.name = name;
+            this.hallName = hallName;
+            this.objectCount = objectCount;
+            this.minObjects = minObjects;
+            this.created = created;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHallName() {
+            return hallName;
+        }
+
+        public int getObjectCount() {
+            return objectCount;
+        }
+
+        public int getMinObjects() {
+            return minObjects;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+
+        @Override
+        public String toString() {
+            return name + "  (" + hallName + ", " + objectCount + " objects)";
+        }
+    }
+
+    /**
+     * A loaded template: the hall layout and the objects placed in it.
+     */
+    public static final class Template {
+        private final Entry entry;
+        private final BuildModePanel.CellType[][] grid;
+        private final BuildModePanel.PlacedObject[][] placedObjects;
+
+        Template(Entry entry, BuildModePanel.CellType[][] grid, BuildModePanel.PlacedObject[][] placedObjects) {
+            this.entry = entry;
+            this.grid = grid;
+            this.placedObjects = placedObjects;
+        }
+
+        public Entry getEntry() {
+            return entry;
+        }
+
+        public BuildModePanel.CellType[][] getGrid() {
+            return grid;
+        }
+
+        public BuildModePanel.PlacedObject[][] getPlacedObjects() {
+            return placedObjects;
+        }
+    }
+
+    /**
+     * Exports a hall to a template file and adds it to the index, replacing any template with the same name.
+     * @param name the template name, also used as the file name
+     * @param hallName the name of the hall it was built for
+     * @param minObjects the minimum object count of that hall
+     * @param grid the wall layout
+     * @param placedObjects the placed objects
+     * @return true if the template was written
+     */
+    public static synchronized boolean saveTemplate(String name, String hallName, int minObjects,
+                                                    BuildModePanel.CellType[][] grid,
+                                                    BuildModePanel.PlacedObject[][] placedObjects) {
+        File folder = new File(FOLDER);
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        int rows = grid.length;
+        int cols = grid[0].length;
+        List<String> types = new ArrayList<>();
+        byte[] cells = new byte[rows * cols];
+        int objectCount = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int cell = grid[r][c] == BuildModePanel.CellType.WALL ? WALL_BIT : 0;
+                BuildModePanel.PlacedObject obj = placedObjects[r][c];
+                if (obj != null && obj.getObjectType() != null) {
+                    int type = types.indexOf(obj.getObjectType());
+                    if (type < 0) {
+                        types.add(obj.getObjectType());
+                        type = types.size() - 1;
+                    }
+                    cell |= (type + 1) & TYPE_MASK;
+                    objectCount++;
+                }
+                cells[r * cols + c] = (byte) cell;
+            }
+        }
+
+        long created = System.currentTimeMillis();
+        ByteBuffer buffer = ByteBuffer.allocate(16 + cells.length + 256 * (types.size() + 2));
+        buffer.putInt(MAGIC);
+        buffer.put((byte) rows);
+        buffer.put((byte) cols);
+        buffer.putShort((short) minObjects);
+        buffer.putLong(created);
+        putString(buffer, hallName);
+        buffer.put((byte) types.size());
+        for (String type : types) {
+            putString(buffer, type);
+        }
+        buffer.put(cells);
+        buffer.flip();
+
+        File file = new File(folder, name + EXTENSION);
+        GameEvents.SaveLoadEvent event = new GameEvents.SaveLoadEvent();
+        event.begin();
+        event.operation = "template-save";
+        event.file = file.getName();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            event.bytes = channel.size();
+            event.success = true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        } finally {
+            event.commit();
+        }
+
+        List<Entry> entries = listTemplates();
+        entries.removeIf(entry -> entry.getName().equals(name));
+        entries.add(new Entry(name, hallName, objectCount, minObjects, created));
+        writeIndex(entries);
+        System.out.println("Template saved: " + file.getAbsolutePath());
+        return true;
+    }
+
+    /**
+     * Loads a template, reading its file in one go.
+     * @param name the template name
+     * @return the template, or null if it is missing or unreadable
+     */
+    public static Template loadTemplate(String name) {
+        File file = new File(FOLDER, name + EXTENSION);
+        if (!file.exists()) {
+            System.out.println("Template does not exist: " + file.getAbsolutePath());
+            return null;
+        }
+        GameEvents.SaveLoadEvent event = new GameEvents.SaveLoadEvent();
+        event.begin();
+        event.operation = "template-load";
+        event.file = file.getName();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            event.bytes = channel.size();
+            Template template = readTemplate(name, readAll(channel), true);
+            event.success = template != null;
+            return template;
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Lists the templates in the library. The index is used when present; otherwise the headers of the template
+     * files are read and the index is written again.
+     * @return the template entries, in the order they were saved
+     */
+    public static synchronized List<Entry> listTemplates() {
+        List<Entry> entries = readIndex();
+        if (entries != null) {
+            return entries;
+        }
+        entries = new ArrayList<>();
+        File[] files = new File(FOLDER).listFiles((dir, fileName) -> fileName.endsWith(EXTENSION));
+        if (files == null) {
+            return entries;
+        }
+        for (File f : files) {
+            String name = f.getName().substring(0, f.getName().length() - EXTENSION.length());
+            try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ)) {
+                Template header = readTemplate(name, readAll(channel), false);
+                if (header != null) {
+                    entries.add(header.getEntry());
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Skipping unreadable template: " + f.getName());
+            }
+        }
+        writeIndex(entries);
+        return entries;
+    }
+
+    /**
+     * Removes a template and its index entry.
+     * @param name the template name
+     */
+    public static synchronized void deleteTemplate(String name) {
+        new File(FOLDER, name + EXTENSION).delete();
+        List<Entry> entries = listTemplates();
+        entries.removeIf(entry -> entry.getName().equals(name));
+        writeIndex(entries);
+    }
+
+    /**
+     * Reads a whole file into a heap buffer, which holds no reference to the file once the channel is closed.
+     * @param channel the open file
+     * @return the file's contents, ready to read
+     */
+    private static ByteBuffer readAll(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Parses a template file.
+     * @param withObjects false to stop after the header and object count, for rebuilding the index
+     * @return the template, or null if the file is not a template
+     */
+    private static Template readTemplate(String name, ByteBuffer buffer, boolean withObjects) {
+        if (buffer.getInt() != MAGIC) {
+            System.err.println("Not a template file: " + name);
+            return null;
+        }
+        int rows = buffer.get() & 0xFF;
+        int cols = buffer.get() & 0xFF;
+        int minObjects = buffer.getShort();
+        long created = buffer.getLong();
+        String hallName = getString(buffer);
+        String[] types = new String[buffer.get() & 0xFF];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = getString(buffer);
+        }
+
+        BuildModePanel.CellType[][] grid = new BuildModePanel.CellType[rows][cols];
+        BuildModePanel.PlacedObject[][] placedObjects = new BuildModePanel.PlacedObject[rows][cols];
+        int objectCount = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int cell = buffer.get() & 0xFF;
+                grid[r][c] = (cell & WALL_BIT) != 0 ? BuildModePanel.CellType.WALL : BuildModePanel.CellType.FLOOR;
+                int type = (cell & TYPE_MASK) - 1;
+                if (type < 0 || type >= types.length) {
+                    continue;
+                }
+                objectCount++;
+                if (withObjects) {
+                    placedObjects[r][c] = BuildModePanel.createObject(types[type], r, c);
+                }
+            }
+        }
+        Entry entry = new Entry(name, hallName, objectCount, minObjects, created);
+        return new Template(entry, grid, placedObjects);
+    }
+
+    /**
+     * Reads the index file.
+     * @return the entries, or null if there is no index
+     */
+    private static List<Entry> readIndex() {
+        File index = new File(FOLDER, INDEX_FILE);
+        if (!index.exists()) {
+            return null;
+        }
+        List<Entry> entries = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(index.toPath(), StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t");
+                if (fields.length < 5 || !new File(FOLDER, fields[0] + EXTENSION).exists()) {
+                    continue;
+                }
+                entries.add(new Entry(fields[0], fields[1], Integer.parseInt(fields[2]),
+                        Integer.parseInt(fields[3]), Long.parseLong(fields[4])));
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Rebuilding template index: " + e.getMessage());
+            return null;
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the index file, one tab-separated line per template.
+     */
+    private static void writeIndex(List<Entry> entries) {
+        File folder = new File(FOLDER);
+        if (!folder.exists()) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(new File(folder, INDEX_FILE).toPath(),
+                StandardCharsets.UTF_8)) {
+            for (Entry entry : entries) {
+                writer.write(entry.getName() + "\t" + entry.getHallName() + "\t" + entry.getObjectCount() + "\t"
+                        + entry.getMinObjects() + "\t" + entry.getCreated());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void putString(ByteBuffer buffer, String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, 255);
+        buffer.put((byte) length);
+        buffer.put(bytes, 0, length);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.get() & 0xFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -7,11 +7,8 @@ import Utils.SoundPlayer;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
-import java.awt.geom.Point2D;
-import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -19,11 +16,12 @@ import java.util.List;
  */
 public class ArcherMonster extends Monster implements Serializable {
     private static final long serialVersionUID = 1L;
-    private long lastShot;
     private transient GamePanel gamePanel;
-    private transient List<Arrow> activeArrows;
     private List<StuckArrow> stuckArrows;
-    private static final int SHOOT_DELAY = 1000;
+    /** Milliseconds an archer waits between shots. */
+    public static final int SHOOT_DELAY = 1000;
+    /** How far an archer can see and shoot, in cells. */
+    public static final int SIGHT_RADIUS = 3;
 
     /**
      * Constructs an ArcherMonster at the specified position with references to the hero and game panel.
@@ -35,154 +33,115 @@ public class ArcherMonster extends Monster implements Serializable {
      */
     public ArcherMonster(int sx, int sy, Hero h, BuildModePanel.CellType[][] mg, GamePanel gp) {
         super(sx, sy, AssetPaths.ARCHER, h, mg);
-        lastShot = System.currentTimeMillis();
+        setCooldown(System.currentTimeMillis()); // time of the last shot
         gamePanel = gp;
-        activeArrows = new ArrayList<>();
         stuckArrows = new ArrayList<>();
     }
 
     /**
-     * Updates the ArcherMonster's behavior (aim, shoot arrows, handle arrow collisions).
+     * Plans the ArcherMonster's turn: face the hero and shoot when the hero is in line of sight
+     * and the shot delay has passed.
+     * @param world the world as it was at the start of the tick
+     * @return SHOOT when an arrow should be fired, otherwise IDLE
      */
     @Override
-    public void update() {
-        updateFacingDirection();
+    public MonsterIntent planTurn(WorldSnapshot world) {
+        updateFacingDirection(world.getHeroX());
 
-        if (gamePanel != null && gamePanel.isCloakActive()) {
+        if (world.isCloakActive()) {
             System.out.println("Hero is cloaked - Archer cannot detect them!");
-            return;
+            return MonsterIntent.idle();
         }
 
-        long now = System.currentTimeMillis();
-        if (now - lastShot >= SHOOT_DELAY) {
-            int mr = y / CELL_SIZE;
-            int mc = x / CELL_SIZE;
-            int hr = hero.getY() / CELL_SIZE;
-            int hc = hero.getX() / CELL_SIZE;
-            double distance = Math.sqrt((mr - hr) * (mr - hr) + (mc - hc) * (mc - hc));
-
-            if (distance <= 3 && distance != 2 * Math.sqrt(2)) {
-                shootArrow();
-                lastShot = now;
-            }
-        }
+        long now = world.getTimeMillis();
+        if (now - getCooldown() >= SHOOT_DELAY) {
+            int mr = getY() / CELL_SIZE;
+            int mc = getX() / CELL_SIZE;
 
-        if (activeArrows != null) {
-            Iterator<Arrow> it = activeArrows.iterator();
-            while (it.hasNext()) {
-                Arrow arrow = it.next();
-                arrow.update();
-
-                if (arrow.isOutOfRange()) {
-                    it.remove();
-                    continue;
-                }
-
-                Point2D.Double pos = arrow.getPosition();
-                if (checkHeroCollision(pos.x, pos.y)) {
-                    double heroCenterX = hero.getX() + hero.getWidth() / 2.0;
-                    double heroCenterY = hero.getY() + hero.getHeight() / 2.0;
-
-                    double dx = pos.x - heroCenterX;
-                    double dy = pos.y - heroCenterY;
-                    double length = Math.sqrt(dx * dx + dy * dy);
-                    if (length > 0) {
-                        dx /= length;
-                        dy /= length;
-                    }
-
-                    double stickX = heroCenterX + dx * (hero.getWidth() / 2.0);
-                    double stickY = heroCenterY + dy * (hero.getHeight() / 2.0);
-
-                    StuckArrow stuckArrow = new StuckArrow(
-                            stickX - hero.getX(),
-                            stickY - hero.getY(),
-                            arrow.getAngle()
-                    );
-                    stuckArrows.add(stuckArrow);
-
-                    hero.setHealth(hero.getHealth() - 1);
-                    SoundPlayer.playSound("/resources/sounds/hurt.wav");
-                    System.out.println("Hero hit by ArcherMonster! Health: " + hero.getHealth());
-                    it.remove();
-                    continue;
-                }
-
-                if (!isValidPosition(pos.x, pos.y)) {
-                    it.remove();
-                }
+            if (world.canSeeHero(mr, mc, SIGHT_RADIUS)) {
+                setCooldown(now);
+                return MonsterIntent.shoot();
             }
         }
+        return MonsterIntent.idle();
     }
 
     /**
-     * Checks if the arrow coordinates collide with the hero's bounding box.
-     * @param arrowX the arrow's x-position
-     * @param arrowY the arrow's y-position
-     * @return true if collision occurs, false otherwise
+     * Fires the planned arrow. Arrows in flight are advanced by the panel's ProjectileSystem.
+     * @param intent the intent returned by planTurn
      */
-    private boolean checkHeroCollision(double arrowX, double arrowY) {
-        Rectangle heroRect = new Rectangle(
-                hero.getX() - 5,
-                hero.getY() - 5,
-                hero.getWidth() + 10,
-                hero.getHeight() + 10
-        );
-        return heroRect.contains(arrowX, arrowY);
+    @Override
+    public void applyTurn(MonsterIntent intent) {
+        if (intent.getKind() == MonsterIntent.Kind.SHOOT) {
+            shootArrow();
+        }
     }
 
     /**
-     * Creates a new arrow directed at the hero's position and adds it to the active arrows.
+     * Called by the ProjectileSystem when one of this archer's arrows hits the hero.
+     * Sticks the arrow into the hero's outline and deals one point of damage.
+     * @param hitX the arrow's x-position at impact
+     * @param hitY the arrow's y-position at impact
+     * @param angle the arrow's direction angle in radians
      */
-    private void shootArrow() {
-        double startX = x + width / 2.0;
-        double startY = y + height / 2.0;
-        double targetX = hero.getX() + hero.getWidth() / 2.0;
-        double targetY = hero.getY() + hero.getHeight() / 2.0;
-
-        Arrow arrow = new Arrow(startX, startY, targetX, targetY);
-        if (activeArrows == null) {
-            activeArrows = new ArrayList<>();
+    public void onArrowHit(double hitX, double hitY, double angle) {
+        double heroCenterX = hero.getX() + hero.getWidth() / 2.0;
+        double heroCenterY = hero.getY() + hero.getHeight() / 2.0;
+
+        double dx = hitX - heroCenterX;
+        double dy = hitY - heroCenterY;
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length > 0) {
+            dx /= length;
+            dy /= length;
         }
-        activeArrows.add(arrow);
+
+        double stickX = heroCenterX + dx * (hero.getWidth() / 2.0);
+        double stickY = heroCenterY + dy * (hero.getHeight() / 2.0);
+
+        stuckArrows.add(new StuckArrow(
+                stickX - hero.getX(),
+                stickY - hero.getY(),
+                angle
+        ));
+
+        hero.setHealth(hero.getHealth() - 1);
+        SoundPlayer.playSound("/resources/sounds/hurt.wav");
+        System.out.println("Hero hit by ArcherMonster! Health: " + hero.getHealth());
     }
 
     /**
-     * Checks if the given coordinates are valid for arrow flight (i.e., not colliding with walls or out of bounds).
-     * @param x the x-coordinate in pixels
-     * @param y the y-coordinate in pixels
-     * @return true if valid, false otherwise
+     * Fires a new arrow directed at the hero's position into the panel's ProjectileSystem.
      */
-    private boolean isValidPosition(double x, double y) {
-        int gridX = (int) x / CELL_SIZE;
-        int gridY = (int) y / CELL_SIZE;
-
-        if (gridX < 0 || gridY < 0 || gridX >= mapGrid[0].length || gridY >= mapGrid.length) {
-            return false;
+    private void shootArrow() {
+        if (gamePanel == null) {
+            return;
         }
-        return mapGrid[gridY][gridX] != BuildModePanel.CellType.WALL;
+        double startX = getX() + width / 2.0;
+        double startY = getY() + height / 2.0;
+        double targetX = hero.getX() + hero.getWidth() / 2.0;
+        double targetY = hero.getY() + hero.getHeight() / 2.0;
+
+        gamePanel.getProjectiles().spawn(this, startX, startY, targetX, targetY);
     }
 
     /**
-     * Renders the ArcherMonster, its active arrows, and any arrows stuck in the hero.
+     * Renders the ArcherMonster and any arrows stuck in the hero.
      * @param g the Graphics context for drawing
      */
     @Override
     public void draw(Graphics g) {
         super.draw(g);
 
+        if (stuckArrows.isEmpty()) {
+            return;
+        }
         Graphics2D g2d = (Graphics2D) g.create();
         g2d.setRenderingHint(
                 RenderingHints.KEY_ANTIALIASING,
                 RenderingHints.VALUE_ANTIALIAS_ON
         );
 
-        if (activeArrows != null) {
-            for (Arrow arrow : activeArrows) {
-                arrow.draw(g2d);
-            }
-        }
-
         for (StuckArrow stuckArrow : stuckArrows) {
             stuckArrow.draw(g2d, hero);
         }
@@ -238,16 +197,4 @@ public class ArcherMonster extends Monster implements Serializable {
             g2d.setTransform(old);
         }
     }
-
-    /**
-     * Custom deserialization logic to ensure transient fields are reinitialized.
-     * @param in the ObjectInputStream
-     * @throws IOException if an I/O error occurs
-     * @throws ClassNotFoundException if a class can't be found
-     */
-    private void readObject(java.io.ObjectInputStream in)
-            throws IOException, ClassNotFoundException {
-        in.defaultReadObject();
-        activeArrows = new ArrayList<>();
-    }
 }
@@ -0,0 +1,189 @@
+package Domain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of which cells are inside an archer's threat zone, i.e. the open cells the archer can see.
+ * Coverage is stored as a count per cell and is only recomputed for an archer when it spawns, moves or is removed.
+ */
+public class ArcherThreatMap {
+    private static final int CELL_SIZE = 64;
+
+    private final Visibility visibility;
+    private final int rows;
+    private final int cols;
+    private final int[] coverage;
+    private final Map<Monster, Footprint> footprints = new IdentityHashMap<>();
+
+    private boolean changed = true;
+
+    /**
+     * A private holder for the cell an archer was last seen in and the cells it covers from there.
+     */
+    private static class Footprint {
+        int cell;
+        int[] cells;
+
+        Footprint(int cell, int[] cells) {
+            this.cell = cell;
+            this.cells = cells;
+        }
+    }
+
+    /**
+     * Constructs an empty threat map for the given hall.
+     * @param visibility the hall's line-of-sight engine, which defines what an archer covers
+     */
+    public ArcherThreatMap(Visibility visibility) {
+        this.visibility = visibility;
+        this.rows = visibility.getRows();
+        this.cols = visibility.getCols();
+        this.coverage = new int[rows * cols];
+    }
+
+    /**
+     * Adds an archer's zone to the map. Does nothing if the archer is already tracked.
+     * @param archer the archer to track
+     */
+    public void addArcher(Monster archer) {
+        if (footprints.containsKey(archer)) {
+            return;
+        }
+        int cell = cellOf(archer);
+        if (cell < 0) {
+            return;
+        }
+        int[] cells = visibleZone(cell);
+        apply(cells, 1);
+        footprints.put(archer, new Footprint(cell, cells));
+    }
+
+    /**
+     * Removes an archer's zone from the map. Does nothing for monsters that are not tracked.
+     * @param monster the monster being removed
+     */
+    public void removeArcher(Monster monster) {
+        Footprint fp = footprints.remove(monster);
+        if (fp != null) {
+            apply(fp.cells, -1);
+        }
+    }
+
+    /**
+     * Re-applies an archer's zone if it has moved to another cell since it was last recorded.
+     * @param archer the archer to check
+     */
+    public void archerMoved(Monster archer) {
+        Footprint fp = footprints.get(archer);
+        if (fp == null) {
+            addArcher(archer);
+            return;
+        }
+        int cell = cellOf(archer);
+        if (cell == fp.cell) {
+            return;
+        }
+        apply(fp.cells, -1);
+        if (cell < 0) {
+            footprints.remove(archer);
+            return;
+        }
+        fp.cell = cell;
+        fp.cells = visibleZone(cell);
+        apply(fp.cells, 1);
+    }
+
+    /**
+     * Forgets every tracked archer and clears all coverage.
+     */
+    public void clear() {
+        footprints.clear();
+        Arrays.fill(coverage, 0);
+        changed = true;
+    }
+
+    /**
+     * Returns how many archers cover the given cell.
+     * @param row the row index
+     * @param col the column index
+     * @return the number of archers whose zone includes this cell
+     */
+    public int getCoverage(int row, int col) {
+        return coverage[row * cols + col];
+    }
+
+    /**
+     * Checks whether any archer covers the given cell.
+     * @param row the row index
+     * @param col the column index
+     * @return true if at least one archer covers the cell
+     */
+    public boolean isCovered(int row, int col) {
+        return coverage[row * cols + col] > 0;
+    }
+
+    /**
+     * Reports whether coverage changed since the last call, and resets the flag.
+     * @return true if any cell's covered state may have changed
+     */
+    public boolean consumeChanges() {
+        boolean c = changed;
+        changed = false;
+        return c;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Adds delta to the coverage count of each given cell, flagging a change when a cell flips between covered and not.
+     * @param cells the cell indices to update
+     * @param delta +1 when adding a zone, -1 when removing it
+     */
+    private void apply(int[] cells, int delta) {
+        for (int idx : cells) {
+            int before = coverage[idx];
+            coverage[idx] = before + delta;
+            if ((before == 0) != (coverage[idx] == 0)) {
+                changed = true;
+            }
+        }
+    }
+
+    /**
+     * Lists the cells an archer standing on the given cell can see and shoot into.
+     * @param start the cell index of the archer
+     * @return the visible cell indices, excluding cells that block sight
+     */
+    private int[] visibleZone(int start) {
+        BitSet visible = visibility.getVisibleCells(start / cols, start % cols, ArcherMonster.SIGHT_RADIUS);
+        int[] cells = new int[visible.cardinality()];
+        int k = 0;
+        for (int idx = visible.nextSetBit(0); idx >= 0; idx = visible.nextSetBit(idx + 1)) {
+            if (!visibility.isOpaque(idx / cols, idx % cols)) {
+                cells[k++] = idx;
+            }
+        }
+        return Arrays.copyOf(cells, k);
+    }
+
+    /**
+     * Converts a monster's pixel position into a cell index.
+     * @param m the monster
+     * @return the cell index, or -1 if outside the grid
+     */
+    private int cellOf(Monster m) {
+        int r = m.getY() / CELL_SIZE;
+        int c = m.getX() / CELL_SIZE;
+        if (r < 0 || r >= rows || c < 0 || c >= cols) return -1;
+        return r * cols + c;
+    }
+}
@@ -0,0 +1,116 @@
+package Domain;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A path a monster keeps between ticks while it chases a target that rarely moves.
+ * The path is only planned from scratch when the target changes or the monster has left the path. When a cell a few
+ * steps ahead becomes blocked, only the stretch around it is searched again and spliced into the stored path.
+ * Points are (row, col), as in {@link PathFinder}.
+ */
+public class CachedPath {
+    private static final int LOOKAHEAD = 8;          // cells ahead that are checked for new obstacles every tick
+    private static final int LONG_RANGE_CELLS = 2 * HierarchicalPathFinder.DEFAULT_CLUSTER_SIZE;
+
+    private List<Point> path;
+    private int index;          // position of the monster on the path
+    private Point target;
+
+    /**
+     * Returns the next cell to step to on the way to the target, replanning or repairing the stored path as needed.
+     * @param current the monster's cell
+     * @param goal the target cell
+     * @param walkable the walkability grid for this tick
+     * @param navigation the hierarchical pathfinder used for long routes, or null
+     * @return the neighbouring cell to move to, or null if the target cannot be reached
+     */
+    public Point next(Point current, Point goal, boolean[][] walkable, HierarchicalPathFinder navigation) {
+        if (path == null || !goal.equals(target) || !follow(current)) {
+            if (!replan(current, goal, walkable, navigation)) {
+                return null;
+            }
+        } else if (!repairAhead(walkable)) {
+            if (!replan(current, goal, walkable, navigation)) {
+                return null;
+            }
+        }
+        return index + 1 < path.size() ? path.get(index + 1) : null;
+    }
+
+    /**
+     * Forgets the stored path, e.g. when the target disappears.
+     */
+    public void clear() {
+        path = null;
+        target = null;
+    }
+
+    /**
+     * Moves the index to the monster's cell if it is where the path expects it: still on the same cell
+     * (its step was refused) or one step further.
+     * @return false if the monster is somewhere else and the path no longer applies
+     */
+    private boolean follow(Point current) {
+        if (path.get(index).equals(current)) {
+            return true;
+        }
+        if (index + 1 < path.size() && path.get(index + 1).equals(current)) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks the next few cells for obstacles and routes around the first blocked stretch.
+     * @return false if the path could not be repaired locally
+     */
+    private boolean repairAhead(boolean[][] walkable) {
+        int end = Math.min(path.size() - 1, index + LOOKAHEAD);
+        for (int i = index + 1; i <= end; i++) {
+            if (isOpen(walkable, path.get(i))) {
+                continue;
+            }
+            // Rejoin the path at the first open cell after the blocked stretch
+            int rejoin = i + 1;
+            while (rejoin < path.size() && !isOpen(walkable, path.get(rejoin))) {
+                rejoin++;
+            }
+            if (rejoin >= path.size()) {
+                return false;
+            }
+            List<Point> detour = PathFinder.findPath(path.get(index), path.get(rejoin), walkable,
+                    PathFinder.Algorithm.JUMP_POINT);
+            if (detour == null) {
+                return false;
+            }
+            List<Point> repaired = new ArrayList<>(path.subList(0, index));
+            repaired.addAll(detour);
+            repaired.addAll(path.subList(rejoin + 1, path.size()));
+            path = repaired;
+            return true;
+        }
+        return true;
+    }
+
+    /**
+     * Plans a new path from scratch.
+     * @return false if the goal cannot be reached
+     */
+    private boolean replan(Point current, Point goal, boolean[][] walkable, HierarchicalPathFinder navigation) {
+        int distance = Math.abs(current.x - goal.x) + Math.abs(current.y - goal.y);
+        List<Point> fresh = distance > LONG_RANGE_CELLS && navigation != null
+                ? navigation.findPath(current, goal)
+                : PathFinder.findPath(current, goal, walkable, PathFinder.Algorithm.JUMP_POINT);
+        target = new Point(goal);
+        index = 0;
+        path = fresh;
+        return fresh != null && fresh.size() > 1;
+    }
+
+    private static boolean isOpen(boolean[][] walkable, Point p) {
+        return p.x >= 0 && p.x < walkable.length && p.y >= 0 && p.y < walkable[0].length && walkable[p.x][p.y];
+    }
+}
@@ -1,14 +1,15 @@
 package Domain;
 
 import UI.GamePanel;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * A WizardMonster behavior that continuously teleports the rune while the time ratio is above 70%.
  */
 public class ChallengeHeroBehavior implements WizardBehavior {
-    private Timer runeTeleportTimer;
+    /** Milliseconds of game time between rune teleports. */
+    public static final long RUNE_TELEPORT_MS = 3000;
+
+    private GameScheduler.ScheduledTask runeTeleportTask;
     private boolean started = false;
 
     /**
@@ -19,13 +20,12 @@ public class ChallengeHeroBehavior implements WizardBehavior {
      */
     @Override
     public void performAction(WizardMonster wizard, Hero hero, GamePanel gamePanel) {
-        if (runeTeleportTimer != null) {
-            runeTeleportTimer.cancel();
-            runeTeleportTimer = null;
-        }
-
         double ratio = gamePanel.getTimeRatio();
-        if (ratio <= 0.7) {
+        if (ratio <= WizardMonster.CHALLENGE_RATIO) {
+            if (runeTeleportTask != null) {
+                runeTeleportTask.cancel();
+                runeTeleportTask = null;
+            }
             started = false;
             return;
         }
@@ -33,21 +33,22 @@ public class ChallengeHeroBehavior implements WizardBehavior {
         if (started) return;
         started = true;
 
-        runeTeleportTimer = new Timer(true);
-        runeTeleportTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                double currentRatio = gamePanel.getTimeRatio();
-                if (currentRatio <= 0.7) {
-                    runeTeleportTimer.cancel();
-                    gamePanel.removeMonster(wizard);
-                    started = false;
-                    System.out.println("No more challenging. Time ratio is now " + currentRatio);
-                } else {
-                    gamePanel.teleportRuneRandomly();
-                    System.out.println("Wizard teleports the rune for a challenge!");
-                }
+        runeTeleportTask = gamePanel.getScheduler().scheduleRepeating(0, RUNE_TELEPORT_MS, () -> {
+            if (wizard.isPendingRemoval()) {
+                runeTeleportTask.cancel();
+                started = false;
+                return;
+            }
+            double currentRatio = gamePanel.getTimeRatio();
+            if (currentRatio <= WizardMonster.CHALLENGE_RATIO) {
+                runeTeleportTask.cancel();
+                gamePanel.removeMonster(wizard);
+                started = false;
+                System.out.println("No more challenging. Time ratio is now " + currentRatio);
+            } else {
+                gamePanel.teleportRuneRandomly();
+                System.out.println("Wizard teleports the rune for a challenge!");
             }
-        }, 0, 3000);
+        });
     }
 }
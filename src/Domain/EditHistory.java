@@ -0,0 +1,171 @@
+package Domain;
+
+/**
+ * An undo/redo log of cell edits for build mode.
+ * Each edit is packed into one long (cell index, old object type, new object type and a group-start flag) and kept in
+ * a fixed-size ring buffer, so memory stays the same however many edits are made; once the buffer is full the oldest
+ * whole group is dropped. Edits made between {@link #beginGroup()} and {@link #endGroup()} are undone and redone
+ * together, e.g. every cell of a drag-paint or a cleared region.
+ */
+public class EditHistory {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final long GROUP_START = 1L << 63;
+    private static final int TYPE_BITS = 12;
+    private static final long TYPE_MASK = (1L << TYPE_BITS) - 1;
+
+    /**
+     * Receives the edits replayed by undo and redo.
+     */
+    public interface Applier {
+        /**
+         * Sets a cell to an object type.
+         * @param cell the cell index, row * cols + col
+         * @param type the object type index, or -1 for an empty cell
+         */
+        void apply(int cell, int type);
+    }
+
+    private final long[] records;
+    private int oldest = 0;     // physical index of the oldest record
+    private int cursor = 0;     // number of records that can be undone
+    private int length = 0;     // number of records stored, including those that can be redone
+    private int groupDepth = 0;
+    private boolean groupStarted = false;
+
+    /**
+     * Creates a history with the default capacity.
+     */
+    public EditHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a history that keeps at most the given number of edits.
+     * @param capacity the maximum number of stored edits
+     */
+    public EditHistory(int capacity) {
+        records = new long[capacity];
+    }
+
+    /**
+     * Starts a group of edits that will be undone as one. Groups may be nested; only the outermost one counts.
+     */
+    public void beginGroup() {
+        if (groupDepth++ == 0) {
+            groupStarted = false;
+        }
+    }
+
+    /**
+     * Ends the group started by the matching {@link #beginGroup()}.
+     */
+    public void endGroup() {
+        if (groupDepth > 0) {
+            groupDepth--;
+        }
+    }
+
+    /**
+     * Records one edit. Anything that could have been redone is discarded.
+     * @param cell the cell index, row * cols + col
+     * @param oldType the object type before the edit, or -1 for empty
+     * @param newType the object type after the edit, or -1 for empty
+     */
+    public void record(int cell, int oldType, int newType) {
+        boolean start = groupDepth == 0 || !groupStarted;
+        groupStarted = groupDepth > 0;
+
+        length = cursor;
+        if (length == records.length) {
+            dropOldestGroup();
+        }
+        long packed = ((long) cell << (2 * TYPE_BITS))
+                | ((oldType + 1L) & TYPE_MASK) << TYPE_BITS
+                | ((newType + 1L) & TYPE_MASK);
+        records[physical(length)] = start ? packed | GROUP_START : packed;
+        length++;
+        cursor = length;
+    }
+
+    /**
+     * Undoes the most recent group of edits, newest first.
+     * @param applier receives each cell and the type it goes back to
+     * @return the number of edits undone
+     */
+    public int undo(Applier applier) {
+        int undone = 0;
+        while (cursor > 0) {
+            long record = records[physical(--cursor)];
+            applier.apply(cellOf(record), oldTypeOf(record));
+            undone++;
+            if ((record & GROUP_START) != 0) {
+                break;
+            }
+        }
+        return undone;
+    }
+
+    /**
+     * Redoes the next undone group of edits, oldest first.
+     * @param applier receives each cell and the type it is set to again
+     * @return the number of edits redone
+     */
+    public int redo(Applier applier) {
+        int redone = 0;
+        while (cursor < length) {
+            long record = records[physical(cursor)];
+            if (redone > 0 && (record & GROUP_START) != 0) {
+                break;
+            }
+            applier.apply(cellOf(record), newTypeOf(record));
+            cursor++;
+            redone++;
+        }
+        return redone;
+    }
+
+    public boolean canUndo() {
+        return cursor > 0;
+    }
+
+    public boolean canRedo() {
+        return cursor < length;
+    }
+
+    /**
+     * Forgets every edit.
+     */
+    public void clear() {
+        oldest = 0;
+        cursor = 0;
+        length = 0;
+    }
+
+    /**
+     * Frees space by forgetting the oldest group, so undo never stops halfway through a group.
+     */
+    private void dropOldestGroup() {
+        do {
+            oldest = (oldest + 1) % records.length;
+            length--;
+        } while (length > 0 && (records[oldest] & GROUP_START) == 0);
+        cursor = length;
+    }
+
+    private int physical(int logical) {
+        return (oldest + logical) % records.length;
+    }
+
+    private static int cellOf(long record) {
+        return (int) ((record & ~GROUP_START) >>> (2 * TYPE_BITS));
+    }
+
+    private static int oldTypeOf(long record) {
+        return (int) ((record >>> TYPE_BITS) & TYPE_MASK) - 1;
+    }
+
+    private static int newTypeOf(long record) {
+        return (int) (record & TYPE_MASK) - 1;
+    }
+}
@@ -1,12 +1,10 @@
 package Domain;
 
 import Utils.AssetPaths;
-import javax.imageio.ImageIO;
+import Utils.SpriteCache;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.io.Serializable;
-import java.net.URL;
 
 /**
  * Represents an in-game enchantment that can be collected by the hero or stored on the floor.
@@ -14,11 +12,14 @@ import java.net.URL;
 public class Enchantment implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    /** How long an uncollected enchantment stays on the floor, in milliseconds. */
+    public static final long LIFETIME_MS = 6000;
+
     private int x, y;
     private int width, height;
     private EnchantmentType type;
-    private transient BufferedImage image;
     private long spawnTime;
+    private long remainingLifetime = LIFETIME_MS; // game time left on the floor, as of the last save
 
     /**
      * Constructs a new Enchantment with its position, size, and type. Also records the spawn time.
@@ -48,7 +49,6 @@ public class Enchantment implements Serializable {
         this.height = height;
         this.type = type;
         this.spawnTime = spawnTime;
-        loadImage();
     }
 
     /**
@@ -62,40 +62,33 @@ public class Enchantment implements Serializable {
                 y,
                 width,
                 height,
-                spawnTime
+                spawnTime,
+                remainingLifetime
         );
     }
 
     /**
-     * Loads the appropriate image resource for this enchantment type.
+     * Returns the image resource path for this enchantment type.
+     * @return the asset path of the enchantment's sprite
      */
-    private void loadImage() {
-        String path;
+    private String imagePath() {
         switch (type) {
-            case REVEAL:       path = AssetPaths.REVEAL_ENCH;       break;
-            case CLOAK:        path = AssetPaths.CLOAK_ENCH;        break;
-            case LURINGGEM:    path = AssetPaths.LURING_ENCH;       break;
-            case EXTRATIME:    path = AssetPaths.EXTRATIME_ENCH;    break;
-            case EXTRALIFE:    path = AssetPaths.EXTRALIFE_ENCH;    break;
-            default:           path = AssetPaths.REVEAL_ENCH;       break;
-        }
-
-        try {
-            URL url = getClass().getResource(path);
-            if (url != null) {
-                image = ImageIO.read(url);
-            }
-        } catch (IOException e) {
-            image = null;
+            case REVEAL:       return AssetPaths.REVEAL_ENCH;
+            case CLOAK:        return AssetPaths.CLOAK_ENCH;
+            case LURINGGEM:    return AssetPaths.LURING_ENCH;
+            case EXTRATIME:    return AssetPaths.EXTRATIME_ENCH;
+            case EXTRALIFE:    return AssetPaths.EXTRALIFE_ENCH;
+            default:           return AssetPaths.REVEAL_ENCH;
         }
     }
 
     /**
-     * Checks if this enchantment has existed for more than 6 seconds.
+     * Checks if this enchantment has existed for more than 6 seconds of wall-clock time.
+     * During play, expiry is driven by the game's timed effects instead, which also respect pause.
      * @return true if expired, false otherwise
      */
     public boolean isExpired() {
-        return (System.currentTimeMillis() - spawnTime) > 6000;
+        return (System.currentTimeMillis() - spawnTime) > LIFETIME_MS;
     }
 
     /**
@@ -106,11 +99,28 @@ public class Enchantment implements Serializable {
         return spawnTime;
     }
 
+    /**
+     * Provides the game time this enchantment had left on the floor when it was last recorded for saving.
+     * @return the remaining lifetime in milliseconds
+     */
+    public long getRemainingLifetime() {
+        return remainingLifetime;
+    }
+
+    /**
+     * Records how much game time this enchantment has left on the floor, so a save can restore it.
+     * @param remainingLifetime the remaining lifetime in milliseconds
+     */
+    public void setRemainingLifetime(long remainingLifetime) {
+        this.remainingLifetime = remainingLifetime;
+    }
+
     /**
      * Draws the enchantment at its specified position and size.
      * @param g the Graphics context
      */
     public void draw(Graphics g) {
+        BufferedImage image = getImage();
         if (image != null) {
             g.drawImage(image, x, y, width, height, null);
         } else {
@@ -120,11 +130,11 @@ public class Enchantment implements Serializable {
     }
 
     /**
-     * Retrieves the image for this enchantment.
+     * Retrieves the image for this enchantment. All enchantments of one type share the same image.
      * @return the BufferedImage representing the enchantment
      */
     public BufferedImage getImage() {
-        return image;
+        return SpriteCache.getImage(imagePath());
     }
 
     /**
@@ -0,0 +1,127 @@
+package Domain;
+
+import java.util.Arrays;
+
+/**
+ * Dense component storage for the monsters of one hall.
+ * Position, facing, cooldown, sprite id and removal flag live in parallel primitive arrays indexed by slot;
+ * a {@link Monster} object is only a handle that knows its slot. Removing a monster moves the last one into
+ * the freed slot, so the arrays stay packed and systems can walk them linearly.
+ * The store is changed only on the event thread; planning threads may read it while it is not being changed.
+ */
+public class EntityStore {
+    int[] posX = new int[16];
+    int[] posY = new int[16];
+    boolean[] facingLeft = new boolean[16];
+    boolean[] pendingRemoval = new boolean[16];
+    long[] cooldown = new long[16];
+    int[] spriteId = new int[16];
+    private Monster[] handles = new Monster[16];
+    private int count = 0;
+
+    /**
+     * Moves a monster's components into the store. Does nothing if it is already stored here.
+     * @param m the monster to add
+     */
+    public void add(Monster m) {
+        if (m.store == this) {
+            return;
+        }
+        if (m.store != null) {
+            m.store.remove(m);
+        }
+        if (count == handles.length) {
+            grow(count * 2);
+        }
+        int i = count++;
+        posX[i] = m.getX();
+        posY[i] = m.getY();
+        facingLeft[i] = m.isFacingLeft();
+        pendingRemoval[i] = m.isPendingRemoval();
+        cooldown[i] = m.getCooldown();
+        spriteId[i] = m.getSpriteId();
+        handles[i] = m;
+        m.attach(this, i);
+    }
+
+    /**
+     * Removes a monster from the store. The monster keeps its last component values and still works on its own.
+     * @param m the monster to remove
+     */
+    public void remove(Monster m) {
+        if (m.store != this) {
+            return;
+        }
+        int i = m.slot;
+        m.detach(posX[i], posY[i], facingLeft[i], pendingRemoval[i], cooldown[i], spriteId[i]);
+
+        int last = --count;
+        if (i != last) {
+            posX[i] = posX[last];
+            posY[i] = posY[last];
+            facingLeft[i] = facingLeft[last];
+            pendingRemoval[i] = pendingRemoval[last];
+            cooldown[i] = cooldown[last];
+            spriteId[i] = spriteId[last];
+            handles[i] = handles[last];
+            handles[i].slot = i;
+        }
+        handles[last] = null;
+    }
+
+    /**
+     * Removes every monster from the store.
+     */
+    public void clear() {
+        while (count > 0) {
+            remove(handles[count - 1]);
+        }
+    }
+
+    /**
+     * Checks whether any stored monster other than the given one stands at the given position.
+     * @param px the x-coordinate in pixels
+     * @param py the y-coordinate in pixels
+     * @param except a monster to ignore, or null
+     * @return true if the position is taken
+     */
+    public boolean isOccupied(int px, int py, Monster except) {
+        int skip = except != null && except.store == this ? except.slot : -1;
+        for (int i = 0; i < count; i++) {
+            if (i != skip && posX[i] == px && posY[i] == py) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of stored monsters.
+     * @return the monster count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the monster in the given slot.
+     * @param slot a slot between 0 and size() - 1
+     * @return the monster handle
+     */
+    public Monster get(int slot) {
+        return handles[slot];
+    }
+
+    /**
+     * Grows every component array to the given capacity.
+     */
+    private void grow(int capacity) {
+        posX = Arrays.copyOf(posX, capacity);
+        posY = Arrays.copyOf(posY, capacity);
+        facingLeft = Arrays.copyOf(facingLeft, capacity);
+        pendingRemoval = Arrays.copyOf(pendingRemoval, capacity);
+        cooldown = Arrays.copyOf(cooldown, capacity);
+        spriteId = Arrays.copyOf(spriteId, capacity);
+        handles = Arrays.copyOf(handles, capacity);
+    }
+}
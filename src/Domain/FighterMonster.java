@@ -7,7 +7,6 @@ import Utils.SoundPlayer;
 
 import java.awt.*;
 import java.io.Serializable;
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -19,6 +18,7 @@ public class FighterMonster extends Monster implements Serializable {
     private transient GamePanel gamePanel;
     private static final int GRID_ROWS = 13;
     private static final int GRID_COLS = 13;
+    private transient CachedPath lurePath; // kept between ticks while the same lure is active
 
     /**
      * Constructs a FighterMonster at the specified position, referencing the hero and game panel.
@@ -35,61 +35,53 @@ public class FighterMonster extends Monster implements Serializable {
     }
 
     /**
-     * Updates the FighterMonster's position and actions (checks adjacency, lure presence, random movement).
+     * Plans the FighterMonster's turn: attack if adjacent, otherwise step towards an active lure or randomly.
+     * @param world the world as it was at the start of the tick
+     * @return the chosen intent
      */
     @Override
-    public void update() {
-        updateFacingDirection();
-
-        if (adjacentToHero()) {
-            hero.setHealth(hero.getHealth() - 1);
-            SoundPlayer.playSound("/resources/sounds/hurt.wav");
-            System.out.println("Hero hit by FighterMonster! Health: " + hero.getHealth());
-            if (hero.getHealth() <= 0) {
-                System.out.println("Game Over");
-            }
-            return;
+    public MonsterIntent planTurn(WorldSnapshot world) {
+        updateFacingDirection(world.getHeroX());
+        int x = getX();
+        int y = getY();
+
+        if (adjacentToHero(world)) {
+            return MonsterIntent.attack();
         }
 
-        if (gamePanel.isLureActive()) {
-            Point lurePos = gamePanel.getLurePosition();
-            if (lurePos != null) {
-                System.out.println("Fighter Monster detecting lure at: " + lurePos.x / CELL_SIZE + "," + lurePos.y / CELL_SIZE);
+        if (world.isLureActive()) {
+            Point lurePos = world.getLurePosition();
+            System.out.println("Fighter Monster detecting lure at: " + lurePos.x / CELL_SIZE + "," + lurePos.y / CELL_SIZE);
 
-                Point currentGrid = new Point(y / CELL_SIZE, x / CELL_SIZE);
-                Point lureGrid = new Point(lurePos.y / CELL_SIZE, lurePos.x / CELL_SIZE);
+            Point currentGrid = new Point(y / CELL_SIZE, x / CELL_SIZE);
+            Point lureGrid = new Point(lurePos.y / CELL_SIZE, lurePos.x / CELL_SIZE);
 
-                System.out.println("Fighter at: " + currentGrid.x + "," + currentGrid.y);
-                System.out.println("Moving towards lure at: " + lureGrid.x + "," + lureGrid.y);
+            System.out.println("Fighter at: " + currentGrid.x + "," + currentGrid.y);
+            System.out.println("Moving towards lure at: " + lureGrid.x + "," + lureGrid.y);
 
-                boolean[][] walkable = new boolean[GRID_ROWS][GRID_COLS];
-                for (int r = 0; r < GRID_ROWS; r++) {
-                    for (int c = 0; c < GRID_COLS; c++) {
-                        walkable[r][c] = gamePanel.canMonsterMove(this, c * CELL_SIZE, r * CELL_SIZE);
-                    }
+            try {
+                if (lurePath == null) {
+                    lurePath = new CachedPath();
                 }
+                Point nextPoint = lurePath.next(currentGrid, lureGrid, world.getLureWalkable(), world.getNavigation());
 
-                try {
-                    List<Point> path = PathFinder.findPath(currentGrid, lureGrid, walkable);
+                if (nextPoint != null) {
+                    int nextX = nextPoint.y * CELL_SIZE;
+                    int nextY = nextPoint.x * CELL_SIZE;
 
-                    if (path != null && path.size() > 1) {
-                        Point nextPoint = path.get(1);
-                        int nextX = nextPoint.y * CELL_SIZE;
-                        int nextY = nextPoint.x * CELL_SIZE;
+                    System.out.println("Moving to next point: " + nextX / CELL_SIZE + "," + nextY / CELL_SIZE);
 
-                        System.out.println("Moving to next point: " + nextX / CELL_SIZE + "," + nextY / CELL_SIZE);
-
-                        if (gamePanel.canMonsterMove(this, nextX, nextY)) {
-                            setPosition(nextX, nextY);
-                            return;
-                        }
-                    } else {
-                        System.out.println("No path found to lure");
+                    if (world.canMonsterMove(this, nextX, nextY)) {
+                        return MonsterIntent.moveTo(nextX, nextY);
                     }
-                } catch (Exception e) {
-                    System.out.println("Error in pathfinding: " + e.getMessage());
+                } else {
+                    System.out.println("No path found to lure");
                 }
+            } catch (Exception e) {
+                System.out.println("Error in pathfinding: " + e.getMessage());
             }
+        } else if (lurePath != null) {
+            lurePath.clear();
         }
 
         int direction = random.nextInt(4);
@@ -99,20 +91,81 @@ public class FighterMonster extends Monster implements Serializable {
         if (direction == 2) nx -= CELL_SIZE;
         if (direction == 3) nx += CELL_SIZE;
 
-        if (gamePanel.canMonsterMove(this, nx, ny)) {
-            setPosition(nx, ny);
+        if (world.canMonsterMove(this, nx, ny)) {
+            return MonsterIntent.moveTo(nx, ny);
+        }
+        return MonsterIntent.idle();
+    }
+
+    /**
+     * Plans a cheap turn for a fighter far from the hero: step greedily towards an active lure instead of
+     * pathfinding to it, otherwise wander randomly.
+     * @param world the world as it was at the start of the tick
+     * @return the chosen intent
+     */
+    @Override
+    public MonsterIntent planCheapTurn(WorldSnapshot world) {
+        updateFacingDirection(world.getHeroX());
+        int x = getX();
+        int y = getY();
+
+        if (world.isLureActive()) {
+            Point lurePos = world.getLurePosition();
+            int dx = Integer.signum(lurePos.x / CELL_SIZE - x / CELL_SIZE) * CELL_SIZE;
+            int dy = Integer.signum(lurePos.y / CELL_SIZE - y / CELL_SIZE) * CELL_SIZE;
+            // Try the longer axis first, then the other one
+            boolean horizontalFirst = Math.abs(lurePos.x - x) >= Math.abs(lurePos.y - y);
+            if (horizontalFirst && dx != 0 && world.canMonsterMove(this, x + dx, y)) {
+                return MonsterIntent.moveTo(x + dx, y);
+            }
+            if (dy != 0 && world.canMonsterMove(this, x, y + dy)) {
+                return MonsterIntent.moveTo(x, y + dy);
+            }
+            if (!horizontalFirst && dx != 0 && world.canMonsterMove(this, x + dx, y)) {
+                return MonsterIntent.moveTo(x + dx, y);
+            }
+        }
+
+        int direction = random.nextInt(4);
+        int nx = x, ny = y;
+        if (direction == 0) ny -= CELL_SIZE;
+        if (direction == 1) ny += CELL_SIZE;
+        if (direction == 2) nx -= CELL_SIZE;
+        if (direction == 3) nx += CELL_SIZE;
+
+        if (world.canMonsterMove(this, nx, ny)) {
+            return MonsterIntent.moveTo(nx, ny);
+        }
+        return MonsterIntent.idle();
+    }
+
+    /**
+     * Hits the hero when the planned intent was an attack.
+     * @param intent the intent returned by planTurn
+     */
+    @Override
+    public void applyTurn(MonsterIntent intent) {
+        if (intent.getKind() != MonsterIntent.Kind.ATTACK) {
+            return;
+        }
+        hero.setHealth(hero.getHealth() - 1);
+        SoundPlayer.playSound("/resources/sounds/hurt.wav");
+        System.out.println("Hero hit by FighterMonster! Health: " + hero.getHealth());
+        if (hero.getHealth() <= 0) {
+            System.out.println("Game Over");
         }
     }
 
     /**
      * Checks if the hero is adjacent to the monster (horizontally or vertically).
+     * @param world the snapshot holding the hero's position
      * @return true if adjacent, false otherwise
      */
-    private boolean adjacentToHero() {
-        int mr = y / CELL_SIZE;
-        int mc = x / CELL_SIZE;
-        int hr = hero.getY() / CELL_SIZE;
-        int hc = hero.getX() / CELL_SIZE;
+    private boolean adjacentToHero(WorldSnapshot world) {
+        int mr = getY() / CELL_SIZE;
+        int mc = getX() / CELL_SIZE;
+        int hr = world.getHeroRow();
+        int hc = world.getHeroCol();
         return (mr == hr && Math.abs(mc - hc) == 1) || (mc == hc && Math.abs(mr - hr) == 1);
     }
 }
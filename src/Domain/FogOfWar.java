@@ -0,0 +1,140 @@
+package Domain;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+
+/**
+ * Tracks which cells of a hall the hero can see right now and which ones they have seen before.
+ * Both states are bitsets indexed by row * cols + col. The hero's field of view is only recast when the hero
+ * enters a new cell or the layout changes, and only the cells whose state changed are written to the mask image,
+ * so the per-frame cost does not grow with the size of the hall.
+ */
+public class FogOfWar {
+    public static final int SIGHT_RADIUS = 4;
+
+    private static final int UNEXPLORED_ARGB = 0xFF000000;
+    private static final int EXPLORED_ARGB = 0xB4000000;
+    private static final int VISIBLE_ARGB = 0x00000000;
+
+    private final Visibility visibility;
+    private final int rows, cols;
+    private final BitSet explored;
+    private final BitSet visible;
+    private final BufferedImage mask;   // one pixel per cell, scaled up when drawn
+    private int[] visibleCells = new int[0];
+    private int visibleCount = 0;
+    private int lastRow = -1, lastCol = -1;
+    private int lastLayoutVersion = -1;
+
+    /**
+     * Constructs the fog for a hall. Every cell starts unexplored.
+     * @param visibility the hall's line-of-sight engine
+     */
+    public FogOfWar(Visibility visibility) {
+        this.visibility = visibility;
+        this.rows = visibility.getRows();
+        this.cols = visibility.getCols();
+        this.explored = new BitSet(rows * cols);
+        this.visible = new BitSet(rows * cols);
+        this.mask = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = mask.createGraphics();
+        g.setColor(new Color(UNEXPLORED_ARGB, true));
+        g.fillRect(0, 0, cols, rows);
+        g.dispose();
+    }
+
+    /**
+     * Brings the fog up to date with the hero's cell. Does nothing if neither the cell nor the layout changed.
+     * @param heroRow the hero's row
+     * @param heroCol the hero's column
+     */
+    public void update(int heroRow, int heroCol) {
+        int layoutVersion = visibility.getLayoutVersion();
+        if (heroRow == lastRow && heroCol == lastCol && layoutVersion == lastLayoutVersion) {
+            return;
+        }
+        lastRow = heroRow;
+        lastCol = heroCol;
+        lastLayoutVersion = layoutVersion;
+
+        // Forget the previous view; those cells stay explored
+        int[] previous = visibleCells;
+        int previousCount = visibleCount;
+        for (int i = 0; i < previousCount; i++) {
+            visible.clear(previous[i]);
+        }
+
+        visibility.castInto(heroRow, heroCol, SIGHT_RADIUS, visible);
+
+        // Collect the new view from the bounding box of the sight radius
+        int side = 2 * SIGHT_RADIUS + 1;
+        int[] current = new int[side * side];
+        int count = 0;
+        for (int r = Math.max(0, heroRow - SIGHT_RADIUS); r <= Math.min(rows - 1, heroRow + SIGHT_RADIUS); r++) {
+            for (int c = Math.max(0, heroCol - SIGHT_RADIUS); c <= Math.min(cols - 1, heroCol + SIGHT_RADIUS); c++) {
+                int idx = r * cols + c;
+                if (visible.get(idx)) {
+                    current[count++] = idx;
+                    explored.set(idx);
+                }
+            }
+        }
+        visibleCells = current;
+        visibleCount = count;
+
+        for (int i = 0; i < previousCount; i++) {
+            paintCell(previous[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            paintCell(current[i]);
+        }
+    }
+
+    /**
+     * Checks whether the hero can currently see a cell.
+     * @param row the row index
+     * @param col the column index
+     * @return true if the cell is in the hero's field of view
+     */
+    public boolean isVisible(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && visible.get(row * cols + col);
+    }
+
+    /**
+     * Checks whether the hero has ever seen a cell.
+     * @param row the row index
+     * @param col the column index
+     * @return true if the cell has been explored
+     */
+    public boolean isExplored(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && explored.get(row * cols + col);
+    }
+
+    /**
+     * Draws the fog over the hall: unexplored cells black, explored cells dimmed, visible cells clear.
+     * @param g the graphics context
+     * @param cellSize the size of a cell in pixels
+     */
+    public void draw(Graphics g, int cellSize) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2d.drawImage(mask, 0, 0, cols * cellSize, rows * cellSize, null);
+        g2d.dispose();
+    }
+
+    /**
+     * Writes the current state of one cell into the mask image.
+     */
+    private void paintCell(int idx) {
+        int argb;
+        if (visible.get(idx)) {
+            argb = VISIBLE_ARGB;
+        } else if (explored.get(idx)) {
+            argb = EXPLORED_ARGB;
+        } else {
+            argb = UNEXPLORED_ARGB;
+        }
+        mask.setRGB(idx % cols, idx / cols, argb);
+    }
+}
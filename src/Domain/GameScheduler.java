@@ -0,0 +1,262 @@
+package Domain;
+
+/**
+ * Runs delayed and repeating tasks on game time rather than wall-clock time.
+ * Time only moves when {@link #advance(long)} is called, so tasks stop while the game is paused and never need
+ * their own threads. Tasks are kept in a hierarchical timing wheel: four levels of 64 slots, where each level
+ * covers 64 times the span of the one below, so scheduling, cancelling and firing are all constant time.
+ * The scheduler is not thread-safe and is meant to be used from the Swing event thread only.
+ */
+public class GameScheduler {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final ScheduledTask[][] wheels = new ScheduledTask[LEVELS][WHEEL_SIZE];
+    private long currentTick = 0;
+    private long pendingMillis = 0;
+    private int pendingCount = 0;
+    private int generation = 0; // bumped by cancelAll() so tasks already taken out of the wheel are dropped too
+
+    /**
+     * A handle to a scheduled task, used to cancel it.
+     */
+    public static final class ScheduledTask {
+        private final Runnable action;
+        private final long periodTicks;
+        private long deadline;
+        private boolean cancelled = false;
+
+        // Position in the wheel while the task is waiting; level < 0 when not linked
+        private int level = -1;
+        private int slot;
+        private ScheduledTask prev, next;
+        private GameScheduler owner;
+
+        private ScheduledTask(Runnable action, long deadline, long periodTicks) {
+            this.action = action;
+            this.deadline = deadline;
+            this.periodTicks = periodTicks;
+        }
+
+        /**
+         * Cancels the task. A cancelled task never runs again; cancelling twice has no effect.
+         */
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            if (level >= 0) {
+                owner.unlink(this);
+            }
+        }
+
+        /**
+         * Checks whether the task has been cancelled.
+         * @return true if cancel() was called or the scheduler was cleared
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Constructs a scheduler with the given resolution.
+     * @param tickMillis the length of one wheel tick in milliseconds; delays are rounded up to whole ticks
+     */
+    public GameScheduler(long tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * Schedules an action to run once after the given game-time delay.
+     * @param delayMillis the delay in milliseconds
+     * @param action the action to run
+     * @return a handle that can cancel the task
+     */
+    public ScheduledTask schedule(long delayMillis, Runnable action) {
+        ScheduledTask task = new ScheduledTask(action, currentTick + toTicks(delayMillis), 0);
+        task.owner = this;
+        insert(task);
+        return task;
+    }
+
+    /**
+     * Schedules an action to run after an initial delay and then repeatedly with a fixed period, until cancelled.
+     * @param initialDelayMillis the delay before the first run in milliseconds
+     * @param periodMillis the time between runs in milliseconds
+     * @param action the action to run
+     * @return a handle that can cancel the task
+     */
+    public ScheduledTask scheduleRepeating(long initialDelayMillis, long periodMillis, Runnable action) {
+        ScheduledTask task = new ScheduledTask(action, currentTick + toTicks(initialDelayMillis),
+                toTicks(periodMillis));
+        task.owner = this;
+        insert(task);
+        return task;
+    }
+
+    /**
+     * Moves game time forward, running every task that comes due in order of its tick.
+     * @param elapsedMillis the game time that passed in milliseconds
+     */
+    public void advance(long elapsedMillis) {
+        pendingMillis += elapsedMillis;
+        while (pendingMillis >= tickMillis) {
+            pendingMillis -= tickMillis;
+            tick();
+        }
+    }
+
+    /**
+     * Cancels every waiting task, e.g. when the hall is left or the hero dies.
+     */
+    public void cancelAll() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                ScheduledTask task = wheels[level][slot];
+                wheels[level][slot] = null;
+                while (task != null) {
+                    ScheduledTask next = task.next;
+                    task.cancelled = true;
+                    task.level = -1;
+                    task.prev = task.next = null;
+                    task = next;
+                }
+            }
+        }
+        pendingCount = 0;
+        generation++;
+    }
+
+    /**
+     * Returns the game time that has passed since the scheduler was created.
+     * @return the elapsed game time in milliseconds
+     */
+    public long getTimeMillis() {
+        return currentTick * tickMillis + pendingMillis;
+    }
+
+    /**
+     * Returns the number of tasks waiting to run.
+     * @return the pending task count
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Advances one tick: cascades higher levels whose slot starts now, then runs the tasks in the current slot.
+     */
+    private void tick() {
+        currentTick++;
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                cascade(level, (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+            }
+        }
+
+        int slot = (int) (currentTick & WHEEL_MASK);
+        int startGeneration = generation;
+        ScheduledTask task = detach(0, slot);
+        while (task != null) {
+            ScheduledTask next = task.next;
+            task.prev = task.next = null;
+            if (generation != startGeneration) {
+                task.cancelled = true;
+            } else if (!task.cancelled) {
+                if (task.deadline > currentTick) {
+                    insert(task);
+                } else {
+                    task.action.run();
+                    if (generation != startGeneration) {
+                        task.cancelled = true;
+                    } else if (task.periodTicks > 0 && !task.cancelled) {
+                        task.deadline += task.periodTicks;
+                        insert(task);
+                    }
+                }
+            }
+            task = next;
+        }
+    }
+
+    /**
+     * Re-inserts every task of one higher-level slot, which moves each of them down to a finer level.
+     */
+    private void cascade(int level, int slot) {
+        ScheduledTask task = detach(level, slot);
+        while (task != null) {
+            ScheduledTask next = task.next;
+            task.prev = task.next = null;
+            if (!task.cancelled) {
+                insert(task);
+            }
+            task = next;
+        }
+    }
+
+    /**
+     * Removes a whole slot list from the wheel and returns its first task.
+     */
+    private ScheduledTask detach(int level, int slot) {
+        ScheduledTask head = wheels[level][slot];
+        wheels[level][slot] = null;
+        for (ScheduledTask t = head; t != null; t = t.next) {
+            t.level = -1;
+            pendingCount--;
+        }
+        return head;
+    }
+
+    /**
+     * Links a task into the slot of the lowest level whose span still reaches its deadline.
+     */
+    private void insert(ScheduledTask task) {
+        // A task cascaded down on its own deadline tick lands in the current slot, which runs right after cascading
+        long delta = Math.max(0, task.deadline - currentTick);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((task.deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+
+        ScheduledTask head = wheels[level][slot];
+        task.prev = null;
+        task.next = head;
+        if (head != null) {
+            head.prev = task;
+        }
+        wheels[level][slot] = task;
+        task.level = level;
+        task.slot = slot;
+        pendingCount++;
+    }
+
+    /**
+     * Removes a waiting task from its slot list.
+     */
+    private void unlink(ScheduledTask task) {
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            wheels[task.level][task.slot] = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.prev = task.next = null;
+        task.level = -1;
+        pendingCount--;
+    }
+
+    /**
+     * Converts a delay to whole ticks, rounding up so a task never runs early. The result is at least one tick,
+     * because the slot of the current tick has already run.
+     */
+    private long toTicks(long millis) {
+        if (millis <= 0) return 1;
+        return (millis + tickMillis - 1) / tickMillis;
+    }
+}
@@ -243,7 +243,8 @@ public class GameState implements Serializable {
     }
 
     /**
-     * A serializable representation of an Enchantment's essential data (type, position, size, spawn time).
+     * A serializable representation of an Enchantment's essential data (type, position, size, spawn time and the
+     * game time it has left on the floor).
      */
     public static class EnchantmentState implements Serializable {
         private static final long serialVersionUID = 1L;
@@ -251,6 +252,7 @@ public class GameState implements Serializable {
         private String type;
         private int x, y, width, height;
         private long spawnTime;
+        private long remainingLifetime; // 0 in saves made before it was recorded
 
         /**
          * Constructs an EnchantmentState with all necessary attributes.
@@ -260,14 +262,17 @@ public class GameState implements Serializable {
          * @param width the width
          * @param height the height
          * @param spawnTime the time when the enchantment was created
+         * @param remainingLifetime the game time the enchantment has left on the floor, in milliseconds
          */
-        public EnchantmentState(String type, int x, int y, int width, int height, long spawnTime) {
+        public EnchantmentState(String type, int x, int y, int width, int height, long spawnTime,
+                                long remainingLifetime) {
             this.type = type;
             this.x = x;
             this.y = y;
             this.width = width;
             this.height = height;
             this.spawnTime = spawnTime;
+            this.remainingLifetime = remainingLifetime;
         }
 
         public String getType() { return type; }
@@ -276,17 +281,27 @@ public class GameState implements Serializable {
         public int getWidth() { return width; }
         public int getHeight() { return height; }
         public long getSpawnTime() { return spawnTime; }
+        public long getRemainingLifetime() { return remainingLifetime; }
 
         /**
          * Converts this EnchantmentState back into a functional Enchantment instance.
          * @return a new Enchantment object
          */
         public Enchantment toEnchantment() {
-            return new Enchantment(
+            Enchantment enchantment = new Enchantment(
                     x, y, width, height,
                     EnchantmentType.valueOf(type),
                     spawnTime
             );
+            if (remainingLifetime > 0) {
+                enchantment.setRemainingLifetime(remainingLifetime);
+            } else {
+                // Older saves only have the spawn time, so fall back to the wall-clock age
+                long age = System.currentTimeMillis() - spawnTime;
+                enchantment.setRemainingLifetime(Math.max(0, Math.min(Enchantment.LIFETIME_MS,
+                        Enchantment.LIFETIME_MS - age)));
+            }
+            return enchantment;
         }
     }
 }
@@ -0,0 +1,175 @@
+package Domain;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Plays the way a focused player would: collects every enchantment it can, reveals the rune's region as soon as
+ * it has a reveal, cloaks when an archer is close, walks the shortest way to the nearest unsearched object and,
+ * once the rune is found, straight to the door. It does not use luring gems.
+ */
+public class GreedySearchBot extends ScriptedHeroBot {
+    private static final int CLOAK_DISTANCE = ArcherMonster.SIGHT_RADIUS + 1;
+    private static final int REVEAL_SIZE = 4;
+
+    private boolean sawReveal = false;
+    private boolean[] goals;
+
+    /**
+     * @param random the random source for the bot's choices
+     */
+    public GreedySearchBot(Random random) {
+        super(random);
+    }
+
+    @Override
+    public HeroAction nextAction(HeroView view) {
+        HeroAction action = collectEnchantment(view);
+        if (action == null) {
+            action = useEnchantment(view);
+        }
+        if (action == null) {
+            action = tactics(view);
+        }
+        if (action == null) {
+            action = view.isRuneFound() ? walkToExit(view) : searchForRune(view);
+        }
+        return action;
+    }
+
+    /**
+     * A hook for subclasses to react to monsters before the bot goes on searching.
+     * @param view the hall
+     * @return an action, or null to carry on as usual
+     */
+    protected HeroAction tactics(HeroView view) {
+        return null;
+    }
+
+    /**
+     * Picks up extra life and time whenever they appear and anything else while the inventory has room.
+     */
+    private HeroAction collectEnchantment(HeroView view) {
+        for (int i = 0; i < view.getFloorEnchantmentCount(); i++) {
+            EnchantmentType type = view.getFloorEnchantmentType(i);
+            boolean instant = type == EnchantmentType.EXTRALIFE || type == EnchantmentType.EXTRATIME;
+            if (instant || !view.isInventoryFull()) {
+                return HeroAction.collect(view.getFloorEnchantmentRow(i), view.getFloorEnchantmentCol(i));
+            }
+        }
+        return null;
+    }
+
+    private HeroAction useEnchantment(HeroView view) {
+        if (!view.isRuneFound() && !view.isRevealActive() && view.getInventoryCount(EnchantmentType.REVEAL) > 0) {
+            return HeroAction.use(EnchantmentType.REVEAL);
+        }
+        if (!view.isCloakActive() && view.getInventoryCount(EnchantmentType.CLOAK) > 0
+                && nearestMonster(view, HeroView.MonsterType.ARCHER) <= CLOAK_DISTANCE) {
+            return HeroAction.use(EnchantmentType.CLOAK);
+        }
+        return null;
+    }
+
+    private HeroAction searchForRune(HeroView view) {
+        boolean reveal = view.isRevealActive();
+        if (reveal && !sawReveal) {
+            // The rune may have moved into an object searched earlier; search the whole region again
+            forgetSearched(view, view.getRevealTopRow(), view.getRevealLeftCol(), REVEAL_SIZE, REVEAL_SIZE);
+        }
+        sawReveal = reveal;
+        forgetIfAllSearched(view);
+
+        HeroAction search = searchAdjacent(view);
+        if (search != null) {
+            return search;
+        }
+        int rows = view.getRows();
+        int cols = view.getCols();
+        if (goals == null || goals.length != rows * cols) {
+            goals = new boolean[rows * cols];
+        }
+        boolean any = markSearchCells(view, reveal);
+        if (!any && reveal) {
+            markSearchCells(view, false);
+        }
+        return stepTowards(view, goals);
+    }
+
+    /**
+     * Marks the cells from which an unsearched object can be searched.
+     * @param insideReveal whether to consider only objects inside the revealed region
+     * @return true if any cell was marked
+     */
+    private boolean markSearchCells(HeroView view, boolean insideReveal) {
+        int rows = view.getRows();
+        int cols = view.getCols();
+        Arrays.fill(goals, false);
+        boolean any = false;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (!view.hasObject(r, c) || isSearched(view, r, c)) continue;
+                if (insideReveal && !inReveal(view, r, c)) continue;
+                for (int nr = r - 1; nr <= r + 1; nr++) {
+                    for (int nc = c - 1; nc <= c + 1; nc++) {
+                        if (view.isWalkable(nr, nc)) {
+                            goals[nr * cols + nc] = true;
+                            any = true;
+                        }
+                    }
+                }
+            }
+        }
+        return any;
+    }
+
+    /**
+     * Walks the shortest way to the exit.
+     * @param view the hall
+     * @return a MOVE action, or IDLE if the way is shut
+     */
+    protected HeroAction walkToExit(HeroView view) {
+        if (view.getHeroRow() == view.getExitRow() && view.getHeroCol() == view.getExitCol()) {
+            // The door only opens on stepping onto the exit, so step off and back when the rune was found here
+            return randomStep(view);
+        }
+        int cols = view.getCols();
+        if (goals == null || goals.length != view.getRows() * cols) {
+            goals = new boolean[view.getRows() * cols];
+        }
+        Arrays.fill(goals, false);
+        goals[view.getExitRow() * cols + view.getExitCol()] = true;
+        return stepTowards(view, goals);
+    }
+
+    /**
+     * Steps towards the goals around monsters, or through them if there is no way around and hope they move.
+     */
+    private HeroAction stepTowards(HeroView view, boolean[] goals) {
+        int d = firstStepTowards(view, goals, true);
+        if (d < 0) {
+            d = firstStepTowards(view, goals, false);
+        }
+        return d < 0 ? HeroAction.idle() : HeroAction.move(DR[d], DC[d]);
+    }
+
+    private static boolean inReveal(HeroView view, int row, int col) {
+        return row >= view.getRevealTopRow() && row < view.getRevealTopRow() + REVEAL_SIZE
+                && col >= view.getRevealLeftCol() && col < view.getRevealLeftCol() + REVEAL_SIZE;
+    }
+
+    /**
+     * Finds how far the nearest monster of a type is from the hero.
+     * @return the Chebyshev distance in cells, or Integer.MAX_VALUE if there is none
+     */
+    protected static int nearestMonster(HeroView view, HeroView.MonsterType type) {
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < view.getMonsterCount(); i++) {
+            if (view.getMonsterType(i) != type) continue;
+            int d = Math.max(Math.abs(view.getMonsterRow(i) - view.getHeroRow()),
+                    Math.abs(view.getMonsterCol(i) - view.getHeroCol()));
+            best = Math.min(best, d);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,297 @@
+package Domain;
+
+import UI.BuildModePanel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Generates object placements for a hall instead of placing them by hand in build mode.
+ * Many random candidates are generated in parallel on the common fork/join pool and each one is scored;
+ * the best one is returned. The walls of a hall are fixed, so a layout is the choice of object and cell for
+ * every placed object.
+ * A candidate is only accepted if every object can be searched from a floor cell connected to the exit and no
+ * floor cell is cut off. Among those, layouts that spread the objects out and have few chokepoints
+ * (floor cells whose loss would split the hall) score higher.
+ */
+public class HallGenerator {
+    public static final int DEFAULT_CANDIDATES = 256;
+    private static final int CHUNK_SIZE = 16;
+    private static final int EXTRA_OBJECTS = 3;        // up to this many objects beyond the minimum
+    private static final double SPREAD_WEIGHT = 4.0;
+    private static final double CHOKEPOINT_WEIGHT = 1.0;
+
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private final BuildModePanel.CellType[][] grid;
+    private final boolean[] objectIsDouble;
+    private final int exitRow, exitCol;
+    private final int rows, cols;
+    private final List<Integer> interior = new ArrayList<>(); // floor cells connected to the exit, as row * cols + col
+
+    /**
+     * Creates a generator for a hall.
+     * @param grid the wall layout of the hall
+     * @param objectIsDouble for each object type the build panel offers, whether it is double height
+     * @param exitRow the row of the floor cell in front of the door, which is always kept free
+     * @param exitCol the column of that cell
+     */
+    public HallGenerator(BuildModePanel.CellType[][] grid, boolean[] objectIsDouble, int exitRow, int exitCol) {
+        this.grid = grid;
+        this.objectIsDouble = objectIsDouble.clone();
+        this.exitRow = exitRow;
+        this.exitCol = exitCol;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+
+        boolean[] empty = new boolean[rows * cols];
+        for (int cell : reachableFrom(empty)) {
+            if (cell != exitRow * cols + exitCol) {
+                interior.add(cell);
+            }
+        }
+    }
+
+    /**
+     * Generates candidates in parallel and returns the best one.
+     * @param minObjects the minimum number of objects, e.g. {@link Hall#getMinObjectCount()}
+     * @param candidates how many candidates to try
+     * @param seed the seed that makes the result repeatable
+     * @return the best layout, or null if no candidate was acceptable
+     */
+    public Layout generate(int minObjects, int candidates, long seed) {
+        return ForkJoinPool.commonPool().invoke(new CandidateTask(minObjects, seed, 0, candidates));
+    }
+
+    /**
+     * A generated layout: the object type placed on each cell.
+     */
+    public static final class Layout {
+        private final int[][] objectTypes;
+        private final double score;
+
+        Layout(int[][] objectTypes, double score) {
+            this.objectTypes = objectTypes;
+            this.score = score;
+        }
+
+        /**
+         * Returns the object type index (in the build panel's order) for each cell.
+         * @return a rows×cols array holding -1 for empty cells
+         */
+        public int[][] getObjectTypes() {
+            return objectTypes;
+        }
+
+        /**
+         * Returns how many objects the layout places.
+         * @return the object count
+         */
+        public int getObjectCount() {
+            int count = 0;
+            for (int[] row : objectTypes) {
+                for (int type : row) {
+                    if (type >= 0) count++;
+                }
+            }
+            return count;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Generates and scores candidates [from, to), splitting the range across the pool.
+     */
+    private class CandidateTask extends RecursiveTask<Layout> {
+        private final int minObjects;
+        private final long seed;
+        private final int from, to;
+
+        CandidateTask(int minObjects, long seed, int from, int to) {
+            this.minObjects = minObjects;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Layout compute() {
+            if (to - from <= CHUNK_SIZE) {
+                Layout best = null;
+                for (int i = from; i < to; i++) {
+                    best = better(best, candidate(minObjects, new Random(seed * 31 + i)));
+                }
+                return best;
+            }
+            int mid = (from + to) >>> 1;
+            CandidateTask left = new CandidateTask(minObjects, seed, from, mid);
+            left.fork();
+            Layout right = new CandidateTask(minObjects, seed, mid, to).compute();
+            return better(left.join(), right);
+        }
+    }
+
+    private static Layout better(Layout a, Layout b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return b.score > a.score ? b : a;
+    }
+
+    /**
+     * Places a random number of random objects and scores the result.
+     * @return the scored layout, or null if it breaks a hard rule
+     */
+    private Layout candidate(int minObjects, Random random) {
+        int target = minObjects + random.nextInt(EXTRA_OBJECTS + 1);
+        int[][] types = new int[rows][cols];
+        for (int[] row : types) {
+            Arrays.fill(row, -1);
+        }
+        boolean[] blocked = new boolean[rows * cols];
+        List<Integer> placed = new ArrayList<>();
+
+        List<Integer> cells = new ArrayList<>(interior);
+        Collections.shuffle(cells, random);
+        for (int cell : cells) {
+            if (placed.size() == target) break;
+            int r = cell / cols;
+            int c = cell % cols;
+            int type = random.nextInt(objectIsDouble.length);
+            if (objectIsDouble[type] && (r <= 0 || grid[r - 1][c] == BuildModePanel.CellType.WALL
+                    || types[r - 1][c] >= 0)) {
+                continue;
+            }
+            // Keep the cell that a double-height object below reaches into free
+            if (r + 1 < rows && types[r + 1][c] >= 0 && objectIsDouble[types[r + 1][c]]) {
+                continue;
+            }
+            types[r][c] = type;
+            blocked[cell] = true;
+            placed.add(cell);
+        }
+        if (placed.size() < minObjects) {
+            return null;
+        }
+
+        // Hard rules: no floor cell cut off from the exit, and every object searchable from a reachable cell
+        List<Integer> reachable = reachableFrom(blocked);
+        if (reachable.size() != interior.size() + 1 - placed.size()) {
+            return null;
+        }
+        boolean[] isReachable = new boolean[rows * cols];
+        for (int cell : reachable) {
+            isReachable[cell] = true;
+        }
+        for (int cell : placed) {
+            if (!hasReachableNeighbour(cell, isReachable)) {
+                return null;
+            }
+        }
+
+        double score = SPREAD_WEIGHT * spread(placed) - CHOKEPOINT_WEIGHT * countChokepoints(reachable, isReachable);
+        return new Layout(types, score);
+    }
+
+    /**
+     * Flood-fills the floor from the exit.
+     * @param blocked cells that count as occupied
+     * @return the reachable cells
+     */
+    private List<Integer> reachableFrom(boolean[] blocked) {
+        List<Integer> reached = new ArrayList<>();
+        boolean[] seen = new boolean[rows * cols];
+        int start = exitRow * cols + exitCol;
+        seen[start] = true;
+        reached.add(start);
+        for (int i = 0; i < reached.size(); i++) {
+            int cell = reached.get(i);
+            for (int d = 0; d < 4; d++) {
+                int nr = cell / cols + DR[d];
+                int nc = cell % cols + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                int next = nr * cols + nc;
+                if (seen[next] || blocked[next] || grid[nr][nc] == BuildModePanel.CellType.WALL) continue;
+                seen[next] = true;
+                reached.add(next);
+            }
+        }
+        return reached;
+    }
+
+    private boolean hasReachableNeighbour(int cell, boolean[] isReachable) {
+        for (int d = 0; d < 4; d++) {
+            int nr = cell / cols + DR[d];
+            int nc = cell % cols + DC[d];
+            if (nr >= 0 && nr < rows && nc >= 0 && nc < cols && isReachable[nr * cols + nc]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Measures how evenly the objects cover the hall: the mean distance from each object to its nearest other object.
+     */
+    private double spread(List<Integer> placed) {
+        double total = 0;
+        for (int a : placed) {
+            int nearest = Integer.MAX_VALUE;
+            for (int b : placed) {
+                if (a == b) continue;
+                int d = Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+                nearest = Math.min(nearest, d);
+            }
+            total += nearest == Integer.MAX_VALUE ? 0 : nearest;
+        }
+        return placed.isEmpty() ? 0 : total / placed.size();
+    }
+
+    /**
+     * Counts the articulation points of the reachable floor, found with Tarjan's low-link depth-first search.
+     */
+    private int countChokepoints(List<Integer> reachable, boolean[] isReachable) {
+        int[] depth = new int[rows * cols];
+        int[] low = new int[rows * cols];
+        Arrays.fill(depth, -1);
+        int root = reachable.get(0);
+        int[] count = {0};
+        articulate(root, -1, 0, depth, low, isReachable, count);
+        return count[0];
+    }
+
+    private void articulate(int cell, int parent, int d, int[] depth, int[] low, boolean[] isReachable, int[] count) {
+        depth[cell] = d;
+        low[cell] = d;
+        int children = 0;
+        boolean articulation = false;
+        for (int dir = 0; dir < 4; dir++) {
+            int nr = cell / cols + DR[dir];
+            int nc = cell % cols + DC[dir];
+            if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+            int next = nr * cols + nc;
+            if (!isReachable[next] || next == parent) continue;
+            if (depth[next] >= 0) {
+                low[cell] = Math.min(low[cell], depth[next]);
+            } else {
+                articulate(next, cell, d + 1, depth, low, isReachable, count);
+                children++;
+                low[cell] = Math.min(low[cell], low[next]);
+                if (parent >= 0 && low[next] >= d) {
+                    articulation = true;
+                }
+            }
+        }
+        if ((parent < 0 && children > 1) || articulation) {
+            count[0]++;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package Domain;
+
+import UI.BuildModePanel;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Checks that a hall can be won: the hero must be able to walk from the door to a floor cell next to every object,
+ * since any object may hold the rune. Walls, objects and the cells reachable from the door are kept as bitsets
+ * indexed by row * cols + col.
+ * Edits update reachability incrementally: freeing a cell next to the reachable area only floods the newly opened
+ * region, and blocking a reachable cell with at most one reachable neighbour cannot split the area, so only
+ * blocking a cell that joins two parts of the area needs a new flood fill from the door. The number of objects
+ * with no reachable neighbour is kept up to date along the way, so the status of a hall can be read after every
+ * edit without scanning it.
+ */
+public class HallValidator {
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private final int rows, cols;
+    private final int doorCell;
+    private final BitSet walls;
+    private final BitSet objects;
+    private final BitSet reachable;
+    private final BitSet interior;   // cells reachable while the hall is empty
+    private final int[] queue;
+    private int unreachableObjects = 0;
+
+    /**
+     * Creates a validator for an empty hall.
+     * @param grid the wall layout of the hall
+     * @param doorRow the row of the door
+     * @param doorCol the column of the door
+     */
+    public HallValidator(BuildModePanel.CellType[][] grid, int doorRow, int doorCol) {
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.doorCell = doorRow * cols + doorCol;
+        this.walls = new BitSet(rows * cols);
+        this.objects = new BitSet(rows * cols);
+        this.reachable = new BitSet(rows * cols);
+        this.queue = new int[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                // The edge of the grid lies outside the perimeter walls; the door must not lead the flood out there
+                boolean outside = r == 0 || r == rows - 1 || c == 0 || c == cols - 1;
+                if (outside || grid[r][c] == BuildModePanel.CellType.WALL) {
+                    walls.set(r * cols + c);
+                }
+            }
+        }
+        walls.clear(doorCell);
+        floodFromDoor();
+        this.interior = (BitSet) reachable.clone();
+    }
+
+    /**
+     * Loads every placed object at once and recomputes reachability.
+     * @param placedObjects the 2D array of placed objects
+     */
+    public void load(BuildModePanel.PlacedObject[][] placedObjects) {
+        objects.clear();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (placedObjects[r][c] != null && r * cols + c != doorCell) {
+                    objects.set(r * cols + c);
+                }
+            }
+        }
+        floodFromDoor();
+    }
+
+    /**
+     * Records that an object was placed on or removed from a cell and updates reachability.
+     * @param row the row index
+     * @param col the column index
+     * @param hasObject whether the cell now holds an object
+     */
+    public void setObject(int row, int col, boolean hasObject) {
+        int cell = row * cols + col;
+        if (cell == doorCell || objects.get(cell) == hasObject) {
+            return;
+        }
+        if (!hasObject) {
+            if (!touchesReachable(cell)) {
+                unreachableObjects--;
+            }
+            objects.clear(cell);
+            // A freed cell joins the area if it touches it; flood only what it opens up
+            if (!walls.get(cell) && touchesReachable(cell)) {
+                flood(cell);
+            }
+            return;
+        }
+        objects.set(cell);
+        if (!walls.get(cell) && reachable.get(cell)) {
+            reachable.clear(cell);
+            if (reachableNeighbours(cell) > 1) {
+                floodFromDoor();
+                return;
+            }
+            lostReachable(cell);
+        }
+        if (!touchesReachable(cell)) {
+            unreachableObjects++;
+        }
+    }
+
+    /**
+     * Checks whether the hero can stand on a cell.
+     * @param row the row index
+     * @param col the column index
+     * @return true if the cell is reachable from the door
+     */
+    public boolean isReachable(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && reachable.get(row * cols + col);
+    }
+
+    /**
+     * Checks whether a free floor cell inside the hall has been cut off from the door by objects.
+     * @param row the row index
+     * @param col the column index
+     * @return true if the cell is inside the walls, holds no object and cannot be reached
+     */
+    public boolean isCutOff(int row, int col) {
+        int cell = row * cols + col;
+        return interior.get(cell) && !objects.get(cell) && !reachable.get(cell);
+    }
+
+    /**
+     * Checks whether an object on a cell could be searched: it needs a reachable floor cell next to it.
+     * @param row the row index
+     * @param col the column index
+     * @return true if a neighbouring cell is reachable from the door
+     */
+    public boolean isSearchable(int row, int col) {
+        return touchesReachable(row * cols + col);
+    }
+
+    /**
+     * Summarises the current state of the hall.
+     * @return a report of unreachable objects and the area the hero can spawn in
+     */
+    public Report report() {
+        List<Point> unreachable = new ArrayList<>();
+        for (int cell = objects.nextSetBit(0); cell >= 0; cell = objects.nextSetBit(cell + 1)) {
+            if (!touchesReachable(cell)) {
+                unreachable.add(new Point(cell / cols, cell % cols));
+            }
+        }
+        return new Report(unreachable, getSpawnableCellCount());
+    }
+
+    /**
+     * Counts the objects the hero could never search, without listing them.
+     * @return the number of objects with no reachable neighbour
+     */
+    public int getUnreachableObjectCount() {
+        return unreachableObjects;
+    }
+
+    /**
+     * Counts the cells the hero could spawn on, without listing them.
+     * @return the number of reachable cells, not counting the door
+     */
+    public int getSpawnableCellCount() {
+        return reachable.cardinality() - (reachable.get(doorCell) ? 1 : 0);
+    }
+
+    /**
+     * Lists the cells the hero could spawn on: every reachable cell except the door itself.
+     * @return the spawnable cells as (row, col) points
+     */
+    public List<Point> getSpawnableCells() {
+        List<Point> cells = new ArrayList<>();
+        for (int cell = reachable.nextSetBit(0); cell >= 0; cell = reachable.nextSetBit(cell + 1)) {
+            if (cell != doorCell) {
+                cells.add(new Point(cell / cols, cell % cols));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * The result of a validation.
+     */
+    public static final class Report {
+        private final List<Point> unreachableObjects;
+        private final int spawnableCells;
+
+        Report(List<Point> unreachableObjects, int spawnableCells) {
+            this.unreachableObjects = unreachableObjects;
+            this.spawnableCells = spawnableCells;
+        }
+
+        /**
+         * Returns the objects the hero could never search.
+         * @return (row, col) points of unreachable objects
+         */
+        public List<Point> getUnreachableObjects() {
+            return unreachableObjects;
+        }
+
+        /**
+         * Returns the number of floor cells reachable from the door.
+         * @return the spawnable area in cells
+         */
+        public int getSpawnableCells() {
+            return spawnableCells;
+        }
+
+        /**
+         * Checks whether the hall can be won.
+         * @return true if the hero has room to spawn and every object can be searched
+         */
+        public boolean isSolvable() {
+            return spawnableCells > 0 && unreachableObjects.isEmpty();
+        }
+    }
+
+    /**
+     * Recomputes the reachable area with a single flood fill from the door, and recounts unreachable objects.
+     */
+    private void floodFromDoor() {
+        reachable.clear();
+        flood(doorCell);
+        unreachableObjects = 0;
+        for (int cell = objects.nextSetBit(0); cell >= 0; cell = objects.nextSetBit(cell + 1)) {
+            if (!touchesReachable(cell)) {
+                unreachableObjects++;
+            }
+        }
+    }
+
+    /**
+     * Adds every open cell connected to the start cell to the reachable area.
+     */
+    private void flood(int start) {
+        int head = 0, tail = 0;
+        reachable.set(start);
+        gainedReachable(start);
+        queue[tail++] = start;
+        while (head < tail) {
+            int cell = queue[head++];
+            int r = cell / cols;
+            int c = cell % cols;
+            for (int d = 0; d < 4; d++) {
+                int nr = r + DR[d];
+                int nc = c + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                int next = nr * cols + nc;
+                if (reachable.get(next) || walls.get(next) || objects.get(next)) continue;
+                reachable.set(next);
+                gainedReachable(next);
+                queue[tail++] = next;
+            }
+        }
+    }
+
+    /**
+     * Updates the unreachable count after a cell joined the area: objects it is the first reachable neighbour of
+     * can now be searched.
+     */
+    private void gainedReachable(int cell) {
+        int r = cell / cols;
+        int c = cell % cols;
+        for (int d = 0; d < 4; d++) {
+            int nr = r + DR[d];
+            int nc = c + DC[d];
+            if (nr >= 0 && nr < rows && nc >= 0 && nc < cols) {
+                int next = nr * cols + nc;
+                if (objects.get(next) && reachableNeighbours(next) == 1) {
+                    unreachableObjects--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the unreachable count after a cell left the area: objects it was the last reachable neighbour of
+     * can no longer be searched.
+     */
+    private void lostReachable(int cell) {
+        int r = cell / cols;
+        int c = cell % cols;
+        for (int d = 0; d < 4; d++) {
+            int nr = r + DR[d];
+            int nc = c + DC[d];
+            if (nr >= 0 && nr < rows && nc >= 0 && nc < cols) {
+                int next = nr * cols + nc;
+                if (objects.get(next) && reachableNeighbours(next) == 0) {
+                    unreachableObjects++;
+                }
+            }
+        }
+    }
+
+    private boolean touchesReachable(int cell) {
+        return reachableNeighbours(cell) > 0;
+    }
+
+    private int reachableNeighbours(int cell) {
+        int r = cell / cols;
+        int c = cell % cols;
+        int count = 0;
+        for (int d = 0; d < 4; d++) {
+            int nr = r + DR[d];
+            int nc = c + DC[d];
+            if (nr >= 0 && nr < rows && nc >= 0 && nc < cols && reachable.get(nr * cols + nc)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -1,15 +1,14 @@
 package Domain;
 
 import Utils.AssetPaths;
+import Utils.ImageLoader;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.net.URL;
 import java.awt.AlphaComposite;
 
 /**
@@ -21,6 +20,9 @@ public class Hero implements Serializable {
     // -- Singleton instance --
     private static Hero instance;
 
+    /** The health a new hero starts a hall with. */
+    public static final int STARTING_HEALTH = 3;
+
     // -- Basic properties --
     private int x, y;        // Position in pixels
     private int width, height;
@@ -42,6 +44,10 @@ public class Hero implements Serializable {
     private boolean showingDamageEffect = false;
     private long damageEffectStartTime = 0;
     private static final int DAMAGE_EFFECT_DURATION = 50; // ~50ms quick flash
+    private static final String DAMAGE_FLASH_EFFECT = "heroDamageFlash";
+
+    // Game-time expiry for the flash; when not set (e.g. outside play mode) the wall clock is used
+    private transient TimedEffects timedEffects;
 
     /**
      * Private constructor for singleton pattern.
@@ -56,7 +62,7 @@ public class Hero implements Serializable {
         this.y = y;
         this.width = width;
         this.height = height;
-        this.health = 3; // Or your chosen default
+        this.health = STARTING_HEALTH;
         this.inventory = new Inventory(); // Initialize inventory
         loadImage(imagePath);
     }
@@ -117,6 +123,15 @@ public class Hero implements Serializable {
         this.y += dy;
     }
 
+    /**
+     * Sets the timed-effects service that ends the damage flash on game time.
+     * @param timedEffects the current hall's TimedEffects, or null to fall back to the wall clock
+     */
+    public void setTimedEffects(TimedEffects timedEffects) {
+        this.timedEffects = timedEffects;
+        showingDamageEffect = false;
+    }
+
     /**
      * If health is lowered, trigger the quick red-flash effect.
      */
@@ -135,6 +150,9 @@ public class Hero implements Serializable {
     private void startDamageEffect() {
         showingDamageEffect = true;
         damageEffectStartTime = System.currentTimeMillis();
+        if (timedEffects != null) {
+            timedEffects.start(DAMAGE_FLASH_EFFECT, DAMAGE_EFFECT_DURATION, () -> showingDamageEffect = false);
+        }
 
         // If hero is facing left, tint the mirrored image, otherwise tint the normal hero image
         if (facingLeft && mirroredHeroImage != null) {
@@ -161,12 +179,7 @@ public class Hero implements Serializable {
     // ---------------------------------------------------------
     private void loadImage(String path) {
         try {
-            String normalizedPath = path.startsWith("/") ? path.substring(1) : path;
-            URL resource = getClass().getClassLoader().getResource(normalizedPath);
-            if (resource == null) {
-                throw new IOException("Hero image not found at: " + path);
-            }
-            heroImage = ImageIO.read(resource);
+            heroImage = ImageLoader.readCached(path);
             mirroredHeroImage = mirrorImage(heroImage);
         } catch (IOException e) {
             heroImage = fallback();
@@ -221,8 +234,8 @@ public class Hero implements Serializable {
         // Decide which image to draw
         BufferedImage imgToDraw;
         if (showingDamageEffect) {
-            long currentTime = System.currentTimeMillis();
-            if (currentTime - damageEffectStartTime < DAMAGE_EFFECT_DURATION) {
+            if (timedEffects != null
+                    || System.currentTimeMillis() - damageEffectStartTime < DAMAGE_EFFECT_DURATION) {
                 // Still within the damage flash window
                 imgToDraw = (damageHeroImage != null ? damageHeroImage : heroImage);
             } else {
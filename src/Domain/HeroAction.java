@@ -0,0 +1,125 @@
+package Domain;
+
+/**
+ * What the hero does in one step. Moving, searching an object, collecting or using an enchantment and throwing
+ * a luring gem are the things a player can do with the keyboard and mouse; bots choose among the same actions.
+ * Cells are given as (row, col) grid coordinates and directions as a one-cell row/column offset.
+ */
+public final class HeroAction {
+    /**
+     * The kind of action the hero takes.
+     */
+    public enum Kind {
+        /** Do nothing this step. */
+        IDLE,
+        /** Step one cell up, down, left or right. */
+        MOVE,
+        /** Search the object on a cell within one block of the hero for the rune. */
+        SEARCH,
+        /** Pick up the enchantment lying on a cell. */
+        COLLECT,
+        /** Use a reveal or cloak enchantment from the inventory. */
+        USE_ENCHANTMENT,
+        /** Throw a luring gem three cells in a direction. */
+        THROW_LURE
+    }
+
+    private static final HeroAction IDLE = new HeroAction(Kind.IDLE, 0, 0, null);
+    private static final HeroAction[] MOVES = {
+            new HeroAction(Kind.MOVE, -1, 0, null), new HeroAction(Kind.MOVE, 1, 0, null),
+            new HeroAction(Kind.MOVE, 0, -1, null), new HeroAction(Kind.MOVE, 0, 1, null)
+    };
+
+    private final Kind kind;
+    private final int row;
+    private final int col;
+    private final EnchantmentType enchantment;
+
+    private HeroAction(Kind kind, int row, int col, EnchantmentType enchantment) {
+        this.kind = kind;
+        this.row = row;
+        this.col = col;
+        this.enchantment = enchantment;
+    }
+
+    public static HeroAction idle() { return IDLE; }
+
+    /**
+     * Creates a move by one cell.
+     * @param dRow -1, 0 or 1
+     * @param dCol -1, 0 or 1; exactly one of the two offsets must be non-zero
+     * @return a MOVE action
+     */
+    public static HeroAction move(int dRow, int dCol) {
+        for (HeroAction move : MOVES) {
+            if (move.row == dRow && move.col == dCol) {
+                return move;
+            }
+        }
+        throw new IllegalArgumentException("Not a one-cell move: " + dRow + "," + dCol);
+    }
+
+    /**
+     * Creates a search of the object on a cell.
+     * @param row the object's row
+     * @param col the object's column
+     * @return a SEARCH action
+     */
+    public static HeroAction search(int row, int col) {
+        return new HeroAction(Kind.SEARCH, row, col, null);
+    }
+
+    /**
+     * Creates a pick-up of the enchantment on a cell.
+     * @param row the enchantment's row
+     * @param col the enchantment's column
+     * @return a COLLECT action
+     */
+    public static HeroAction collect(int row, int col) {
+        return new HeroAction(Kind.COLLECT, row, col, null);
+    }
+
+    /**
+     * Creates the use of an enchantment from the inventory.
+     * @param type REVEAL or CLOAK
+     * @return a USE_ENCHANTMENT action
+     */
+    public static HeroAction use(EnchantmentType type) {
+        return new HeroAction(Kind.USE_ENCHANTMENT, 0, 0, type);
+    }
+
+    /**
+     * Creates a luring gem throw.
+     * @param dRow the direction's row offset, -1, 0 or 1
+     * @param dCol the direction's column offset, -1, 0 or 1
+     * @return a THROW_LURE action
+     */
+    public static HeroAction throwLure(int dRow, int dCol) {
+        return new HeroAction(Kind.THROW_LURE, dRow, dCol, EnchantmentType.LURINGGEM);
+    }
+
+    public Kind getKind() { return kind; }
+
+    /**
+     * Returns the target row for SEARCH and COLLECT, or the row offset for MOVE and THROW_LURE.
+     * @return the row or row offset
+     */
+    public int getRow() { return row; }
+
+    /**
+     * Returns the target column for SEARCH and COLLECT, or the column offset for MOVE and THROW_LURE.
+     * @return the column or column offset
+     */
+    public int getCol() { return col; }
+
+    public EnchantmentType getEnchantment() { return enchantment; }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case USE_ENCHANTMENT: return kind + " " + enchantment;
+            case IDLE: return kind.toString();
+            default: return kind + " " + row + "," + col;
+        }
+    }
+}
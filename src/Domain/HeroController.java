@@ -0,0 +1,17 @@
+package Domain;
+
+/**
+ * Drives the hero: asked once per tick for the next high-level action, whatever is behind it.
+ * The player's keyboard and mouse are one implementation, scripted bots another, so the same hall can be played
+ * by hand, by a soak test in the real game panel or by the headless {@link SimulatedHall}.
+ * A scripted controller instance plays a single game and may remember what it has done so far.
+ */
+public interface HeroController {
+
+    /**
+     * Chooses the hero's action for this tick.
+     * @param view the current state of the hall
+     * @return the action to take, or {@link HeroAction#idle()} to do nothing; never null
+     */
+    HeroAction nextAction(HeroView view);
+}
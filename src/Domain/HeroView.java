@@ -0,0 +1,106 @@
+package Domain;
+
+/**
+ * The part of a running hall that the hero's player can see, in (row, col) grid coordinates.
+ * A {@link HeroController} decides the next {@link HeroAction} from this view alone, so the same controller can
+ * play the live game panel or a headless {@link SimulatedHall}. Whether an object hides the rune is not part of the view; it has to be found by searching.
+ */
+public interface HeroView {
+
+    /**
+     * The kinds of monsters that can appear in a hall.
+     */
+    enum MonsterType {
+        ARCHER, FIGHTER, WIZARD
+    }
+
+    int getRows();
+
+    int getCols();
+
+    int getHeroRow();
+
+    int getHeroCol();
+
+    int getHeroHealth();
+
+    /**
+     * Returns the cell in front of the door, where the hero leaves the hall once the rune is found.
+     * @return the exit row
+     */
+    int getExitRow();
+
+    int getExitCol();
+
+    /**
+     * Returns the seconds left on the hall's clock.
+     * @return the remaining time in seconds
+     */
+    int getTimeRemaining();
+
+    /**
+     * Checks whether a cell could be walked on if no monster stood there.
+     * @param row the row index
+     * @param col the column index
+     * @return false for cells outside the hall, walls and objects
+     */
+    boolean isWalkable(int row, int col);
+
+    /**
+     * Checks whether a cell holds an object that can be searched. The door counts, as a wizard can move the rune
+     * onto it.
+     * @param row the row index
+     * @param col the column index
+     * @return true if there is an object on the cell
+     */
+    boolean hasObject(int row, int col);
+
+    boolean isRuneFound();
+
+    int getMonsterCount();
+
+    MonsterType getMonsterType(int index);
+
+    int getMonsterRow(int index);
+
+    int getMonsterCol(int index);
+
+    /**
+     * Returns the number of enchantments lying on the floor, ready to be collected.
+     * @return the floor enchantment count
+     */
+    int getFloorEnchantmentCount();
+
+    EnchantmentType getFloorEnchantmentType(int index);
+
+    int getFloorEnchantmentRow(int index);
+
+    int getFloorEnchantmentCol(int index);
+
+    /**
+     * Counts the hero's enchantments of a type.
+     * @param type the enchantment type
+     * @return how many are in the inventory
+     */
+    int getInventoryCount(EnchantmentType type);
+
+    boolean isInventoryFull();
+
+    /**
+     * Checks whether a reveal is highlighting the region that holds the rune.
+     * @return true while a reveal is active
+     */
+    boolean isRevealActive();
+
+    /**
+     * Returns the top row of the highlighted 4x4 region, meaningful while a reveal is active.
+     * @return the region's top row
+     */
+    int getRevealTopRow();
+
+    int getRevealLeftCol();
+
+    boolean isCloakActive();
+
+    boolean isLureActive();
+}
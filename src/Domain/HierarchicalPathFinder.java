@@ -0,0 +1,634 @@
+package Domain;
+
+import UI.BuildModePanel;
+import UI.BuildModePanel.PlacedObject;
+
+import java.awt.Point;
+import java.util.*;
+
+/**
+ * A hierarchical (HPA*) pathfinder for large halls.
+ * The grid is split into square clusters. Where two neighbouring clusters share open border cells, one or two
+ * transition cells are chosen on each side, and the walking distance between every pair of transitions inside a
+ * cluster is precomputed. A search then runs A* over this small abstract graph and turns only the parts of the
+ * route it needs back into single steps, using a search confined to one cluster.
+ * Objects never move during play, so the abstract graph is built once, when the pathfinder is created.
+ * Points are (row, col), as in {@link PathFinder}.
+ */
+public class HierarchicalPathFinder {
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+    private static final int LONG_ENTRANCE = 6; // open border runs at least this long get a transition at each end
+
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private final boolean[][] walkable;
+    private final int rows, cols;
+    private final int clusterSize;
+    private final int clusterRows, clusterCols;
+    private final int[][] clusterNodes;     // transition cells of each cluster
+    private final int[][] clusterDistances; // n*n walking distances between a cluster's transitions, -1 if unreachable
+    private final int[][] eastBorders;      // transition pairs (west cell, east cell) on each cluster's east border
+    private final int[][] southBorders;     // transition pairs (north cell, south cell) on each cluster's south border
+    private final int maxNodes;              // transition slots per cluster; a node's id is cluster * maxNodes + index
+    private final int[] components;          // connected part of the abstract graph each node belongs to
+    private final int[] crossLinks;          // up to two nodes across a border that each node leads to, -1 if none
+    private final int START, GOAL;           // ids of the start and goal while searching
+    private final ThreadLocal<SearchState> searchState;
+
+    /**
+     * Constructs a pathfinder over a walkability grid with the default cluster size.
+     * @param walkable a 2D boolean array where true indicates a passable cell; it is copied
+     */
+    public HierarchicalPathFinder(boolean[][] walkable) {
+        this(walkable, DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * Constructs a pathfinder over a walkability grid.
+     * @param walkable a 2D boolean array where true indicates a passable cell; it is copied
+     * @param clusterSize the width and height of a cluster in cells
+     */
+    public HierarchicalPathFinder(boolean[][] walkable, int clusterSize) {
+        this.rows = walkable.length;
+        this.cols = walkable[0].length;
+        this.walkable = new boolean[rows][];
+        for (int r = 0; r < rows; r++) {
+            this.walkable[r] = walkable[r].clone();
+        }
+        this.clusterSize = clusterSize;
+        this.clusterRows = (rows + clusterSize - 1) / clusterSize;
+        this.clusterCols = (cols + clusterSize - 1) / clusterSize;
+        int clusterCount = clusterRows * clusterCols;
+        this.clusterNodes = new int[clusterCount][];
+        this.clusterDistances = new int[clusterCount][];
+        this.eastBorders = new int[clusterCount][];
+        this.southBorders = new int[clusterCount][];
+        this.maxNodes = 4 * clusterSize; // each border has at most clusterSize transitions
+        this.components = new int[clusterCount * maxNodes];
+        this.crossLinks = new int[2 * clusterCount * maxNodes];
+        this.START = clusterCount * maxNodes;
+        this.GOAL = START + 1;
+        this.searchState = ThreadLocal.withInitial(() -> new SearchState(GOAL + 1));
+        buildAbstractGraph();
+    }
+
+    /**
+     * Builds the walkability grid of a hall: walls and placed objects block, the door does not.
+     * @param grid the 2D CellType array of the hall
+     * @param placedObjects the 2D array of placed objects
+     * @param doorRow the row of the door
+     * @param doorCol the column of the door
+     * @return a rows×cols walkability grid
+     */
+    public static boolean[][] walkableFrom(BuildModePanel.CellType[][] grid, PlacedObject[][] placedObjects,
+                                           int doorRow, int doorCol) {
+        boolean[][] walkable = new boolean[grid.length][grid[0].length];
+        for (int r = 0; r < grid.length; r++) {
+            for (int c = 0; c < grid[0].length; c++) {
+                boolean door = r == doorRow && c == doorCol;
+                walkable[r][c] = grid[r][c] != BuildModePanel.CellType.WALL
+                        && (placedObjects[r][c] == null || door);
+            }
+        }
+        return walkable;
+    }
+
+    /**
+     * Checks whether a cell can be walked on.
+     * @param row the row index
+     * @param col the column index
+     * @return true if the cell is inside the grid and passable
+     */
+    public boolean isWalkable(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && walkable[row][col];
+    }
+
+    /**
+     * Finds a full path from start to goal.
+     * @param start the start position (row, col)
+     * @param goal the goal position (row, col)
+     * @return the cells from start to goal inclusive, or null if the goal cannot be reached
+     */
+    public List<Point> findPath(Point start, Point goal) {
+        int[] route = route(start, goal);
+        if (route == null) {
+            return null;
+        }
+        List<Point> path = new ArrayList<>();
+        path.add(new Point(start));
+        for (int i = 1; i < route.length; i++) {
+            for (int cell : refine(route[i - 1], route[i])) {
+                path.add(new Point(cell / cols, cell % cols));
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Searches the abstract graph from start to goal.
+     * @return the start cell, the transitions passed through and the goal cell, or null if unreachable
+     */
+    private int[] route(Point start, Point goal) {
+        if (!isWalkable(start.x, start.y) || !isWalkable(goal.x, goal.y)) {
+            return null;
+        }
+
+        int startCell = start.x * cols + start.y;
+        int goalCell = goal.x * cols + goal.y;
+        if (startCell == goalCell) {
+            return new int[]{startCell};
+        }
+        int startCluster = clusterOf(startCell);
+        int goalCluster = clusterOf(goalCell);
+
+        // Connect the start and goal to the transitions of their clusters
+        int[] fromStart = distancesInCluster(startCell);
+        int[] toGoal = distancesInCluster(goalCell);
+        int startToGoal = startCluster == goalCluster ? distanceInCluster(startCell, goalCell) : -1;
+        if (startToGoal < 0 && !shareComponent(startCluster, fromStart, goalCluster, toGoal)) {
+            return null;
+        }
+
+        SearchState state = searchState.get();
+        state.begin();
+        state.open(START, 0, heuristic(startCell, goalCell), -1);
+
+        while (!state.isEmpty()) {
+            int id = state.poll();
+            int g = state.g[id];
+            if (id == GOAL) {
+                return unwind(state, startCell, goalCell);
+            }
+
+            if (id == START) {
+                int[] nodes = clusterNodes[startCluster];
+                for (int i = 0; i < nodes.length; i++) {
+                    relax(state, id, startCluster * maxNodes + i, nodes[i], g, fromStart[i], goalCell);
+                }
+                relax(state, id, GOAL, goalCell, g, startToGoal, goalCell);
+                continue;
+            }
+
+            int cluster = id / maxNodes;
+            int index = id % maxNodes;
+            int[] nodes = clusterNodes[cluster];
+            int[] distances = clusterDistances[cluster];
+            for (int j = 0; j < nodes.length; j++) {
+                relax(state, id, cluster * maxNodes + j, nodes[j], g, distances[index * nodes.length + j], goalCell);
+            }
+            for (int k = 2 * id; k < 2 * id + 2; k++) {
+                int link = crossLinks[k];
+                if (link >= 0) {
+                    relax(state, id, link, clusterNodes[link / maxNodes][link % maxNodes], g, 1, goalCell);
+                }
+            }
+            if (cluster == goalCluster) {
+                relax(state, id, GOAL, goalCell, g, toGoal[index], goalCell);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Offers a cheaper way to reach an abstract node to the open set.
+     */
+    private void relax(SearchState state, int from, int to, int toCell, int g, int cost, int goalCell) {
+        if (cost < 0 || to == from) {
+            return;
+        }
+        state.open(to, g + cost, heuristic(toCell, goalCell), from);
+    }
+
+    /**
+     * Follows parent links back from the goal, turning node ids into cells and dropping repeated cells
+     * (the start or goal may itself be a transition).
+     */
+    private int[] unwind(SearchState state, int startCell, int goalCell) {
+        List<Integer> cells = new ArrayList<>();
+        for (int id = GOAL; id >= 0; id = state.parent[id]) {
+            int cell = id == GOAL ? goalCell : id == START ? startCell : clusterNodes[id / maxNodes][id % maxNodes];
+            if (cells.isEmpty() || cells.get(cells.size() - 1) != cell) {
+                cells.add(cell);
+            }
+        }
+        int[] route = new int[cells.size()];
+        for (int i = 0; i < route.length; i++) {
+            route[i] = cells.get(route.length - 1 - i);
+        }
+        return route;
+    }
+
+    /**
+     * Checks whether some transition reachable from the start lies in the same connected part of the hall as
+     * some transition from which the goal is reachable.
+     */
+    private boolean shareComponent(int startCluster, int[] fromStart, int goalCluster, int[] toGoal) {
+        Set<Integer> reachable = new HashSet<>();
+        for (int i = 0; i < fromStart.length; i++) {
+            if (fromStart[i] >= 0) {
+                reachable.add(components[startCluster * maxNodes + i]);
+            }
+        }
+        for (int i = 0; i < toGoal.length; i++) {
+            if (toGoal[i] >= 0 && reachable.contains(components[goalCluster * maxNodes + i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Turns one leg of an abstract route into single steps.
+     * @return the cells after from up to and including to
+     */
+    private int[] refine(int from, int to) {
+        if (from == to) {
+            return new int[0];
+        }
+        if (Math.abs(from / cols - to / cols) + Math.abs(from % cols - to % cols) == 1) {
+            return new int[]{to};
+        }
+        return pathInCluster(from, to);
+    }
+
+    // ---------------------------------------------------------------------------------------------------------------
+    // Building the abstract graph
+    // ---------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Builds the borders of every cluster, then each cluster's transitions and distances, then the links between them.
+     */
+    private void buildAbstractGraph() {
+        for (int c = 0; c < clusterNodes.length; c++) {
+            eastBorders[c] = buildBorder(c / clusterCols, c % clusterCols, true);
+            southBorders[c] = buildBorder(c / clusterCols, c % clusterCols, false);
+        }
+        for (int c = 0; c < clusterNodes.length; c++) {
+            buildCluster(c);
+        }
+        linkNodes();
+    }
+
+    /**
+     * Records which nodes face each other across borders, and labels the connected parts of the abstract graph
+     * so searches between parts that cannot meet fail at once.
+     */
+    private void linkNodes() {
+        Arrays.fill(crossLinks, -1);
+        int[] parent = new int[components.length];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        for (int c = 0; c < clusterNodes.length; c++) {
+            int[] nodes = clusterNodes[c];
+            int[] distances = clusterDistances[c];
+            for (int i = 0; i < nodes.length; i++) {
+                for (int j = i + 1; j < nodes.length; j++) {
+                    if (distances[i * nodes.length + j] >= 0) {
+                        union(parent, c * maxNodes + i, c * maxNodes + j);
+                    }
+                }
+            }
+            int[][] borders = {eastBorders[c], southBorders[c]};
+            for (int[] pairs : borders) {
+                for (int k = 0; k < pairs.length; k += 2) {
+                    int a = pairs[k];
+                    int b = pairs[k + 1];
+                    int ca = clusterOf(a);
+                    int cb = clusterOf(b);
+                    int idA = ca * maxNodes + indexOf(clusterNodes[ca], a);
+                    int idB = cb * maxNodes + indexOf(clusterNodes[cb], b);
+                    addLink(idA, idB);
+                    addLink(idB, idA);
+                    union(parent, idA, idB);
+                }
+            }
+        }
+        for (int i = 0; i < components.length; i++) {
+            components[i] = find(parent, i);
+        }
+    }
+
+    private void addLink(int from, int to) {
+        crossLinks[crossLinks[2 * from] < 0 ? 2 * from : 2 * from + 1] = to;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        parent[find(parent, a)] = find(parent, b);
+    }
+
+    /**
+     * Finds the transitions on the east or south border of a cluster.
+     * @return pairs of cells (inside, outside) that face each other across the border
+     */
+    private int[] buildBorder(int cr, int cc, boolean east) {
+        int length;
+        int fixed;
+        int first;
+        if (east) {
+            fixed = (cc + 1) * clusterSize - 1; // last column of the cluster
+            if (fixed + 1 >= cols) return new int[0];
+            first = cr * clusterSize;
+            length = Math.min(rows, first + clusterSize) - first;
+        } else {
+            fixed = (cr + 1) * clusterSize - 1; // last row of the cluster
+            if (fixed + 1 >= rows) return new int[0];
+            first = cc * clusterSize;
+            length = Math.min(cols, first + clusterSize) - first;
+        }
+
+        List<Integer> pairs = new ArrayList<>();
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean open = i < length && (east
+                    ? walkable[first + i][fixed] && walkable[first + i][fixed + 1]
+                    : walkable[fixed][first + i] && walkable[fixed + 1][first + i]);
+            if (open && runStart < 0) {
+                runStart = i;
+            } else if (!open && runStart >= 0) {
+                int runEnd = i - 1;
+                if (runEnd - runStart + 1 >= LONG_ENTRANCE) {
+                    addPair(pairs, east, fixed, first + runStart);
+                    addPair(pairs, east, fixed, first + runEnd);
+                } else {
+                    addPair(pairs, east, fixed, first + (runStart + runEnd) / 2);
+                }
+                runStart = -1;
+            }
+        }
+        int[] result = new int[pairs.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = pairs.get(i);
+        }
+        return result;
+    }
+
+    private void addPair(List<Integer> pairs, boolean east, int fixed, int along) {
+        if (east) {
+            pairs.add(along * cols + fixed);
+            pairs.add(along * cols + fixed + 1);
+        } else {
+            pairs.add(fixed * cols + along);
+            pairs.add((fixed + 1) * cols + along);
+        }
+    }
+
+    /**
+     * Collects a cluster's transitions from its four borders and measures the distances between them.
+     */
+    private void buildCluster(int c) {
+        int cr = c / clusterCols;
+        int cc = c % clusterCols;
+        List<Integer> nodes = new ArrayList<>();
+        collect(nodes, eastBorders[c], 0);
+        collect(nodes, southBorders[c], 0);
+        if (cc > 0) collect(nodes, eastBorders[c - 1], 1);
+        if (cr > 0) collect(nodes, southBorders[c - clusterCols], 1);
+
+        int n = nodes.size();
+        int[] cells = new int[n];
+        for (int i = 0; i < n; i++) {
+            cells[i] = nodes.get(i);
+        }
+        clusterNodes[c] = cells;
+
+        int[] distances = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            int[] fromNode = bfsInCluster(cells[i], null);
+            for (int j = 0; j < n; j++) {
+                distances[i * n + j] = fromNode[localIndex(cells[j])];
+            }
+        }
+        clusterDistances[c] = distances;
+    }
+
+    /**
+     * Adds one side of every transition pair to the list, skipping duplicates.
+     */
+    private void collect(List<Integer> nodes, int[] pairs, int side) {
+        if (pairs == null) return;
+        for (int i = side; i < pairs.length; i += 2) {
+            if (!nodes.contains(pairs[i])) {
+                nodes.add(pairs[i]);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------------------------
+    // Searches confined to one cluster
+    // ---------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Measures the walking distance from a cell to each transition of its cluster.
+     * @return distances aligned with the cluster's transitions, -1 where unreachable
+     */
+    private int[] distancesInCluster(int cell) {
+        int[] nodes = clusterNodes[clusterOf(cell)];
+        int[] local = bfsInCluster(cell, null);
+        int[] distances = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            distances[i] = local[localIndex(nodes[i])];
+        }
+        return distances;
+    }
+
+    private int distanceInCluster(int from, int to) {
+        return bfsInCluster(from, null)[localIndex(to)];
+    }
+
+    /**
+     * Finds a shortest path between two cells of the same cluster without leaving it.
+     * @return the cells after from up to and including to
+     */
+    private int[] pathInCluster(int from, int to) {
+        int c = clusterOf(from);
+        int top = (c / clusterCols) * clusterSize;
+        int left = (c % clusterCols) * clusterSize;
+        int width = Math.min(cols, left + clusterSize) - left;
+
+        int[] parents = new int[clusterSize * clusterSize];
+        int[] distances = bfsInCluster(from, parents);
+        int target = localIndex(to);
+        if (distances[target] < 0) {
+            return new int[0];
+        }
+        int[] path = new int[distances[target]];
+        int local = target;
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = (top + local / width) * cols + left + local % width;
+            local = parents[local];
+        }
+        return path;
+    }
+
+    /**
+     * Breadth-first search from a cell that stays inside its cluster.
+     * @param parents if not null, filled with the local index each reached cell was entered from
+     * @return distances indexed by local cell index, -1 where unreachable
+     */
+    private int[] bfsInCluster(int from, int[] parents) {
+        int c = clusterOf(from);
+        int top = (c / clusterCols) * clusterSize;
+        int left = (c % clusterCols) * clusterSize;
+        int height = Math.min(rows, top + clusterSize) - top;
+        int width = Math.min(cols, left + clusterSize) - left;
+
+        int[] distances = new int[clusterSize * clusterSize];
+        Arrays.fill(distances, -1);
+        int[] queue = new int[width * height];
+        int head = 0, tail = 0;
+        int origin = localIndex(from);
+        distances[origin] = 0;
+        queue[tail++] = origin;
+        while (head < tail) {
+            int local = queue[head++];
+            int lr = local / width;
+            int lc = local % width;
+            for (int d = 0; d < 4; d++) {
+                int nr = lr + DR[d];
+                int nc = lc + DC[d];
+                if (nr < 0 || nr >= height || nc < 0 || nc >= width) continue;
+                int next = nr * width + nc;
+                if (distances[next] >= 0 || !walkable[top + nr][left + nc]) continue;
+                distances[next] = distances[local] + 1;
+                if (parents != null) {
+                    parents[next] = local;
+                }
+                queue[tail++] = next;
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Converts a cell index to its index inside its cluster.
+     */
+    private int localIndex(int cell) {
+        int c = clusterOf(cell);
+        int top = (c / clusterCols) * clusterSize;
+        int left = (c % clusterCols) * clusterSize;
+        int width = Math.min(cols, left + clusterSize) - left;
+        return (cell / cols - top) * width + (cell % cols - left);
+    }
+
+    private int clusterOf(int cell) {
+        return (cell / cols / clusterSize) * clusterCols + (cell % cols) / clusterSize;
+    }
+
+    private static int indexOf(int[] nodes, int cell) {
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i] == cell) return i;
+        }
+        return -1;
+    }
+
+    private int heuristic(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    /**
+     * Per-thread scratch space for the abstract search: costs and parents indexed by node id, stamped so they do not
+     * need clearing between searches, and an indexed binary heap ordered by f with ties going to the larger g.
+     */
+    private static final class SearchState {
+        final int[] g;
+        final int[] f;
+        final int[] parent;
+        private final int[] stamp;
+        private final int[] heapPos; // position in the heap, or -1 once closed
+        private final int[] heap;
+        private int size;
+        private int generation;
+
+        SearchState(int capacity) {
+            g = new int[capacity];
+            f = new int[capacity];
+            parent = new int[capacity];
+            stamp = new int[capacity];
+            heapPos = new int[capacity];
+            heap = new int[capacity];
+        }
+
+        void begin() {
+            generation++;
+            size = 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Records a cost for a node if it is new or cheaper than before, unless the node was already closed.
+         */
+        void open(int id, int cost, int h, int from) {
+            if (stamp[id] != generation) {
+                stamp[id] = generation;
+                g[id] = cost;
+                f[id] = cost + h;
+                parent[id] = from;
+                heapPos[id] = size;
+                heap[size++] = id;
+                siftUp(heapPos[id]);
+            } else if (heapPos[id] >= 0 && cost < g[id]) {
+                f[id] -= g[id] - cost;
+                g[id] = cost;
+                parent[id] = from;
+                siftUp(heapPos[id]);
+            }
+        }
+
+        int poll() {
+            int top = heap[0];
+            heapPos[top] = -1;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                heapPos[heap[0]] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private boolean before(int a, int b) {
+            return f[a] < f[b] || (f[a] == f[b] && g[a] > g[b]);
+        }
+
+        private void siftUp(int i) {
+            int id = heap[i];
+            while (i > 0) {
+                int p = (i - 1) >>> 1;
+                if (!before(id, heap[p])) break;
+                heap[i] = heap[p];
+                heapPos[heap[i]] = i;
+                i = p;
+            }
+            heap[i] = id;
+            heapPos[id] = i;
+        }
+
+        private void siftDown(int i) {
+            int id = heap[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && before(heap[child + 1], heap[child])) child++;
+                if (!before(heap[child], id)) break;
+                heap[i] = heap[child];
+                heapPos[heap[i]] = i;
+                i = child;
+            }
+            heap[i] = id;
+            heapPos[id] = i;
+        }
+    }
+}
@@ -6,10 +6,13 @@ import UI.GamePanel;
  * A WizardMonster behavior that does nothing for 2 seconds before disappearing.
  */
 public class IndecisiveBehavior implements WizardBehavior {
+    /** Milliseconds of game time the wizard waits before it disappears. */
+    public static final long LEAVE_DELAY_MS = 2000;
+
     private boolean done = false;
 
     /**
-     * Makes the wizard wait for 2 seconds, then removes it from the game.
+     * Makes the wizard wait for 2 seconds of game time, then removes it from the game.
      * @param wizard the WizardMonster performing this action
      * @param hero the Hero (unused in this behavior)
      * @param gamePanel the GamePanel for removing the wizard
@@ -19,13 +22,6 @@ public class IndecisiveBehavior implements WizardBehavior {
         if (done) return;
         done = true;
 
-        new Thread(() -> {
-            try {
-                Thread.sleep(2000);
-                gamePanel.removeMonster(wizard);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        gamePanel.getScheduler().schedule(LEAVE_DELAY_MS, () -> gamePanel.removeMonster(wizard));
     }
 }
@@ -0,0 +1,79 @@
+package Domain;
+
+import java.util.Random;
+
+/**
+ * Searches like {@link GreedySearchBot} but also throws luring gems: when a fighter comes within a few cells it
+ * throws a gem in the direction that lands it closest to the fighter, which then stays busy with the gem
+ * instead of wandering into the hero.
+ */
+public class LureBot extends GreedySearchBot {
+    private static final int THREAT_DISTANCE = 3;
+    private static final int LURE_DISTANCE = 3;
+    private static final int THROW_COOLDOWN_STEPS = 8; // the gem is in flight for a while before it lures
+
+    private int stepsSinceThrow = THROW_COOLDOWN_STEPS;
+
+    /**
+     * @param random the random source for the bot's choices
+     */
+    public LureBot(Random random) {
+        super(random);
+    }
+
+    @Override
+    protected HeroAction tactics(HeroView view) {
+        stepsSinceThrow++;
+        if (view.isLureActive() || stepsSinceThrow < THROW_COOLDOWN_STEPS
+                || view.getInventoryCount(EnchantmentType.LURINGGEM) == 0) {
+            return null;
+        }
+        int fighter = nearestFighter(view);
+        if (fighter < 0) {
+            return null;
+        }
+        int fr = view.getMonsterRow(fighter);
+        int fc = view.getMonsterCol(fighter);
+        int hr = view.getHeroRow();
+        int hc = view.getHeroCol();
+        if (Math.abs(fr - hr) + Math.abs(fc - hc) > THREAT_DISTANCE) {
+            return null;
+        }
+
+        int best = -1;
+        int bestScore = Integer.MAX_VALUE;
+        for (int d = 0; d < 4; d++) {
+            int r = hr + DR[d] * LURE_DISTANCE;
+            int c = hc + DC[d] * LURE_DISTANCE;
+            if (!view.isWalkable(r, c) && !view.hasObject(r, c)) {
+                continue; // a wall or outside the hall, where the gem cannot be thrown
+            }
+            // A gem next to the fighter holds it in place; one far away drags it across the hero's path
+            int score = Math.abs(r - fr) + Math.abs(c - fc);
+            if (score < bestScore) {
+                bestScore = score;
+                best = d;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        stepsSinceThrow = 0;
+        return HeroAction.throwLure(DR[best], DC[best]);
+    }
+
+    private static int nearestFighter(HeroView view) {
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < view.getMonsterCount(); i++) {
+            if (view.getMonsterType(i) != HeroView.MonsterType.FIGHTER) continue;
+            int d = Math.abs(view.getMonsterRow(i) - view.getHeroRow())
+                    + Math.abs(view.getMonsterCol(i) - view.getHeroCol());
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -1,32 +1,38 @@
 package Domain;
 
 import UI.BuildModePanel;
+import Utils.SpriteCache;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 import java.io.IOException;
-import java.net.URL;
-import java.awt.geom.AffineTransform;
 import java.io.Serializable;
 
 /**
  * Abstract class representing a generic monster in the game.
+ * Once added to a hall's {@link EntityStore}, a monster is a handle: its position, facing, cooldown,
+ * sprite and removal flag are read from and written to the store's component arrays.
+ * Outside a store (before spawning, after removal) the same values are kept in the monster itself.
  */
 public abstract class Monster implements Serializable {
     private static final long serialVersionUID = 1L;
 
-    protected int x, y;
     protected int width = 64;
     protected int height = 64;
-    protected transient BufferedImage monsterImage;
-    protected transient BufferedImage mirroredImage; // Mirrored image for left-facing
     protected Hero hero;
     protected BuildModePanel.CellType[][] mapGrid;
     protected static final int CELL_SIZE = 64;
-    protected String imagePath;  // Store the path for reloading images
+    protected String imagePath;  // Store the path for looking the sprite up again
 
+    // Component values used while the monster is not in an EntityStore
+    private int x, y;
+    private boolean facingLeft = false;
     private boolean pendingRemoval = false;
-    protected boolean facingLeft = false;
+    private long cooldown = 0;
+    private transient int spriteId;
+
+    // The store holding this monster's components, and its slot there
+    transient EntityStore store;
+    transient int slot = -1;
 
     /**
      * Constructor for Monster.
@@ -43,64 +49,7 @@ public abstract class Monster implements Serializable {
         this.hero = h;
         this.mapGrid = mapGrid;
         this.imagePath = imagePath;
-        loadImage(imagePath);
-    }
-
-    /**
-     * Loads the monster image and creates a mirrored version for left-facing.
-     *
-     * @param path Path to the image.
-     */
-    private void loadImage(String path) {
-        try {
-            String p = path.startsWith("/") ? path.substring(1) : path;
-            URL u = getClass().getClassLoader().getResource(p);
-            if (u == null) throw new IOException("Image not found: " + p);
-            BufferedImage i = ImageIO.read(u);
-            monsterImage = i;
-            mirroredImage = mirrorImage(monsterImage);
-        } catch (IOException e) {
-            monsterImage = fallback();
-            mirroredImage = fallback();
-            System.err.println("Failed to load monster image: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Creates a mirrored version of the given image.
-     *
-     * @param original The original image.
-     * @return Mirrored image.
-     */
-    private BufferedImage mirrorImage(BufferedImage original) {
-        AffineTransform transform = AffineTransform.getScaleInstance(-1, 1);
-        transform.translate(-original.getWidth(), 0);
-
-        BufferedImage mirrored = new BufferedImage(
-                original.getWidth(),
-                original.getHeight(),
-                original.getType()
-        );
-
-        Graphics2D g = mirrored.createGraphics();
-        g.drawImage(original, transform, null);
-        g.dispose();
-
-        return mirrored;
-    }
-
-    /**
-     * Fallback image in case the original image fails to load.
-     *
-     * @return Fallback BufferedImage.
-     */
-    private BufferedImage fallback() {
-        BufferedImage f = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = f.createGraphics();
-        g2d.setColor(Color.RED);
-        g2d.fillRect(0, 0, width, height);
-        g2d.dispose();
-        return f;
+        this.spriteId = SpriteCache.idFor(imagePath);
     }
 
     /**
@@ -109,49 +58,140 @@ public abstract class Monster implements Serializable {
      * If on the same x-axis position, the monster retains its current facing direction.
      */
     public void updateFacingDirection() {
-        int heroColumn = hero.getX() / CELL_SIZE;
-        int monsterColumn = this.x / CELL_SIZE;
+        updateFacingDirection(hero.getX());
+    }
+
+    /**
+     * Updates the monster's facing direction towards the given hero x-position.
+     * @param heroX the hero's x-coordinate in pixels
+     */
+    protected void updateFacingDirection(int heroX) {
+        int heroColumn = heroX / CELL_SIZE;
+        int monsterColumn = getX() / CELL_SIZE;
 
         if (heroColumn < monsterColumn) {
-            facingLeft = true;
+            setFacingLeft(true);
         } else if (heroColumn > monsterColumn) {
-            facingLeft = false;
+            setFacingLeft(false);
         }
         // If heroColumn == monsterColumn, do not change facingLeft
     }
 
     public boolean isPendingRemoval() {
-        return pendingRemoval;
+        return store != null ? store.pendingRemoval[slot] : pendingRemoval;
     }
 
     public void setPendingRemoval(boolean val) {
-        this.pendingRemoval = val;
+        if (store != null) {
+            store.pendingRemoval[slot] = val;
+        } else {
+            this.pendingRemoval = val;
+        }
     }
 
 
     /**
-     * Abstract update method to be implemented by subclasses.
+     * Decides what the monster does this tick. Runs during the planning phase, possibly on a worker thread and
+     * at the same time as other monsters, so it may only read the snapshot and change this monster's own fields.
+     * @param world the world as it was at the start of the tick
+     * @return the monster's intent for this tick
+     */
+    public abstract MonsterIntent planTurn(WorldSnapshot world);
+
+    /**
+     * Decides a low-cost turn for a monster far from the hero, which the level-of-detail scheduler plans
+     * less often. The same threading rules as planTurn apply. By default this is the full plan.
+     * @param world the world as it was at the start of the tick
+     * @return the monster's intent for this tick
+     */
+    public MonsterIntent planCheapTurn(WorldSnapshot world) {
+        return planTurn(world);
+    }
+
+    /**
+     * Carries out a non-movement intent (attacking, shooting, wizard behaviors) during the single-threaded
+     * resolve phase. Moves are applied by the game panel, which settles conflicts between monsters.
+     * @param intent the intent returned by planTurn
      */
-    public abstract void update();
+    public void applyTurn(MonsterIntent intent) {
+    }
 
     /**
-     * Draws the monster on the screen, facing the correct direction.
+     * Draws the monster on the screen, facing the correct direction, using the shared sprite for its type.
      *
      * @param g Graphics context.
      */
     public void draw(Graphics g) {
-        BufferedImage imgToDraw = (facingLeft && mirroredImage != null) ? mirroredImage : monsterImage;
-        g.drawImage(imgToDraw, x, y, width, height, null);
+        BufferedImage imgToDraw = isFacingLeft() ? SpriteCache.getMirrored(getSpriteId()) : SpriteCache.getImage(getSpriteId());
+        g.drawImage(imgToDraw, getX(), getY(), width, height, null);
     }
 
-    // Custom deserialization to reload images
+    // Custom deserialization to look the shared sprite up again
     private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        loadImage(imagePath);  // Reload the images using the stored path
+        slot = -1;
+        spriteId = SpriteCache.idFor(imagePath);
+    }
+
+    /**
+     * Called by an EntityStore when it takes over this monster's components.
+     */
+    void attach(EntityStore s, int newSlot) {
+        store = s;
+        slot = newSlot;
+    }
+
+    /**
+     * Called by an EntityStore when it releases this monster, handing back the last component values.
+     */
+    void detach(int px, int py, boolean left, boolean pending, long cd, int sprite) {
+        x = px;
+        y = py;
+        facingLeft = left;
+        pendingRemoval = pending;
+        cooldown = cd;
+        spriteId = sprite;
+        store = null;
+        slot = -1;
     }
 
     // Getters and setters
-    public int getX() { return x; }
-    public int getY() { return y; }
-    public void setPosition(int nx, int ny) { x = nx; y = ny; }
-}
\ No newline at end of file
+    public int getX() { return store != null ? store.posX[slot] : x; }
+    public int getY() { return store != null ? store.posY[slot] : y; }
+
+    public void setPosition(int nx, int ny) {
+        if (store != null) {
+            store.posX[slot] = nx;
+            store.posY[slot] = ny;
+        } else {
+            x = nx;
+            y = ny;
+        }
+    }
+
+    public boolean isFacingLeft() { return store != null ? store.facingLeft[slot] : facingLeft; }
+
+    protected void setFacingLeft(boolean left) {
+        if (store != null) {
+            store.facingLeft[slot] = left;
+        } else {
+            facingLeft = left;
+        }
+    }
+
+    /**
+     * Returns the monster's cooldown value (for archers, the time of the last shot in milliseconds).
+     * @return the cooldown component
+     */
+    protected long getCooldown() { return store != null ? store.cooldown[slot] : cooldown; }
+
+    protected void setCooldown(long value) {
+        if (store != null) {
+            store.cooldown[slot] = value;
+        } else {
+            cooldown = value;
+        }
+    }
+
+    public int getSpriteId() { return store != null ? store.spriteId[slot] : spriteId; }
+}
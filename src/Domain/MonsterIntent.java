@@ -0,0 +1,57 @@
+package Domain;
+
+/**
+ * What a monster decided to do this tick. Intents are produced during the parallel planning phase
+ * and carried out one by one, in monster list order, during the resolve phase.
+ */
+public final class MonsterIntent {
+    /**
+     * The kind of action a monster wants to take.
+     */
+    public enum Kind {
+        /** Do nothing this tick. */
+        IDLE,
+        /** Step to the target cell, if it is still free when the move is resolved. */
+        MOVE,
+        /** Hit the adjacent hero. */
+        ATTACK,
+        /** Fire an arrow at the hero. */
+        SHOOT,
+        /** Run a wizard behavior. */
+        BEHAVIOR
+    }
+
+    private static final MonsterIntent IDLE = new MonsterIntent(Kind.IDLE, 0, 0);
+    private static final MonsterIntent ATTACK = new MonsterIntent(Kind.ATTACK, 0, 0);
+    private static final MonsterIntent SHOOT = new MonsterIntent(Kind.SHOOT, 0, 0);
+    private static final MonsterIntent BEHAVIOR = new MonsterIntent(Kind.BEHAVIOR, 0, 0);
+
+    private final Kind kind;
+    private final int targetX;
+    private final int targetY;
+
+    private MonsterIntent(Kind kind, int targetX, int targetY) {
+        this.kind = kind;
+        this.targetX = targetX;
+        this.targetY = targetY;
+    }
+
+    public static MonsterIntent idle() { return IDLE; }
+    public static MonsterIntent attack() { return ATTACK; }
+    public static MonsterIntent shoot() { return SHOOT; }
+    public static MonsterIntent behavior() { return BEHAVIOR; }
+
+    /**
+     * Creates an intent to move to the given position.
+     * @param x the target x-coordinate in pixels
+     * @param y the target y-coordinate in pixels
+     * @return a MOVE intent
+     */
+    public static MonsterIntent moveTo(int x, int y) {
+        return new MonsterIntent(Kind.MOVE, x, y);
+    }
+
+    public Kind getKind() { return kind; }
+    public int getTargetX() { return targetX; }
+    public int getTargetY() { return targetY; }
+}
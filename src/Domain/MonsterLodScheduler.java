@@ -0,0 +1,148 @@
+package Domain;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides how much AI work each monster gets in a tick, based on its distance to the hero (level of detail).
+ * Monsters near the hero plan every tick. Mid-range monsters plan every few ticks, and far monsters take a cheap
+ * step even less often. Reduced-rate monsters are staggered so they do not all come due on the same tick,
+ * and at most a fixed budget of them is planned per tick; the rest wait for the next tick.
+ * Level of detail only starts once a hall holds more monsters than {@link #ACTIVATION_COUNT}. A 13x13 hall has
+ * fewer floor cells than that, so in the shipped halls every monster still plans in full on every tick and
+ * gameplay is unchanged; the savings are for the large halls the build mode can make.
+ */
+public class MonsterLodScheduler {
+    public static final byte SKIP = 0;
+    public static final byte FULL = 1;
+    public static final byte CHEAP = 2;
+    public static final int ACTIVATION_COUNT = 128;  // monsters
+
+    private static final int CELL_SIZE = 64;
+    private static final int NEAR_RADIUS = 4;   // cells, Chebyshev distance
+    private static final int MID_RADIUS = 8;
+    private static final int MID_INTERVAL = 2;  // ticks
+    private static final int FAR_INTERVAL = 4;
+    private static final int DEFAULT_BUDGET = 96;
+
+    private final int budget;
+    private final Map<Monster, State> states = new IdentityHashMap<>();
+    private long tick = 0;
+    private int sequence = 0;
+    private int cursor = 0;
+    private int lastPlannedCount = 0;
+
+    /**
+     * A private holder for when a monster was last planned.
+     */
+    private static class State {
+        long lastPlannedTick;
+    }
+
+    /**
+     * Constructs a scheduler with the default per-tick budget.
+     */
+    public MonsterLodScheduler() {
+        this(DEFAULT_BUDGET);
+    }
+
+    /**
+     * Constructs a scheduler with the given budget.
+     * @param budget the maximum number of reduced-rate (mid and far) monsters planned per tick
+     */
+    public MonsterLodScheduler(int budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Assigns a mode to every monster for the coming tick.
+     * Near monsters and wizards always get FULL; mid monsters get FULL when due, far monsters CHEAP when due.
+     * With no more than {@link #ACTIVATION_COUNT} monsters in the hall, every monster gets FULL.
+     * @param monsters the monsters in the hall
+     * @param world the snapshot of this tick, used for the hero position
+     * @return one of SKIP, FULL or CHEAP per monster, in list order
+     */
+    public byte[] assign(List<Monster> monsters, WorldSnapshot world) {
+        tick++;
+        int n = monsters.size();
+        byte[] modes = new byte[n];
+        int heroRow = world.getHeroRow();
+        int heroCol = world.getHeroCol();
+        int planned = 0;
+        int reducedPlanned = 0;
+        boolean lodActive = n > ACTIVATION_COUNT;
+
+        // Start at a rotating offset so monsters that miss the budget are reached first next time
+        int start = n == 0 ? 0 : cursor % n;
+        for (int k = 0; k < n; k++) {
+            int i = (start + k) % n;
+            Monster m = monsters.get(i);
+            State state = stateOf(m);
+
+            int distance = Math.max(Math.abs(m.getY() / CELL_SIZE - heroRow), Math.abs(m.getX() / CELL_SIZE - heroCol));
+            if (!lodActive || distance <= NEAR_RADIUS || m instanceof WizardMonster) {
+                modes[i] = FULL;
+                state.lastPlannedTick = tick;
+                planned++;
+                continue;
+            }
+
+            int interval = distance <= MID_RADIUS ? MID_INTERVAL : FAR_INTERVAL;
+            if (tick - state.lastPlannedTick < interval) {
+                continue;
+            }
+            if (reducedPlanned >= budget) {
+                if (reducedPlanned == budget) {
+                    cursor = i;
+                }
+                reducedPlanned++;
+                continue;
+            }
+            modes[i] = distance <= MID_RADIUS ? FULL : CHEAP;
+            state.lastPlannedTick = tick;
+            reducedPlanned++;
+            planned++;
+        }
+        lastPlannedCount = planned;
+        return modes;
+    }
+
+    /**
+     * Stops tracking a monster that left the hall.
+     * @param monster the removed monster
+     */
+    public void forget(Monster monster) {
+        states.remove(monster);
+    }
+
+    /**
+     * Stops tracking every monster.
+     */
+    public void clear() {
+        states.clear();
+        cursor = 0;
+    }
+
+    /**
+     * Returns how many monsters were given a turn (FULL or CHEAP) by the last call to assign.
+     * @return the planned monster count
+     */
+    public int getLastPlannedCount() {
+        return lastPlannedCount;
+    }
+
+    /**
+     * Returns the state for a monster, creating a staggered one the first time it is seen.
+     */
+    private State stateOf(Monster m) {
+        State state = states.get(m);
+        if (state == null) {
+            state = new State();
+            // Spread new monsters over the far interval so they come due on different ticks
+            state.lastPlannedTick = tick - 1 - (sequence++ % FAR_INTERVAL);
+            states.put(m, state);
+        }
+        return state;
+    }
+}
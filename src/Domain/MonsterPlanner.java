@@ -0,0 +1,103 @@
+package Domain;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the planning phase of a monster tick: every monster computes its intent from the same world snapshot.
+ * Large monster lists are split with fork/join across the common pool; small ones are planned on the calling thread,
+ * where the cost of handing work to other threads would outweigh the gain.
+ */
+public final class MonsterPlanner {
+    private static final int PARALLEL_THRESHOLD = 64;
+    private static final int CHUNK_SIZE = 32;
+
+    private MonsterPlanner() {
+    }
+
+    /**
+     * Plans a turn for every monster.
+     * @param monsters the monsters to plan for; the list must not change until this returns
+     * @param world the snapshot every monster plans against
+     * @return one intent per monster, in the same order as the list
+     */
+    public static MonsterIntent[] plan(List<Monster> monsters, WorldSnapshot world) {
+        return plan(monsters, world, null);
+    }
+
+    /**
+     * Plans a turn for every monster at the level of detail chosen by a {@link MonsterLodScheduler}.
+     * @param monsters the monsters to plan for; the list must not change until this returns
+     * @param world the snapshot every monster plans against
+     * @param modes SKIP, FULL or CHEAP per monster in list order, or null to plan every monster fully
+     * @return one intent per monster, in the same order as the list (IDLE for skipped monsters)
+     */
+    public static MonsterIntent[] plan(List<Monster> monsters, WorldSnapshot world, byte[] modes) {
+        Monster[] array = monsters.toArray(new Monster[0]);
+        MonsterIntent[] intents = new MonsterIntent[array.length];
+        int work = array.length;
+        if (modes != null) {
+            work = 0;
+            for (byte mode : modes) {
+                if (mode != MonsterLodScheduler.SKIP) work++;
+            }
+        }
+        if (work < PARALLEL_THRESHOLD) {
+            planRange(array, world, modes, intents, 0, array.length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new PlanTask(array, world, modes, intents, 0, array.length));
+        }
+        return intents;
+    }
+
+    /**
+     * Plans monsters [from, to) sequentially.
+     */
+    private static void planRange(Monster[] monsters, WorldSnapshot world, byte[] modes, MonsterIntent[] intents,
+                                  int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte mode = modes == null ? MonsterLodScheduler.FULL : modes[i];
+            MonsterIntent intent;
+            if (mode == MonsterLodScheduler.FULL) {
+                intent = monsters[i].planTurn(world);
+            } else if (mode == MonsterLodScheduler.CHEAP) {
+                intent = monsters[i].planCheapTurn(world);
+            } else {
+                intent = null;
+            }
+            intents[i] = intent != null ? intent : MonsterIntent.idle();
+        }
+    }
+
+    /**
+     * Splits a range of monsters in half until it is small enough to plan directly.
+     */
+    private static class PlanTask extends RecursiveAction {
+        private final Monster[] monsters;
+        private final WorldSnapshot world;
+        private final byte[] modes;
+        private final MonsterIntent[] intents;
+        private final int from, to;
+
+        PlanTask(Monster[] monsters, WorldSnapshot world, byte[] modes, MonsterIntent[] intents, int from, int to) {
+            this.monsters = monsters;
+            this.world = world;
+            this.modes = modes;
+            this.intents = intents;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                planRange(monsters, world, modes, intents, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PlanTask(monsters, world, modes, intents, from, mid),
+                    new PlanTask(monsters, world, modes, intents, mid, to));
+        }
+    }
+}
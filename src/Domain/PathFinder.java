@@ -1,12 +1,24 @@
 package Domain;
 
+import Utils.GameEvents;
 import java.awt.Point;
 import java.util.*;
 
 /**
- * A pathfinding utility that uses A* algorithm to find a path on a grid of walkable or blocked cells.
+ * A pathfinding utility that finds a path on a grid of walkable or blocked cells, using either plain A* or
+ * Jump Point Search. Both take the same input and return the same cell-by-cell path contract.
  */
 public class PathFinder {
+    /**
+     * The search algorithm to run.
+     */
+    public enum Algorithm {
+        /** A* expanding every reachable cell. */
+        A_STAR,
+        /** Jump Point Search: A* over the cells where an optimal 4-connected path may have to turn. */
+        JUMP_POINT
+    }
+
     /**
      * A private inner class that stores pathfinding node details (position, parent, costs).
      */
@@ -50,6 +62,39 @@ public class PathFinder {
      * @return a list of Points representing the path or null if none found
      */
     public static List<Point> findPath(Point start, Point goal, boolean[][] walkable) {
+        return findPath(start, goal, walkable, Algorithm.A_STAR);
+    }
+
+    /**
+     * Finds a path from start to goal with the chosen algorithm in a boolean walkable grid.
+     * Every algorithm returns a shortest path, but when several exist they may pick different ones.
+     * @param start a Point representing the start position (row, col)
+     * @param goal a Point representing the goal position (row, col)
+     * @param walkable a 2D boolean array where true indicates a passable cell
+     * @param algorithm the search algorithm to use
+     * @return a list of Points from start to goal, one per cell, or null if none found
+     */
+    public static List<Point> findPath(Point start, Point goal, boolean[][] walkable, Algorithm algorithm) {
+        GameEvents.PathfindingEvent event = new GameEvents.PathfindingEvent();
+        event.begin();
+        List<Point> path = algorithm == Algorithm.JUMP_POINT
+                ? jumpPointSearch(start, goal, walkable, event)
+                : aStar(start, goal, walkable, event);
+        event.found = path != null;
+        event.pathLength = path == null ? 0 : path.size();
+        event.commit();
+        return path;
+    }
+
+    /**
+     * Runs the A* search, counting every node taken off the open set into the given event.
+     * @param start the start position (row, col)
+     * @param goal the goal position (row, col)
+     * @param walkable a 2D boolean array where true indicates a passable cell
+     * @param event the pathfinding event whose expansion count is updated
+     * @return a list of Points representing the path or null if none found
+     */
+    private static List<Point> aStar(Point start, Point goal, boolean[][] walkable, GameEvents.PathfindingEvent event) {
         PriorityQueue<Node> openSet = new PriorityQueue<>();
         Set<Point> closedSet = new HashSet<>();
         Map<Point, Node> allNodes = new HashMap<>();
@@ -60,6 +105,7 @@ public class PathFinder {
 
         while (!openSet.isEmpty()) {
             Node current = openSet.poll();
+            event.nodesExpanded++;
 
             if (current.pos.equals(goal)) {
                 return reconstructPath(current);
@@ -90,6 +136,159 @@ public class PathFinder {
         return null;
     }
 
+    /**
+     * Runs Jump Point Search for a 4-connected grid. Paths are kept in a canonical form where a vertical run may turn
+     * sideways anywhere, but a horizontal run only turns where a wall beside it has just ended (a forced neighbour).
+     * The search therefore only stops on such cells, on cells from which a horizontal scan reaches one, and on the goal.
+     * @param start the start position (row, col)
+     * @param goal the goal position (row, col)
+     * @param walkable a 2D boolean array where true indicates a passable cell
+     * @param event the pathfinding event whose expansion count is updated
+     * @return a list of Points representing the path or null if none found
+     */
+    private static List<Point> jumpPointSearch(Point start, Point goal, boolean[][] walkable,
+                                               GameEvents.PathfindingEvent event) {
+        if (!isOpen(walkable, start.x, start.y) || !isOpen(walkable, goal.x, goal.y)) {
+            return null;
+        }
+        PriorityQueue<Node> openSet = new PriorityQueue<>();
+        Set<Point> closedSet = new HashSet<>();
+        Map<Point, Node> allNodes = new HashMap<>();
+
+        Node startNode = new Node(start, null, 0, heuristic(start, goal));
+        openSet.add(startNode);
+        allNodes.put(start, startNode);
+
+        while (!openSet.isEmpty()) {
+            Node current = openSet.poll();
+            if (closedSet.contains(current.pos)) {
+                continue;
+            }
+            event.nodesExpanded++;
+
+            if (current.pos.equals(goal)) {
+                return expandJumps(current);
+            }
+            closedSet.add(current.pos);
+
+            for (int[] dir : prunedDirections(current, walkable)) {
+                Point jumpPoint = jump(current.pos.x, current.pos.y, dir[0], dir[1], goal, walkable);
+                if (jumpPoint == null || closedSet.contains(jumpPoint)) {
+                    continue;
+                }
+                double newG = current.g + heuristic(current.pos, jumpPoint);
+                Node jumpNode = allNodes.get(jumpPoint);
+                if (jumpNode == null || newG < jumpNode.g) {
+                    // Stale queue entries are skipped when polled instead of being removed here
+                    jumpNode = new Node(jumpPoint, current, newG, heuristic(jumpPoint, goal));
+                    allNodes.put(jumpPoint, jumpNode);
+                    openSet.add(jumpNode);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Chooses the directions worth searching from a jump point, based on the direction it was reached from.
+     * @param node the jump point being expanded
+     * @param walkable a 2D boolean array
+     * @return (row step, column step) pairs
+     */
+    private static List<int[]> prunedDirections(Node node, boolean[][] walkable) {
+        List<int[]> dirs = new ArrayList<>();
+        int r = node.pos.x;
+        int c = node.pos.y;
+        if (node.parent == null) {
+            dirs.add(new int[]{0, 1});
+            dirs.add(new int[]{0, -1});
+            dirs.add(new int[]{1, 0});
+            dirs.add(new int[]{-1, 0});
+            return dirs;
+        }
+        int dr = Integer.signum(r - node.parent.pos.x);
+        int dc = Integer.signum(c - node.parent.pos.y);
+        if (dr != 0) {
+            // Reached vertically: keep going, and sideways is always allowed
+            dirs.add(new int[]{dr, 0});
+            dirs.add(new int[]{0, 1});
+            dirs.add(new int[]{0, -1});
+        } else {
+            // Reached horizontally: keep going, and turn only towards forced neighbours
+            dirs.add(new int[]{0, dc});
+            for (int side = -1; side <= 1; side += 2) {
+                if (isOpen(walkable, r + side, c) && !isOpen(walkable, r + side, c - dc)) {
+                    dirs.add(new int[]{side, 0});
+                }
+            }
+        }
+        return dirs;
+    }
+
+    /**
+     * Walks from a cell in one direction until it reaches the goal, a jump point, or a blocked cell.
+     * @param r the row to start from (not itself tested)
+     * @param c the column to start from
+     * @param dr the row step
+     * @param dc the column step
+     * @param goal the goal position
+     * @param walkable a 2D boolean array
+     * @return the jump point found, or null if the walk runs into a blocked cell first
+     */
+    private static Point jump(int r, int c, int dr, int dc, Point goal, boolean[][] walkable) {
+        while (true) {
+            r += dr;
+            c += dc;
+            if (!isOpen(walkable, r, c)) {
+                return null;
+            }
+            if (r == goal.x && c == goal.y) {
+                return new Point(r, c);
+            }
+            if (dr == 0) {
+                for (int side = -1; side <= 1; side += 2) {
+                    if (isOpen(walkable, r + side, c) && !isOpen(walkable, r + side, c - dc)) {
+                        return new Point(r, c);
+                    }
+                }
+            } else if (jump(r, c, 0, 1, goal, walkable) != null || jump(r, c, 0, -1, goal, walkable) != null) {
+                return new Point(r, c);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the full cell-by-cell path from a chain of jump points joined by straight lines.
+     * @param endNode the goal node
+     * @return a list of Point objects from start to goal
+     */
+    private static List<Point> expandJumps(Node endNode) {
+        List<Point> jumps = reconstructPath(endNode);
+        List<Point> path = new ArrayList<>();
+        path.add(jumps.get(0));
+        for (int i = 1; i < jumps.size(); i++) {
+            Point from = jumps.get(i - 1);
+            Point to = jumps.get(i);
+            int dr = Integer.signum(to.x - from.x);
+            int dc = Integer.signum(to.y - from.y);
+            int r = from.x;
+            int c = from.y;
+            while (r != to.x || c != to.y) {
+                r += dr;
+                c += dc;
+                path.add(new Point(r, c));
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Checks whether a cell is inside the grid and passable.
+     */
+    private static boolean isOpen(boolean[][] walkable, int r, int c) {
+        return r >= 0 && r < walkable.length && c >= 0 && c < walkable[0].length && walkable[r][c];
+    }
+
     /**
      * A heuristic function measuring approximate distance between two points (Manhattan distance).
      * @param a the current point
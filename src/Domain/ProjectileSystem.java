@@ -0,0 +1,321 @@
+package Domain;
+
+import UI.BuildModePanel;
+import UI.BuildModePanel.PlacedObject;
+
+import java.awt.*;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+/**
+ * Stores every arrow in flight in parallel primitive arrays and updates them in one loop per tick.
+ * Removed arrows are swapped with the last live arrow, so no objects are allocated while arrows fly or hit.
+ * Collisions are swept along the whole path travelled since the last tick, so arrows cannot skip over
+ * walls, objects or the hero no matter how far they move in one step.
+ */
+public class ProjectileSystem {
+    private static final int CELL_SIZE = 64;
+    private static final double SPEED = 60.0 / 500.0; // pixels per millisecond (60 px every 500 ms tick)
+    private static final double MAX_RANGE = 3 * 64;
+    private static final int ARROW_LENGTH = 30;
+    private static final int ARROW_HEAD_SIZE = 8;
+    private static final int ARROW_HEAD_HALF_WIDTH = 4;
+    private static final int HIT_MARGIN = 5;
+    private static final Color ARROW_COLOR = new Color(200, 200, 200);
+    private static final BasicStroke ARROW_STROKE = new BasicStroke(2);
+
+    private final BuildModePanel.CellType[][] grid;
+    private final PlacedObject[][] placedObjects;
+
+    private double[] posX, posY;
+    private double[] velX, velY;
+    private double[] angle;
+    private double[] originX, originY;
+    private ArcherMonster[] owner;
+    private int count = 0;
+
+    // Reused by draw() so rendering does not allocate per frame
+    private final Path2D.Double shafts = new Path2D.Double();
+    private final Path2D.Double heads = new Path2D.Double();
+
+    /**
+     * Constructs an empty projectile system for the given hall layout.
+     * @param grid the 2D CellType array used to stop arrows at walls
+     * @param placedObjects the 2D array of placed objects that also stop arrows
+     */
+    public ProjectileSystem(BuildModePanel.CellType[][] grid, PlacedObject[][] placedObjects) {
+        this.grid = grid;
+        this.placedObjects = placedObjects;
+        allocate(64);
+    }
+
+    /**
+     * Fires a new arrow from a start point towards a target point.
+     * @param shooter the archer that fired the arrow
+     * @param startX the x-coordinate the arrow is fired from
+     * @param startY the y-coordinate the arrow is fired from
+     * @param targetX the x-coordinate the arrow is aimed at
+     * @param targetY the y-coordinate the arrow is aimed at
+     */
+    public void spawn(ArcherMonster shooter, double startX, double startY, double targetX, double targetY) {
+        if (count == posX.length) {
+            allocate(count * 2);
+        }
+        double a = Math.atan2(targetY - startY, targetX - startX);
+        int i = count++;
+        posX[i] = startX;
+        posY[i] = startY;
+        originX[i] = startX;
+        originY[i] = startY;
+        angle[i] = a;
+        velX[i] = Math.cos(a) * SPEED;
+        velY[i] = Math.sin(a) * SPEED;
+        owner[i] = shooter;
+    }
+
+    /**
+     * Advances every arrow by the given amount of game time, resolving range, hero hits and wall/object hits.
+     * Each arrow's movement is treated as a segment; whichever of the hero or a blocking cell it reaches first wins.
+     * @param hero the hero arrows can hit
+     * @param elapsedMs the game time since the previous update in milliseconds
+     */
+    public void update(Hero hero, long elapsedMs) {
+        double left = hero.getX() - HIT_MARGIN;
+        double top = hero.getY() - HIT_MARGIN;
+        double right = left + hero.getWidth() + 2 * HIT_MARGIN;
+        double bottom = top + hero.getHeight() + 2 * HIT_MARGIN;
+
+        int i = 0;
+        while (i < count) {
+            double x = posX[i];
+            double y = posY[i];
+            double dx = velX[i] * elapsedMs;
+            double dy = velY[i] * elapsedMs;
+            double travelled = Math.hypot(x - originX[i], y - originY[i]);
+            double step = Math.hypot(dx, dy);
+            double limit = step > 0 ? Math.min(1.0, (MAX_RANGE - travelled) / step) : 1.0;
+
+            double tHero = segmentEntersBox(x, y, dx, dy, limit, left, top, right, bottom);
+            double tBlock = firstBlockedCell(x, y, dx, dy, Math.min(limit, tHero));
+
+            if (tHero <= limit && tHero <= tBlock) {
+                if (owner[i] != null) {
+                    owner[i].onArrowHit(x + dx * tHero, y + dy * tHero, angle[i]);
+                }
+                remove(i);
+                continue;
+            }
+            if (tBlock <= limit || limit < 1.0) {
+                // Stuck in a wall/object, or flew past its maximum range
+                remove(i);
+                continue;
+            }
+            posX[i] = x + dx;
+            posY[i] = y + dy;
+            i++;
+        }
+    }
+
+    /**
+     * Finds where a segment first enters an axis-aligned box (slab test).
+     * @param x the segment start x
+     * @param y the segment start y
+     * @param dx the segment length along x
+     * @param dy the segment length along y
+     * @param limit the largest segment parameter to consider
+     * @return the segment parameter of the entry point, or infinity if the box is not reached within the limit
+     */
+    private static double segmentEntersBox(double x, double y, double dx, double dy, double limit,
+                                           double left, double top, double right, double bottom) {
+        double tMin = 0;
+        double tMax = limit;
+
+        if (dx == 0) {
+            if (x < left || x >= right) return Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (left - x) / dx;
+            double t2 = (right - x) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        if (dy == 0) {
+            if (y < top || y >= bottom) return Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (top - y) / dy;
+            double t2 = (bottom - y) / dy;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        return tMin <= tMax ? tMin : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Walks the grid cells crossed by a segment (DDA traversal) and finds the first one that stops arrows.
+     * @param x the segment start x
+     * @param y the segment start y
+     * @param dx the segment length along x
+     * @param dy the segment length along y
+     * @param limit the largest segment parameter to consider
+     * @return the segment parameter where the blocking cell is entered, or infinity if none is reached
+     */
+    private double firstBlockedCell(double x, double y, double dx, double dy, double limit) {
+        int cx = (int) Math.floor(x / CELL_SIZE);
+        int cy = (int) Math.floor(y / CELL_SIZE);
+        if (isBlocked(cx, cy)) {
+            return 0;
+        }
+
+        int stepX = dx > 0 ? 1 : (dx < 0 ? -1 : 0);
+        int stepY = dy > 0 ? 1 : (dy < 0 ? -1 : 0);
+        double tDeltaX = stepX != 0 ? CELL_SIZE / Math.abs(dx) : Double.POSITIVE_INFINITY;
+        double tDeltaY = stepY != 0 ? CELL_SIZE / Math.abs(dy) : Double.POSITIVE_INFINITY;
+        double tMaxX = stepX > 0 ? ((cx + 1) * CELL_SIZE - x) / dx
+                : stepX < 0 ? (cx * CELL_SIZE - x) / dx : Double.POSITIVE_INFINITY;
+        double tMaxY = stepY > 0 ? ((cy + 1) * CELL_SIZE - y) / dy
+                : stepY < 0 ? (cy * CELL_SIZE - y) / dy : Double.POSITIVE_INFINITY;
+
+        while (true) {
+            double t;
+            if (tMaxX < tMaxY) {
+                t = tMaxX;
+                cx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                t = tMaxY;
+                cy += stepY;
+                tMaxY += tDeltaY;
+            }
+            if (t > limit) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (isBlocked(cx, cy)) {
+                return t;
+            }
+        }
+    }
+
+    /**
+     * Draws every arrow in flight as one stroked path for the shafts and one filled path for the heads.
+     * @param g the Graphics context for drawing
+     */
+    public void draw(Graphics g) {
+        if (count == 0) {
+            return;
+        }
+        shafts.reset();
+        heads.reset();
+        for (int i = 0; i < count; i++) {
+            double cos = velX[i] / SPEED;
+            double sin = velY[i] / SPEED;
+            double x = posX[i];
+            double y = posY[i];
+            double tipX = x + cos * ARROW_LENGTH;
+            double tipY = y + sin * ARROW_LENGTH;
+            double baseX = x + cos * (ARROW_LENGTH - ARROW_HEAD_SIZE);
+            double baseY = y + sin * (ARROW_LENGTH - ARROW_HEAD_SIZE);
+
+            shafts.moveTo(x, y);
+            shafts.lineTo(tipX, tipY);
+
+            heads.moveTo(tipX, tipY);
+            heads.lineTo(baseX - sin * ARROW_HEAD_HALF_WIDTH, baseY + cos * ARROW_HEAD_HALF_WIDTH);
+            heads.lineTo(baseX + sin * ARROW_HEAD_HALF_WIDTH, baseY - cos * ARROW_HEAD_HALF_WIDTH);
+            heads.closePath();
+        }
+
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setColor(ARROW_COLOR);
+        g2d.setStroke(ARROW_STROKE);
+        g2d.draw(shafts);
+        g2d.fill(heads);
+        g2d.dispose();
+    }
+
+    /**
+     * Removes every arrow fired by the given archer.
+     * @param shooter the archer whose arrows should disappear
+     */
+    public void removeOwnedBy(ArcherMonster shooter) {
+        int i = 0;
+        while (i < count) {
+            if (owner[i] == shooter) {
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Removes every arrow in flight.
+     */
+    public void clear() {
+        Arrays.fill(owner, 0, count, null);
+        count = 0;
+    }
+
+    /**
+     * Returns the number of arrows currently in flight.
+     * @return the arrow count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Removes the arrow at index i by moving the last arrow into its slot.
+     * @param i the index to remove
+     */
+    private void remove(int i) {
+        int last = --count;
+        posX[i] = posX[last];
+        posY[i] = posY[last];
+        velX[i] = velX[last];
+        velY[i] = velY[last];
+        angle[i] = angle[last];
+        originX[i] = originX[last];
+        originY[i] = originY[last];
+        owner[i] = owner[last];
+        owner[last] = null;
+    }
+
+    /**
+     * Grows every component array to the given capacity, keeping existing arrows.
+     * @param capacity the new capacity
+     */
+    private void allocate(int capacity) {
+        if (posX == null) {
+            posX = new double[capacity];
+            posY = new double[capacity];
+            velX = new double[capacity];
+            velY = new double[capacity];
+            angle = new double[capacity];
+            originX = new double[capacity];
+            originY = new double[capacity];
+            owner = new ArcherMonster[capacity];
+            return;
+        }
+        posX = Arrays.copyOf(posX, capacity);
+        posY = Arrays.copyOf(posY, capacity);
+        velX = Arrays.copyOf(velX, capacity);
+        velY = Arrays.copyOf(velY, capacity);
+        angle = Arrays.copyOf(angle, capacity);
+        originX = Arrays.copyOf(originX, capacity);
+        originY = Arrays.copyOf(originY, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+    }
+
+    /**
+     * Checks whether an arrow cannot pass through the given cell (outside the hall, a wall, or a placed object).
+     * @param col the column index
+     * @param row the row index
+     * @return true if the cell stops arrows
+     */
+    private boolean isBlocked(int col, int row) {
+        if (col < 0 || row < 0 || col >= grid[0].length || row >= grid.length) {
+            return true;
+        }
+        return grid[row][col] == BuildModePanel.CellType.WALL || placedObjects[row][col] != null;
+    }
+}
@@ -0,0 +1,29 @@
+package Domain;
+
+import java.util.Random;
+
+/**
+ * The baseline bot: wanders at random, searching every object it passes, and ignores enchantments and monsters.
+ * It only heads for the door by chance, so its results show how much a hall punishes aimless play.
+ */
+public class RandomWalkBot extends ScriptedHeroBot {
+
+    /**
+     * @param random the random source for the bot's choices
+     */
+    public RandomWalkBot(Random random) {
+        super(random);
+    }
+
+    @Override
+    public HeroAction nextAction(HeroView view) {
+        if (!view.isRuneFound()) {
+            forgetIfAllSearched(view);
+            HeroAction search = searchAdjacent(view);
+            if (search != null) {
+                return search;
+            }
+        }
+        return randomStep(view);
+    }
+}
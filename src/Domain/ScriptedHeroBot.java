@@ -0,0 +1,164 @@
+package Domain;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Common ground for the scripted bots: a random source, a memory of which objects have already been searched and
+ * a breadth-first search over the hall for the next step towards a set of cells.
+ */
+public abstract class ScriptedHeroBot implements HeroController {
+    protected static final int[] DR = {-1, 1, 0, 0};
+    protected static final int[] DC = {0, 0, -1, 1};
+
+    protected final Random random;
+    private boolean[] searched;
+    private int[] queue;
+    private int[] firstStep;
+
+    /**
+     * @param random the random source for the bot's choices
+     */
+    protected ScriptedHeroBot(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Searches an object next to the hero that has not been searched yet.
+     * @param view the hall
+     * @return a SEARCH action, or null if every object in reach has been searched
+     */
+    protected HeroAction searchAdjacent(HeroView view) {
+        ensureCapacity(view);
+        int hr = view.getHeroRow();
+        int hc = view.getHeroCol();
+        for (int r = hr - 1; r <= hr + 1; r++) {
+            for (int c = hc - 1; c <= hc + 1; c++) {
+                if (view.hasObject(r, c) && !isSearched(view, r, c)) {
+                    searched[r * view.getCols() + c] = true;
+                    return HeroAction.search(r, c);
+                }
+            }
+        }
+        return null;
+    }
+
+    protected boolean isSearched(HeroView view, int row, int col) {
+        ensureCapacity(view);
+        return searched[row * view.getCols() + col];
+    }
+
+    /**
+     * Forgets that objects were searched, e.g. once all of them have been and a wizard must have moved the rune.
+     * @param view the hall
+     * @param top the first row to forget
+     * @param left the first column to forget
+     * @param height the number of rows
+     * @param width the number of columns
+     */
+    protected void forgetSearched(HeroView view, int top, int left, int height, int width) {
+        ensureCapacity(view);
+        for (int r = Math.max(0, top); r < Math.min(view.getRows(), top + height); r++) {
+            for (int c = Math.max(0, left); c < Math.min(view.getCols(), left + width); c++) {
+                searched[r * view.getCols() + c] = false;
+            }
+        }
+    }
+
+    /**
+     * Forgets every search once all objects have been searched without finding the rune, which means a wizard
+     * has moved it into an object that was already searched.
+     * @param view the hall
+     */
+    protected void forgetIfAllSearched(HeroView view) {
+        for (int r = 0; r < view.getRows(); r++) {
+            for (int c = 0; c < view.getCols(); c++) {
+                if (view.hasObject(r, c) && !isSearched(view, r, c)) {
+                    return;
+                }
+            }
+        }
+        forgetSearched(view, 0, 0, view.getRows(), view.getCols());
+    }
+
+    /**
+     * Finds the first step of a shortest walk from the hero to any goal cell.
+     * @param view the hall
+     * @param goals the goal cells, indexed by row * cols + col
+     * @param avoidMonsters whether cells with monsters on them count as blocked
+     * @return the index of the direction in {@link #DR} and {@link #DC}, or -1 if no goal can be reached
+     *         or the hero already stands on one
+     */
+    protected int firstStepTowards(HeroView view, boolean[] goals, boolean avoidMonsters) {
+        ensureCapacity(view);
+        int cols = view.getCols();
+        int start = view.getHeroRow() * cols + view.getHeroCol();
+        if (goals[start]) {
+            return -1;
+        }
+        boolean[] blocked = new boolean[view.getRows() * cols];
+        if (avoidMonsters) {
+            for (int i = 0; i < view.getMonsterCount(); i++) {
+                blocked[view.getMonsterRow(i) * cols + view.getMonsterCol(i)] = true;
+            }
+        }
+        Arrays.fill(firstStep, -2);
+        firstStep[start] = -1;
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int cell = queue[head++];
+            int r = cell / cols;
+            int c = cell % cols;
+            for (int d = 0; d < 4; d++) {
+                int nr = r + DR[d];
+                int nc = c + DC[d];
+                if (!view.isWalkable(nr, nc)) continue;
+                int next = nr * cols + nc;
+                if (firstStep[next] != -2 || blocked[next]) continue;
+                firstStep[next] = cell == start ? d : firstStep[cell];
+                if (goals[next]) {
+                    return firstStep[next];
+                }
+                queue[tail++] = next;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Steps in a random open direction.
+     * @param view the hall
+     * @return a MOVE action, or IDLE if the hero is boxed in
+     */
+    protected HeroAction randomStep(HeroView view) {
+        int offset = random.nextInt(4);
+        for (int i = 0; i < 4; i++) {
+            int d = (offset + i) % 4;
+            int r = view.getHeroRow() + DR[d];
+            int c = view.getHeroCol() + DC[d];
+            if (view.isWalkable(r, c) && !hasMonster(view, r, c)) {
+                return HeroAction.move(DR[d], DC[d]);
+            }
+        }
+        return HeroAction.idle();
+    }
+
+    protected static boolean hasMonster(HeroView view, int row, int col) {
+        for (int i = 0; i < view.getMonsterCount(); i++) {
+            if (view.getMonsterRow(i) == row && view.getMonsterCol(i) == col) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureCapacity(HeroView view) {
+        int size = view.getRows() * view.getCols();
+        if (searched == null || searched.length != size) {
+            searched = new boolean[size];
+            queue = new int[size];
+            firstStep = new int[size];
+        }
+    }
+}
@@ -0,0 +1,785 @@
+package Domain;
+
+import Controller.GameController;
+import UI.BuildModePanel;
+import UI.GamePanel;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A headless copy of one hall of play mode, for running many games quickly with a {@link HeroController},
+ * usually a scripted bot, at the controls.
+ * It follows the rules GamePanel and the monsters apply, in grid cells and game time instead of pixels, Swing
+ * timers and the Hero singleton: monsters and enchantments spawn on the same timers and cells, archers shoot arrows
+ * that fly and hit like those of the ProjectileSystem, fighters attack and chase the lure, wizards move the rune or
+ * the hero depending on the time left, and the clock counts down from the object count. Every monster acts on
+ * every tick: the game only throttles distant monsters once a hall holds more than
+ * {@link MonsterLodScheduler#ACTIVATION_COUNT}, which a shipped hall never reaches, so that rule is not copied.
+ * No images or sounds are
+ * loaded and nothing is printed, so thousands of halls can be played side by side.
+ * Game time jumps from one scheduled event to the next, so a game takes as long as it has events, not as long as
+ * it would on screen. Each hall plays one game and is repeatable for a given seed and bot.
+ */
+public class SimulatedHall implements HeroView {
+    private static final int CELL_SIZE = 64;
+    private static final double ARROW_SPEED = 60.0 / 500.0; // pixels per millisecond, as in the ProjectileSystem
+    private static final double ARROW_SUBSTEP = 4.0;        // pixels between hit tests along an arrow's flight
+    private static final int HIT_MARGIN = 5;
+    private static final int SPAWN_TRIES = 50;
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private static final int BEHAVIOR_NONE = 0;
+    private static final int BEHAVIOR_CHALLENGE = 1;
+    private static final int BEHAVIOR_INDECISIVE = 2;
+
+    /**
+     * The balance constants a simulation runs with. The defaults are read from the game's own constants, so
+     * changing those changes the simulation too.
+     */
+    public static final class Rules {
+        /** Seconds on the clock per placed object. */
+        public int timePerObject = GameController.TIME_PER_OBJECT;
+        /** Milliseconds between hero actions, roughly how fast a player presses keys and clicks. */
+        public long heroStepMs = 250;
+        public int heroHealth = Hero.STARTING_HEALTH;
+        public long monsterSpawnMs = GamePanel.MONSTER_SPAWN_MS;
+        public long enchantmentSpawnMs = GamePanel.ENCHANTMENT_SPAWN_MS;
+        public long monsterTickMs = GamePanel.MONSTER_TICK_MS;
+        /** How far archers see, in cells. Their arrows fly the same distance. */
+        public int archerRange = ArcherMonster.SIGHT_RADIUS;
+        public long archerShootDelayMs = ArcherMonster.SHOOT_DELAY;
+        public long enchantmentLifetimeMs = Enchantment.LIFETIME_MS;
+        public long revealMs = GamePanel.REVEAL_DURATION_MS;
+        public long cloakMs = GamePanel.CLOAK_DURATION_MS;
+        public long lureMs = GamePanel.LURE_DURATION_MS;
+        public long lureThrowMs = GamePanel.THROW_DURATION;
+        public int lureDistance = GamePanel.LURE_DISTANCE;
+        public int extraTimeSeconds = GamePanel.EXTRA_TIME_SECONDS;
+        public long wizardTeleportMs = ChallengeHeroBehavior.RUNE_TELEPORT_MS;
+        public long wizardIndecisiveMs = IndecisiveBehavior.LEAVE_DELAY_MS;
+
+        /**
+         * Copies another set of rules.
+         * @return a copy that can be changed independently
+         */
+        public Rules copy() {
+            Rules copy = new Rules();
+            copy.timePerObject = timePerObject;
+            copy.heroStepMs = heroStepMs;
+            copy.heroHealth = heroHealth;
+            copy.monsterSpawnMs = monsterSpawnMs;
+            copy.enchantmentSpawnMs = enchantmentSpawnMs;
+            copy.monsterTickMs = monsterTickMs;
+            copy.archerRange = archerRange;
+            copy.archerShootDelayMs = archerShootDelayMs;
+            copy.enchantmentLifetimeMs = enchantmentLifetimeMs;
+            copy.revealMs = revealMs;
+            copy.cloakMs = cloakMs;
+            copy.lureMs = lureMs;
+            copy.lureThrowMs = lureThrowMs;
+            copy.lureDistance = lureDistance;
+            copy.extraTimeSeconds = extraTimeSeconds;
+            copy.wizardTeleportMs = wizardTeleportMs;
+            copy.wizardIndecisiveMs = wizardIndecisiveMs;
+            return copy;
+        }
+    }
+
+    /**
+     * How a game ended.
+     */
+    public enum Outcome {
+        ESCAPED, DIED, TIME_UP
+    }
+
+    /**
+     * The result of one game.
+     */
+    public static final class Result {
+        private final Outcome outcome;
+        private final long durationMs;
+        private final long runeFoundMs;
+        private final int damageTaken;
+        private final int timeLeft;
+        private final int enchantmentsUsed;
+
+        Result(Outcome outcome, long durationMs, long runeFoundMs, int damageTaken, int timeLeft,
+               int enchantmentsUsed) {
+            this.outcome = outcome;
+            this.durationMs = durationMs;
+            this.runeFoundMs = runeFoundMs;
+            this.damageTaken = damageTaken;
+            this.timeLeft = timeLeft;
+            this.enchantmentsUsed = enchantmentsUsed;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        /**
+         * Returns the game time the hall was played for.
+         * @return the duration in milliseconds
+         */
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        /**
+         * Returns when the rune was found.
+         * @return the game time in milliseconds, or -1 if it was never found
+         */
+        public long getRuneFoundMs() {
+            return runeFoundMs;
+        }
+
+        /**
+         * Returns the health points lost to arrows and fighters.
+         * @return the damage taken
+         */
+        public int getDamageTaken() {
+            return damageTaken;
+        }
+
+        /**
+         * Returns the seconds left on the clock when the game ended.
+         * @return the time left
+         */
+        public int getTimeLeft() {
+            return timeLeft;
+        }
+
+        public int getEnchantmentsUsed() {
+            return enchantmentsUsed;
+        }
+    }
+
+    /**
+     * A monster in the simulation: just its type, cell and the state its timers need.
+     */
+    private static final class SimMonster {
+        final MonsterType type;
+        int row, col;
+        long lastShot = Long.MIN_VALUE / 2;
+        int behavior = BEHAVIOR_NONE;
+        long nextActionAt;
+        boolean removed;
+
+        SimMonster(MonsterType type, int row, int col) {
+            this.type = type;
+            this.row = row;
+            this.col = col;
+        }
+    }
+
+    /**
+     * An enchantment lying on the floor until it is collected or expires.
+     */
+    private static final class FloorEnchantment {
+        final EnchantmentType type;
+        final int row, col;
+        final long expiresAt;
+
+        FloorEnchantment(EnchantmentType type, int row, int col, long expiresAt) {
+            this.type = type;
+            this.row = row;
+            this.col = col;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * An arrow in flight, in pixels like the ProjectileSystem's.
+     */
+    private static final class Arrow {
+        double x, y;
+        final double originX, originY, velX, velY;
+
+        Arrow(double x, double y, double targetX, double targetY) {
+            this.x = x;
+            this.y = y;
+            this.originX = x;
+            this.originY = y;
+            double angle = Math.atan2(targetY - y, targetX - x);
+            this.velX = Math.cos(angle) * ARROW_SPEED;
+            this.velY = Math.sin(angle) * ARROW_SPEED;
+        }
+    }
+
+    private final Rules rules;
+    private final Random random;
+    private final int rows, cols;
+    private final BuildModePanel.CellType[][] grid;
+    private final boolean[][] objects;
+    private final boolean[][] walkable;
+    private final Visibility visibility;
+    private final List<Point> objectCells = new ArrayList<>();   // including the door, which can hold the rune
+    private final List<SimMonster> monsters = new ArrayList<>();
+    private final List<FloorEnchantment> floorEnchantments = new ArrayList<>();
+    private final List<Arrow> arrows = new ArrayList<>();
+    private final int[] inventory = new int[EnchantmentType.values().length];
+    private int inventorySize = 0;
+
+    private long now = 0;
+    private int heroRow, heroCol;
+    private int heroHealth;
+    private int damageTaken = 0;
+    private int runeRow = -1, runeCol = -1;
+    private long runeFoundAt = -1;
+    private final int startingTime;
+    private int timeRemaining;
+    private long revealUntil = -1, cloakUntil = -1;
+    private int revealTopRow, revealLeftCol;
+    private long lureLandsAt = -1, lureUntil = -1;
+    private int lureRow, lureCol;
+    private int enchantmentsUsed = 0;
+    private Outcome outcome;
+
+    /**
+     * Sets up a hall: places the objects, hides the rune and spawns the hero, as play mode does on entering it.
+     * @param grid the wall layout, e.g. from {@link BuildModePanel#createHallGrid()}
+     * @param objectTypes for each cell an object type index, or -1 for an empty cell, e.g. a generated layout
+     * @param rules the balance constants to play with
+     * @param seed the seed that makes the game repeatable
+     */
+    public SimulatedHall(BuildModePanel.CellType[][] grid, int[][] objectTypes, Rules rules, long seed) {
+        this.rules = rules;
+        this.random = new Random(seed);
+        this.grid = grid;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.objects = new boolean[rows][cols];
+
+        BuildModePanel.PlacedObject[][] placed = new BuildModePanel.PlacedObject[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (objectTypes[r][c] >= 0) {
+                    objects[r][c] = true;
+                    placed[r][c] = new BuildModePanel.PlacedObject(null, r, c, false);
+                    objectCells.add(new Point(r, c));
+                }
+            }
+        }
+        startingTime = objectCells.size() * rules.timePerObject;
+        timeRemaining = startingTime;
+
+        // The rune is hidden before the door is placed, so only a wizard can move it into the door
+        if (!objectCells.isEmpty()) {
+            Point holder = objectCells.get(random.nextInt(objectCells.size()));
+            runeRow = holder.x;
+            runeCol = holder.y;
+        }
+        placed[BuildModePanel.DOOR_ROW][BuildModePanel.DOOR_COL] = new BuildModePanel.PlacedObject(null,
+                BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL, false);
+        objectCells.add(new Point(BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL));
+
+        visibility = new Visibility(grid, placed, BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL);
+        walkable = HierarchicalPathFinder.walkableFrom(grid, placed, BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL);
+
+        HallValidator validator = new HallValidator(grid, BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL);
+        validator.load(placed);
+        List<Point> spawnable = validator.getSpawnableCells();
+        Point start = spawnable.isEmpty() ? new Point(2, 2) : spawnable.get(random.nextInt(spawnable.size()));
+        heroRow = start.x;
+        heroCol = start.y;
+        heroHealth = rules.heroHealth;
+    }
+
+    /**
+     * Plays the hall to the end with a controller choosing the hero's actions.
+     * @param controller the controller to play with
+     * @return how the game went
+     */
+    public Result play(HeroController controller) {
+        for (EnchantmentType type : EnchantmentType.values()) {
+            spawnEnchantment(type);
+        }
+        long nextMonsterSpawn = 0;
+        long nextEnchantmentSpawn = 0;
+        long nextHeroStep = 0;
+        long nextMonsterTick = rules.monsterTickMs;
+        long nextClockTick = 1000;
+
+        while (outcome == null) {
+            now = Math.min(Math.min(nextMonsterSpawn, nextEnchantmentSpawn),
+                    Math.min(nextHeroStep, Math.min(nextMonsterTick, nextClockTick)));
+            floorEnchantments.removeIf(e -> e.expiresAt <= now);
+            landLure();
+
+            if (now == nextMonsterSpawn) {
+                spawnMonster();
+                nextMonsterSpawn += rules.monsterSpawnMs;
+            }
+            if (now == nextEnchantmentSpawn) {
+                spawnEnchantment(EnchantmentType.getRandomType(random));
+                nextEnchantmentSpawn += rules.enchantmentSpawnMs;
+            }
+            if (now == nextHeroStep) {
+                act(controller.nextAction(this));
+                nextHeroStep += rules.heroStepMs;
+            }
+            if (outcome == null && now == nextMonsterTick) {
+                monsterTick();
+                nextMonsterTick += rules.monsterTickMs;
+            }
+            if (outcome == null && now == nextClockTick) {
+                timeRemaining--;
+                if (timeRemaining <= 0) {
+                    outcome = Outcome.TIME_UP;
+                }
+                nextClockTick += 1000;
+            }
+        }
+        return new Result(outcome, now, runeFoundAt, damageTaken, Math.max(0, timeRemaining), enchantmentsUsed);
+    }
+
+    /**
+     * Carries out the hero's action. Actions that are not possible right now are ignored, as a key press or
+     * click that does nothing would be.
+     */
+    private void act(HeroAction action) {
+        switch (action.getKind()) {
+            case MOVE: {
+                int r = heroRow + action.getRow();
+                int c = heroCol + action.getCol();
+                if (isWalkable(r, c) && monsterAt(r, c) == null) {
+                    heroRow = r;
+                    heroCol = c;
+                    if (heroRow == BuildModePanel.DOOR_ROW - 1 && heroCol == BuildModePanel.DOOR_COL && isRuneFound()) {
+                        outcome = Outcome.ESCAPED;
+                    }
+                }
+                break;
+            }
+            case SEARCH: {
+                int r = action.getRow();
+                int c = action.getCol();
+                if (hasObject(r, c) && Math.abs(r - heroRow) <= 1 && Math.abs(c - heroCol) <= 1
+                        && r == runeRow && c == runeCol && !isRuneFound()) {
+                    runeFoundAt = now;
+                }
+                break;
+            }
+            case COLLECT:
+                collect(action.getRow(), action.getCol());
+                break;
+            case USE_ENCHANTMENT:
+                useEnchantment(action.getEnchantment());
+                break;
+            case THROW_LURE:
+                throwLure(action.getRow(), action.getCol());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Picks up an enchantment from the floor. Like a click in the game, this works from anywhere in the hall.
+     */
+    private void collect(int row, int col) {
+        for (int i = 0; i < floorEnchantments.size(); i++) {
+            FloorEnchantment e = floorEnchantments.get(i);
+            if (e.row != row || e.col != col) {
+                continue;
+            }
+            switch (e.type) {
+                case EXTRALIFE:
+                    heroHealth++;
+                    break;
+                case EXTRATIME:
+                    timeRemaining += rules.extraTimeSeconds;
+                    break;
+                default:
+                    if (isInventoryFull()) {
+                        return; // left on the floor
+                    }
+                    inventory[e.type.ordinal()]++;
+                    inventorySize++;
+                    break;
+            }
+            floorEnchantments.remove(i);
+            return;
+        }
+    }
+
+    private void useEnchantment(EnchantmentType type) {
+        if (type == null || inventory[type.ordinal()] == 0) {
+            return;
+        }
+        if (type == EnchantmentType.REVEAL) {
+            pickRevealRegion();
+            revealUntil = now + rules.revealMs;
+        } else if (type == EnchantmentType.CLOAK) {
+            cloakUntil = now + rules.cloakMs;
+        } else {
+            return;
+        }
+        inventory[type.ordinal()]--;
+        inventorySize--;
+        enchantmentsUsed++;
+    }
+
+    /**
+     * Chooses the 4x4 region that contains the rune, the same way GamePanel does.
+     */
+    private void pickRevealRegion() {
+        revealTopRow = Math.max(0, Math.min(rows - 4, runeRow - Math.min(runeRow, 3)));
+        revealLeftCol = Math.max(0, Math.min(cols - 4, runeCol - Math.min(runeCol, 3)));
+    }
+
+    /**
+     * Throws a luring gem. It lands after the throw time and is only taken from the inventory then.
+     */
+    private void throwLure(int dRow, int dCol) {
+        if (inventory[EnchantmentType.LURINGGEM.ordinal()] == 0 || lureLandsAt > now
+                || Math.abs(dRow) + Math.abs(dCol) != 1) {
+            return;
+        }
+        int r = heroRow + dRow * rules.lureDistance;
+        int c = heroCol + dCol * rules.lureDistance;
+        if (r < 0 || r >= rows || c < 0 || c >= cols || grid[r][c] == BuildModePanel.CellType.WALL) {
+            return;
+        }
+        lureRow = r;
+        lureCol = c;
+        lureLandsAt = now + rules.lureThrowMs;
+    }
+
+    private void landLure() {
+        if (lureLandsAt >= 0 && lureLandsAt <= now) {
+            lureLandsAt = -1;
+            if (inventory[EnchantmentType.LURINGGEM.ordinal()] > 0) {
+                inventory[EnchantmentType.LURINGGEM.ordinal()]--;
+                inventorySize--;
+                enchantmentsUsed++;
+                lureUntil = now + rules.lureMs;
+            }
+        }
+    }
+
+    /**
+     * Runs one monster tick: each monster acts in spawn order, then the arrows in flight move.
+     */
+    private void monsterTick() {
+        double timeRatio = startingTime > 0 ? (double) timeRemaining / startingTime : 0.0;
+        for (SimMonster m : monsters) {
+            switch (m.type) {
+                case ARCHER:
+                    if (!isCloakActive() && now - m.lastShot >= rules.archerShootDelayMs
+                            && visibility.canSee(m.row, m.col, heroRow, heroCol, rules.archerRange)) {
+                        m.lastShot = now;
+                        arrows.add(new Arrow((m.col + 0.5) * CELL_SIZE, (m.row + 0.5) * CELL_SIZE,
+                                (heroCol + 0.5) * CELL_SIZE, (heroRow + 0.5) * CELL_SIZE));
+                    }
+                    break;
+                case FIGHTER:
+                    fighterTurn(m);
+                    break;
+                default:
+                    wizardTurn(m, timeRatio);
+                    break;
+            }
+        }
+        monsters.removeIf(m -> m.removed);
+        updateArrows(rules.monsterTickMs);
+        if (heroHealth <= 0) {
+            outcome = Outcome.DIED;
+        }
+    }
+
+    private void fighterTurn(SimMonster m) {
+        if (Math.abs(m.row - heroRow) + Math.abs(m.col - heroCol) == 1) {
+            hurtHero();
+            return;
+        }
+        if (isLureActive()) {
+            List<Point> path = PathFinder.findPath(new Point(m.row, m.col), new Point(lureRow, lureCol), walkable);
+            if (path != null && path.size() > 1) {
+                Point next = path.get(1);
+                if (next.x != heroRow || next.y != heroCol) {
+                    m.row = next.x;
+                    m.col = next.y;
+                }
+                return;
+            }
+        }
+        int d = random.nextInt(4);
+        int r = m.row + DR[d];
+        int c = m.col + DC[d];
+        if (canMonsterEnter(r, c)) {
+            m.row = r;
+            m.col = c;
+        }
+    }
+
+    /**
+     * Runs a wizard's behavior, chosen on its first tick from the time left as WizardMonster does:
+     * above 70% it moves the rune every few seconds until the time drops, below 30% it teleports the hero
+     * and leaves, and in between it leaves after a short while.
+     */
+    private void wizardTurn(SimMonster m, double timeRatio) {
+        if (m.behavior == BEHAVIOR_NONE) {
+            if (timeRatio > WizardMonster.CHALLENGE_RATIO) {
+                m.behavior = BEHAVIOR_CHALLENGE;
+                m.nextActionAt = now;
+            } else if (timeRatio < WizardMonster.HELP_RATIO) {
+                teleportHero();
+                m.removed = true;
+                return;
+            } else {
+                m.behavior = BEHAVIOR_INDECISIVE;
+                m.nextActionAt = now + rules.wizardIndecisiveMs;
+            }
+        }
+        if (m.behavior == BEHAVIOR_CHALLENGE) {
+            if (timeRatio <= WizardMonster.CHALLENGE_RATIO) {
+                m.removed = true;
+            } else if (now >= m.nextActionAt) {
+                teleportRune();
+                m.nextActionAt = now + rules.wizardTeleportMs;
+            }
+        } else if (now >= m.nextActionAt) {
+            m.removed = true;
+        }
+    }
+
+    private void teleportRune() {
+        if (isRuneFound() || runeRow < 0) {
+            return;
+        }
+        Point holder = objectCells.get(random.nextInt(objectCells.size()));
+        runeRow = holder.x;
+        runeCol = holder.y;
+    }
+
+    private void teleportHero() {
+        for (int tries = 0; tries < SPAWN_TRIES; tries++) {
+            int r = 1 + random.nextInt(rows - 2);
+            int c = 1 + random.nextInt(cols - 2);
+            if (isWalkable(r, c) && monsterAt(r, c) == null) {
+                heroRow = r;
+                heroCol = c;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves every arrow along its flight for the elapsed time. An arrow hits the hero if it enters the hero's cell
+     * (plus a small margin) before a wall or object, and falls once it has flown the archer's range.
+     */
+    private void updateArrows(long elapsedMs) {
+        double left = heroCol * CELL_SIZE - HIT_MARGIN;
+        double top = heroRow * CELL_SIZE - HIT_MARGIN;
+        double right = left + CELL_SIZE + 2 * HIT_MARGIN;
+        double bottom = top + CELL_SIZE + 2 * HIT_MARGIN;
+        double maxRange = rules.archerRange * CELL_SIZE;
+        double distance = ARROW_SPEED * elapsedMs;
+        int substeps = (int) Math.ceil(distance / ARROW_SUBSTEP);
+
+        for (int i = arrows.size() - 1; i >= 0; i--) {
+            Arrow a = arrows.get(i);
+            boolean done = false;
+            for (int s = 0; s < substeps && !done; s++) {
+                a.x += a.velX * elapsedMs / substeps;
+                a.y += a.velY * elapsedMs / substeps;
+                if (a.x >= left && a.x < right && a.y >= top && a.y < bottom) {
+                    hurtHero();
+                    done = true;
+                } else if (Math.hypot(a.x - a.originX, a.y - a.originY) > maxRange
+                        || visibility.isOpaque((int) Math.floor(a.y / CELL_SIZE), (int) Math.floor(a.x / CELL_SIZE))) {
+                    done = true;
+                }
+            }
+            if (done) {
+                arrows.remove(i);
+            }
+        }
+    }
+
+    private void hurtHero() {
+        heroHealth--;
+        damageTaken++;
+    }
+
+    /**
+     * Spawns a random monster on a random free cell, with GamePanel's number of tries.
+     */
+    private void spawnMonster() {
+        for (int tries = 0; tries < SPAWN_TRIES; tries++) {
+            int c = random.nextInt(cols - 2) + 1;
+            int r = random.nextInt(rows - 2) + 1;
+            if (canMonsterEnter(r, c)) {
+                monsters.add(new SimMonster(MonsterType.values()[random.nextInt(3)], r, c));
+                return;
+            }
+        }
+    }
+
+    private void spawnEnchantment(EnchantmentType type) {
+        for (int tries = 0; tries < SPAWN_TRIES; tries++) {
+            int r = 2 + random.nextInt(rows - 3);
+            int c = 1 + random.nextInt(cols - 2);
+            if (grid[r][c] == BuildModePanel.CellType.FLOOR && !objects[r][c]) {
+                floorEnchantments.add(new FloorEnchantment(type, r, c, now + rules.enchantmentLifetimeMs));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks a cell for a monster to move or spawn on. While the lure is active monsters ignore each other,
+     * as they do in the game.
+     */
+    private boolean canMonsterEnter(int row, int col) {
+        if (!isWalkable(row, col) || (row == heroRow && col == heroCol)) {
+            return false;
+        }
+        return isLureActive() || monsterAt(row, col) == null;
+    }
+
+    private SimMonster monsterAt(int row, int col) {
+        for (SimMonster m : monsters) {
+            if (m.row == row && m.col == col && !m.removed) {
+                return m;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public int getHeroRow() {
+        return heroRow;
+    }
+
+    @Override
+    public int getHeroCol() {
+        return heroCol;
+    }
+
+    @Override
+    public int getHeroHealth() {
+        return heroHealth;
+    }
+
+    @Override
+    public int getExitRow() {
+        return BuildModePanel.DOOR_ROW - 1;
+    }
+
+    @Override
+    public int getExitCol() {
+        return BuildModePanel.DOOR_COL;
+    }
+
+    @Override
+    public int getTimeRemaining() {
+        return timeRemaining;
+    }
+
+    @Override
+    public boolean isWalkable(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && walkable[row][col];
+    }
+
+    @Override
+    public boolean hasObject(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols
+                && (objects[row][col] || (row == BuildModePanel.DOOR_ROW && col == BuildModePanel.DOOR_COL));
+    }
+
+    @Override
+    public boolean isRuneFound() {
+        return runeFoundAt >= 0;
+    }
+
+    @Override
+    public int getMonsterCount() {
+        return monsters.size();
+    }
+
+    @Override
+    public MonsterType getMonsterType(int index) {
+        return monsters.get(index).type;
+    }
+
+    @Override
+    public int getMonsterRow(int index) {
+        return monsters.get(index).row;
+    }
+
+    @Override
+    public int getMonsterCol(int index) {
+        return monsters.get(index).col;
+    }
+
+    @Override
+    public int getFloorEnchantmentCount() {
+        return floorEnchantments.size();
+    }
+
+    @Override
+    public EnchantmentType getFloorEnchantmentType(int index) {
+        return floorEnchantments.get(index).type;
+    }
+
+    @Override
+    public int getFloorEnchantmentRow(int index) {
+        return floorEnchantments.get(index).row;
+    }
+
+    @Override
+    public int getFloorEnchantmentCol(int index) {
+        return floorEnchantments.get(index).col;
+    }
+
+    @Override
+    public int getInventoryCount(EnchantmentType type) {
+        return inventory[type.ordinal()];
+    }
+
+    @Override
+    public boolean isInventoryFull() {
+        return inventorySize >= Inventory.SLOTS_X * Inventory.SLOTS_Y;
+    }
+
+    @Override
+    public boolean isRevealActive() {
+        return now < revealUntil;
+    }
+
+    @Override
+    public int getRevealTopRow() {
+        return revealTopRow;
+    }
+
+    @Override
+    public int getRevealLeftCol() {
+        return revealLeftCol;
+    }
+
+    @Override
+    public boolean isCloakActive() {
+        return now < cloakUntil;
+    }
+
+    @Override
+    public boolean isLureActive() {
+        return now < lureUntil;
+    }
+}
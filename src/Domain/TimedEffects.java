@@ -0,0 +1,98 @@
+package Domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks effects that end after a fixed amount of game time, such as floor enchantments, reveal, cloak, lure and
+ * the hero's damage flash. Each effect is stored under a key and registers one task with the {@link GameScheduler},
+ * so its expiry callback runs exactly once, only costs work when it fires, and waits while the game is paused.
+ * Starting an effect that is already active restarts it; the previous callback is dropped.
+ */
+public class TimedEffects {
+    private final GameScheduler scheduler;
+    private final Map<Object, Effect> active = new HashMap<>();
+
+    /**
+     * A private holder for an effect's pending expiry task and the game time it ends at.
+     */
+    private static class Effect {
+        GameScheduler.ScheduledTask task;
+        long endTime;
+    }
+
+    /**
+     * Constructs a timed-effects service on top of the given scheduler.
+     * @param scheduler the game-time scheduler that drives expiry
+     */
+    public TimedEffects(GameScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Starts (or restarts) an effect that expires after the given duration.
+     * @param key the object identifying the effect
+     * @param durationMillis how long the effect lasts in game-time milliseconds
+     * @param onExpire the callback run once when the effect expires, or null
+     */
+    public void start(Object key, long durationMillis, Runnable onExpire) {
+        cancel(key);
+        Effect effect = new Effect();
+        effect.endTime = scheduler.getTimeMillis() + durationMillis;
+        effect.task = scheduler.schedule(durationMillis, () -> {
+            if (active.get(key) == effect) {
+                active.remove(key);
+                if (onExpire != null) {
+                    onExpire.run();
+                }
+            }
+        });
+        active.put(key, effect);
+    }
+
+    /**
+     * Ends an effect early without running its expiry callback.
+     * @param key the object identifying the effect
+     * @return true if the effect was active
+     */
+    public boolean cancel(Object key) {
+        Effect effect = active.remove(key);
+        if (effect == null) {
+            return false;
+        }
+        effect.task.cancel();
+        return true;
+    }
+
+    /**
+     * Checks whether an effect is currently active.
+     * @param key the object identifying the effect
+     * @return true if the effect was started and has not expired or been cancelled
+     */
+    public boolean isActive(Object key) {
+        return active.containsKey(key);
+    }
+
+    /**
+     * Returns how much game time an effect has left.
+     * @param key the object identifying the effect
+     * @return the remaining time in milliseconds, or 0 if the effect is not active
+     */
+    public long getRemainingMillis(Object key) {
+        Effect effect = active.get(key);
+        if (effect == null) {
+            return 0;
+        }
+        return Math.max(0, effect.endTime - scheduler.getTimeMillis());
+    }
+
+    /**
+     * Cancels every active effect without running their callbacks.
+     */
+    public void cancelAll() {
+        for (Effect effect : active.values()) {
+            effect.task.cancel();
+        }
+        active.clear();
+    }
+}
@@ -0,0 +1,201 @@
+package Domain;
+
+import UI.BuildModePanel;
+import UI.BuildModePanel.PlacedObject;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Answers "which cells can be seen from this cell" using recursive shadowcasting over the hall grid.
+ * Walls and placed objects (except the door) block sight. The field of view of each source cell is computed once
+ * per radius and cached as a bitset, so repeated sight checks are a single bit lookup.
+ * Call {@link #invalidate()} after the layout changes to drop the cache.
+ */
+public class Visibility {
+    // Octant transforms: (xx, xy, yx, yy) map octant-local (col, row) offsets to grid offsets
+    private static final int[][] OCTANTS = {
+            {1, 0, 0, 1}, {0, 1, 1, 0}, {0, -1, 1, 0}, {-1, 0, 0, 1},
+            {-1, 0, 0, -1}, {0, -1, -1, 0}, {0, 1, -1, 0}, {1, 0, 0, -1}
+    };
+
+    private final BuildModePanel.CellType[][] grid;
+    private final PlacedObject[][] placedObjects;
+    private final int doorRow, doorCol;
+    private final int rows, cols;
+    private final Map<Integer, BitSet[]> cacheByRadius = new HashMap<>();
+    private int layoutVersion = 0;
+
+    /**
+     * Constructs a visibility engine for a hall.
+     * @param grid the 2D CellType array of the hall
+     * @param placedObjects the 2D array of placed objects
+     * @param doorRow the row of the door, which does not block sight
+     * @param doorCol the column of the door
+     */
+    public Visibility(BuildModePanel.CellType[][] grid, PlacedObject[][] placedObjects, int doorRow, int doorCol) {
+        this.grid = grid;
+        this.placedObjects = placedObjects;
+        this.doorRow = doorRow;
+        this.doorCol = doorCol;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+    }
+
+    /**
+     * Returns the cells visible from a source cell within a radius (Euclidean, in cells).
+     * The returned set is shared with the cache and must not be modified.
+     * @param row the source row
+     * @param col the source column
+     * @param radius the sight radius in cells
+     * @return a bitset indexed by row * cols + col; blocking cells at the edge of sight are included
+     */
+    public synchronized BitSet getVisibleCells(int row, int col, int radius) {
+        BitSet[] cache = cacheByRadius.computeIfAbsent(radius, r -> new BitSet[rows * cols]);
+        int idx = row * cols + col;
+        BitSet visible = cache[idx];
+        if (visible == null) {
+            visible = compute(row, col, radius);
+            cache[idx] = visible;
+        }
+        return visible;
+    }
+
+    /**
+     * Computes the field of view from a cell without touching the cache and adds it to the given set.
+     * Used by callers that follow a single moving viewer, where caching every cell it stood on would waste memory.
+     * The layout must not change while this runs.
+     * @param row the source row
+     * @param col the source column
+     * @param radius the sight radius in cells
+     * @param target the set to add the visible cells to, indexed by row * cols + col
+     */
+    public void castInto(int row, int col, int radius, BitSet target) {
+        if (!inBounds(row, col)) {
+            return;
+        }
+        target.set(row * cols + col);
+        for (int[] o : OCTANTS) {
+            castLight(target, row, col, 1, 1.0, 0.0, radius, o[0], o[1], o[2], o[3]);
+        }
+    }
+
+    /**
+     * Checks whether one cell can be seen from another.
+     * @param fromRow the source row
+     * @param fromCol the source column
+     * @param toRow the target row
+     * @param toCol the target column
+     * @param radius the sight radius in cells
+     * @return true if the target is within the radius and not hidden behind a wall or object
+     */
+    public boolean canSee(int fromRow, int fromCol, int toRow, int toCol, int radius) {
+        if (!inBounds(fromRow, fromCol) || !inBounds(toRow, toCol)) {
+            return false;
+        }
+        return getVisibleCells(fromRow, fromCol, radius).get(toRow * cols + toCol);
+    }
+
+    /**
+     * Checks whether a cell blocks sight.
+     * @param row the row index
+     * @param col the column index
+     * @return true for walls, placed objects other than the door, and cells outside the hall
+     */
+    public boolean isOpaque(int row, int col) {
+        if (!inBounds(row, col)) return true;
+        if (grid[row][col] == BuildModePanel.CellType.WALL) return true;
+        return placedObjects[row][col] != null && !(row == doorRow && col == doorCol);
+    }
+
+    /**
+     * Drops every cached field of view; call after walls or objects change.
+     */
+    public synchronized void invalidate() {
+        cacheByRadius.clear();
+        layoutVersion++;
+    }
+
+    /**
+     * Returns a counter that increases every time the cache is invalidated.
+     * @return the layout version
+     */
+    public synchronized int getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Computes the field of view from a cell by casting light through all eight octants.
+     */
+    private BitSet compute(int row, int col, int radius) {
+        BitSet visible = new BitSet(rows * cols);
+        castInto(row, col, radius, visible);
+        return visible;
+    }
+
+    /**
+     * Scans one octant row by row, recursing whenever a blocking cell splits the lit slope range.
+     * @param start the distance of the first row to scan
+     * @param startSlope the upper slope of the lit range
+     * @param endSlope the lower slope of the lit range
+     */
+    private void castLight(BitSet visible, int originRow, int originCol, int start, double startSlope,
+                           double endSlope, int radius, int xx, int xy, int yx, int yy) {
+        if (startSlope < endSlope) {
+            return;
+        }
+        int radiusSq = radius * radius;
+        double nextStartSlope = startSlope;
+        for (int distance = start; distance <= radius; distance++) {
+            boolean blocked = false;
+            int dy = -distance;
+            for (int dx = -distance; dx <= 0; dx++) {
+                double leftSlope = (dx - 0.5) / (dy + 0.5);
+                double rightSlope = (dx + 0.5) / (dy - 0.5);
+                if (startSlope < rightSlope) {
+                    continue;
+                }
+                if (endSlope > leftSlope) {
+                    break;
+                }
+
+                int c = originCol + dx * xx + dy * xy;
+                int r = originRow + dx * yx + dy * yy;
+                if (dx * dx + dy * dy <= radiusSq && inBounds(r, c)) {
+                    visible.set(r * cols + c);
+                }
+
+                boolean opaque = isOpaque(r, c);
+                if (blocked) {
+                    if (opaque) {
+                        nextStartSlope = rightSlope;
+                    } else {
+                        blocked = false;
+                        startSlope = nextStartSlope;
+                    }
+                } else if (opaque && distance < radius) {
+                    blocked = true;
+                    castLight(visible, originRow, originCol, distance + 1, startSlope, leftSlope, radius,
+                            xx, xy, yx, yy);
+                    nextStartSlope = rightSlope;
+                }
+            }
+            if (blocked) {
+                break;
+            }
+        }
+    }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+}
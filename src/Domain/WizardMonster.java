@@ -8,6 +8,10 @@ import java.io.Serializable;
 
 public class WizardMonster extends Monster implements Serializable {
     private static final long serialVersionUID = 1L;
+    /** Above this fraction of the hall's time left, a wizard challenges the hero by moving the rune. */
+    public static final double CHALLENGE_RATIO = 0.7;
+    /** Below this fraction of the hall's time left, a wizard helps the hero by teleporting them. */
+    public static final double HELP_RATIO = 0.3;
 
     // We'll create and reuse these behaviors:
     private transient WizardBehavior challengeBehavior;
@@ -32,32 +36,45 @@ public class WizardMonster extends Monster implements Serializable {
         currentBehavior = indecisiveBehavior;
     }
 
+    /**
+     * Picks the behavior that matches the remaining time. The behavior itself runs in applyTurn,
+     * since behaviors teleport the rune or hero and schedule tasks.
+     * @param world the world as it was at the start of the tick
+     * @return a BEHAVIOR intent
+     */
     @Override
-    public void update() {
-        updateFacingDirection();
+    public MonsterIntent planTurn(WorldSnapshot world) {
+        updateFacingDirection(world.getHeroX());
 
         // Check the ratio each update
-        double ratio = gamePanel.getTimeRatio();
+        double ratio = world.getTimeRatio();
         System.out.println("Current time ratio: " + ratio); // Debug print
 
         // Switch behaviors only if necessary
-        if (ratio > 0.7 && currentBehavior != challengeBehavior) {
+        if (ratio > CHALLENGE_RATIO && currentBehavior != challengeBehavior) {
             System.out.println("Switching to Challenge behavior"); // Debug print
             currentBehavior = challengeBehavior;
         }
-        else if (ratio < 0.3 && currentBehavior != helpBehavior) {
+        else if (ratio < HELP_RATIO && currentBehavior != helpBehavior) {
             System.out.println("Switching to Help behavior"); // Debug print
             currentBehavior = helpBehavior;
         }
-        else if (ratio >= 0.3 && ratio <= 0.7 && currentBehavior != indecisiveBehavior) {
+        else if (ratio >= HELP_RATIO && ratio <= CHALLENGE_RATIO && currentBehavior != indecisiveBehavior) {
             System.out.println("Switching to Indecisive behavior"); // Debug print
             currentBehavior = indecisiveBehavior;
         }
 
         // Print current behavior
         System.out.println("Current behavior: " + getCurrentBehaviorName());
+        return MonsterIntent.behavior();
+    }
 
-        // Perform the chosen behavior
+    /**
+     * Performs the behavior chosen in planTurn.
+     * @param intent the intent returned by planTurn
+     */
+    @Override
+    public void applyTurn(MonsterIntent intent) {
         if (currentBehavior != null) {
             currentBehavior.performAction(this, hero, gamePanel);
         }
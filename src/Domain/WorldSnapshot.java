@@ -0,0 +1,172 @@
+package Domain;
+
+import UI.BuildModePanel;
+import UI.BuildModePanel.PlacedObject;
+
+import java.awt.*;
+import java.util.List;
+
+/**
+ * An immutable copy of the parts of the world monsters look at while planning a turn.
+ * It is captured once per monster tick on the event thread and then shared by every planning thread,
+ * so planning never reads live game state that the resolve phase is changing.
+ */
+public final class WorldSnapshot {
+    private static final int CELL_SIZE = 64;
+
+    private final int rows;
+    private final int cols;
+    private final boolean[] blocked;      // walls, objects (except the door) and cells outside the hall
+    private final int[] monsterCount;     // monsters standing on each cell when the snapshot was taken
+    private final boolean[][] lureWalkable;
+    private final int heroX, heroY, heroWidth, heroHeight;
+    private final boolean cloakActive;
+    private final Point lurePosition;
+    private final double timeRatio;
+    private final long timeMillis;
+    private final Visibility visibility;
+    private final HierarchicalPathFinder navigation;
+
+    /**
+     * Captures a snapshot of the current world.
+     * @param grid the 2D CellType array of the hall
+     * @param placedObjects the 2D array of placed objects
+     * @param door the door object, which monsters may walk over, or null
+     * @param monsters the monsters currently in the hall
+     * @param hero the hero
+     * @param cloakActive whether the cloak of protection is active
+     * @param lurePosition the lure's pixel position, or null if no lure is active
+     * @param timeRatio the fraction of the hall's time that is left
+     * @param timeMillis the time of the tick in milliseconds
+     * @param visibility the hall's line-of-sight engine, or null to treat every cell in range as visible
+     * @param navigation the hall's hierarchical pathfinder for long routes, or null
+     */
+    public WorldSnapshot(BuildModePanel.CellType[][] grid, PlacedObject[][] placedObjects, PlacedObject door,
+                         List<Monster> monsters, Hero hero, boolean cloakActive, Point lurePosition,
+                         double timeRatio, long timeMillis, Visibility visibility,
+                         HierarchicalPathFinder navigation) {
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.blocked = new boolean[rows * cols];
+        this.monsterCount = new int[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                PlacedObject po = placedObjects[r][c];
+                blocked[r * cols + c] = grid[r][c] == BuildModePanel.CellType.WALL || (po != null && po != door);
+            }
+        }
+        for (Monster m : monsters) {
+            int cell = cellIndex(m.getX(), m.getY());
+            if (cell >= 0) {
+                monsterCount[cell]++;
+            }
+        }
+
+        this.heroX = hero.getX();
+        this.heroY = hero.getY();
+        this.heroWidth = hero.getWidth();
+        this.heroHeight = hero.getHeight();
+        this.cloakActive = cloakActive;
+        this.lurePosition = lurePosition == null ? null : new Point(lurePosition);
+        this.timeRatio = timeRatio;
+        this.timeMillis = timeMillis;
+        this.visibility = visibility;
+        this.navigation = navigation;
+
+        // While a lure is active monsters ignore each other, so one walkability map serves every fighter
+        if (this.lurePosition != null) {
+            lureWalkable = new boolean[rows][cols];
+            int heroCell = cellIndex(heroX, heroY);
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    int idx = r * cols + c;
+                    lureWalkable[r][c] = !blocked[idx] && idx != heroCell;
+                }
+            }
+        } else {
+            lureWalkable = null;
+        }
+    }
+
+    /**
+     * Checks whether a monster could step onto the given position, using the same rules as the game panel
+     * but against the positions captured in this snapshot.
+     * @param self the monster that wants to move (its own cell does not count as occupied)
+     * @param nx the target x-coordinate in pixels
+     * @param ny the target y-coordinate in pixels
+     * @return true if the cell is free
+     */
+    public boolean canMonsterMove(Monster self, int nx, int ny) {
+        int cell = cellIndex(nx, ny);
+        if (cell < 0 || blocked[cell]) return false;
+        if (nx == heroX && ny == heroY) return false;
+        if (lurePosition != null) return true;
+
+        int others = monsterCount[cell];
+        if (self != null && cellIndex(self.getX(), self.getY()) == cell) {
+            others--;
+        }
+        return others == 0;
+    }
+
+    /**
+     * Checks whether the hero's cell can be seen from the given cell. The layout does not change during a tick,
+     * so this reads the shared visibility cache.
+     * @param row the viewer's row
+     * @param col the viewer's column
+     * @param radius the sight radius in cells
+     * @return true if the hero is within the radius and in line of sight
+     */
+    public boolean canSeeHero(int row, int col, int radius) {
+        int hr = getHeroRow();
+        int hc = getHeroCol();
+        if (visibility == null) {
+            int dr = row - hr;
+            int dc = col - hc;
+            return dr * dr + dc * dc <= radius * radius;
+        }
+        return visibility.canSee(row, col, hr, hc, radius);
+    }
+
+    /**
+     * Returns the walkability map used for pathfinding to the lure. The array is shared and must not be modified.
+     * @return a rows×cols walkability grid, or null if no lure is active
+     */
+    public boolean[][] getLureWalkable() {
+        return lureWalkable;
+    }
+
+    /**
+     * Returns the hall's hierarchical pathfinder. It only follows walls and objects, not monsters or the hero.
+     * @return the pathfinder, or null if the snapshot was taken without one
+     */
+    public HierarchicalPathFinder getNavigation() {
+        return navigation;
+    }
+
+    public int getHeroX() { return heroX; }
+    public int getHeroY() { return heroY; }
+    public int getHeroWidth() { return heroWidth; }
+    public int getHeroHeight() { return heroHeight; }
+    public int getHeroRow() { return heroY / CELL_SIZE; }
+    public int getHeroCol() { return heroX / CELL_SIZE; }
+    public boolean isCloakActive() { return cloakActive; }
+    public boolean isLureActive() { return lurePosition != null; }
+    public Point getLurePosition() { return lurePosition == null ? null : new Point(lurePosition); }
+    public double getTimeRatio() { return timeRatio; }
+    public long getTimeMillis() { return timeMillis; }
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    /**
+     * Converts a pixel position into a cell index.
+     * @return the cell index, or -1 if outside the hall
+     */
+    private int cellIndex(int px, int py) {
+        if (px < 0 || py < 0) return -1;
+        int r = py / CELL_SIZE;
+        int c = px / CELL_SIZE;
+        if (r >= rows || c >= cols) return -1;
+        return r * cols + c;
+    }
+}
@@ -1,15 +1,30 @@
+import UI.BuildModeAssets;
+import UI.LoadingScreen;
 import UI.RokueLikeMainMenu;
+import Utils.AssetPreloader;
 import Utils.SoundPlayer;
 
+import javax.swing.*;
+
 /**
  * Entry point for the entire application.
  */
 public class Main {
     public static void main(String[] args) {
-        // Simply launch the main menu
-        new RokueLikeMainMenu().setVisible(true);
+        // Decode every image in parallel behind a loading screen, so no screen decodes images when it opens
+        LoadingScreen loadingScreen = new LoadingScreen();
+        SwingUtilities.invokeLater(() -> loadingScreen.setVisible(true));
+
+        AssetPreloader.preloadAll(loadingScreen::setProgress).thenRun(() -> {
+            // The editor for the first hall is prepared while the menu is shown
+            BuildModeAssets.preload();
+            SwingUtilities.invokeLater(() -> {
+                loadingScreen.dispose();
+                new RokueLikeMainMenu().setVisible(true);
+            });
 
-        // Play the theme sound in a loop
-        SoundPlayer.playSoundLoop("/resources/sounds/theme.wav");
+            // Play the theme sound in a loop
+            SoundPlayer.playSoundLoop("/resources/sounds/theme.wav");
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package UI;
+
+import Utils.AssetPaths;
+import Utils.ImageLoader;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The images build mode needs: floor and wall tiles, the object sprites and their side panel icons.
+ * Cutting them out of the sprite sheet and scaling the icons involves no Swing components, so it can run on a
+ * background thread while the previous hall is still being played; {@link BuildModePanel} then only has to build
+ * its components. The assets are the same for every hall and are prepared once.
+ */
+public final class BuildModeAssets {
+    private static CompletableFuture<BuildModeAssets> pending;
+
+    final BufferedImage floorImage;
+    final BufferedImage horizontalWallImage;
+    final BufferedImage leftVerticalWallImage;
+    final BufferedImage rightVerticalWallImage;
+    final List<BufferedImage> objectImages;   // in BuildModePanel.OBJECT_DEFINITIONS order
+    final List<BufferedImage> objectIcons;    // the same, scaled for the side panel
+
+    private BuildModeAssets(BufferedImage floorImage, BufferedImage horizontalWallImage,
+                            BufferedImage leftVerticalWallImage, BufferedImage rightVerticalWallImage,
+                            List<BufferedImage> objectImages, List<BufferedImage> objectIcons) {
+        this.floorImage = floorImage;
+        this.horizontalWallImage = horizontalWallImage;
+        this.leftVerticalWallImage = leftVerticalWallImage;
+        this.rightVerticalWallImage = rightVerticalWallImage;
+        this.objectImages = Collections.unmodifiableList(objectImages);
+        this.objectIcons = Collections.unmodifiableList(objectIcons);
+    }
+
+    /**
+     * Starts preparing the assets on a background thread, unless that has already happened.
+     * A preparation that failed is not kept, so the next call starts a new one.
+     * @return a future that completes with the assets
+     */
+    public static synchronized CompletableFuture<BuildModeAssets> preload() {
+        if (pending == null) {
+            CompletableFuture<BuildModeAssets> future = CompletableFuture.supplyAsync(BuildModeAssets::load);
+            pending = future;
+            future.whenComplete((assets, error) -> {
+                if (error != null) {
+                    discard(future);
+                }
+            });
+        }
+        return pending;
+    }
+
+    /**
+     * Forgets a failed preparation, unless a newer one has already replaced it.
+     */
+    private static synchronized void discard(CompletableFuture<BuildModeAssets> future) {
+        if (pending == future) {
+            pending = null;
+        }
+    }
+
+    /**
+     * Returns the assets, waiting for a preload in progress or preparing them on the calling thread.
+     * @return the assets
+     */
+    static BuildModeAssets get() {
+        return preload().join();
+    }
+
+    /**
+     * Cuts the tiles and objects out of the sprite sheet and scales the side panel icons.
+     * If the sheet cannot be read or cut up, grey tiles are used and no objects are offered.
+     */
+    private static BuildModeAssets load() {
+        List<BufferedImage> objects = new ArrayList<>();
+        List<BufferedImage> icons = new ArrayList<>();
+        try {
+            BufferedImage spriteSheet = ImageLoader.readCached(AssetPaths.SPRITESHEET);
+            int[] floorCoords = AssetPaths.FLOOR_TILE;
+            BufferedImage floor = spriteSheet.getSubimage(floorCoords[0], floorCoords[1], floorCoords[2], floorCoords[3]);
+            BufferedImage horizontal = spriteSheet.getSubimage(17 * 16, 16, 16, 16);
+            BufferedImage left = spriteSheet.getSubimage(16 * 16, 16, 16, 16);
+            BufferedImage right = spriteSheet.getSubimage(18 * 16, 16, 16, 16);
+
+            for (Object[] definition : BuildModePanel.OBJECT_DEFINITIONS) {
+                int[] coords = (int[]) definition[0];
+                boolean dbl = (boolean) definition[2];
+                BufferedImage objImage = spriteSheet.getSubimage(coords[0], coords[1], coords[2], coords[3]);
+                objects.add(objImage);
+                icons.add(scale(objImage, BuildModePanel.CELL_SIZE, dbl ? BuildModePanel.CELL_SIZE * 2 : BuildModePanel.CELL_SIZE));
+            }
+            return new BuildModeAssets(floor, horizontal, left, right, objects, icons);
+        } catch (IOException | RuntimeException e) {
+            // e.g. a RasterFormatException from a sprite sheet smaller than the coordinates expect
+            e.printStackTrace();
+            return new BuildModeAssets(fallbackImage(), fallbackImage(), fallbackImage(), fallbackImage(),
+                    new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    /**
+     * Scales an image with the same smooth filter the side panel used to apply lazily while painting,
+     * but renders the result now so no scaling is left for the event dispatch thread.
+     */
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        Image scaled = image.getScaledInstance(width, height, Image.SCALE_SMOOTH);
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = result.createGraphics();
+        g2d.drawImage(scaled, 0, 0, null);
+        g2d.dispose();
+        return result;
+    }
+
+    /**
+     * Creates a fallback image for display if loading any of the required images fails.
+     * @return a default BufferedImage
+     */
+    private static BufferedImage fallbackImage() {
+        BufferedImage fb = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = fb.createGraphics();
+        g2d.setColor(Color.GRAY);
+        g2d.fillRect(0, 0, 16, 16);
+        g2d.setColor(Color.BLACK);
+        g2d.drawRect(0, 0, 15, 15);
+        g2d.dispose();
+        return fb;
+    }
+}
@@ -1,9 +1,12 @@
 package UI;
 
 import Controller.GameController;
+import Domain.EditHistory;
 import Domain.Hall;
+import Domain.HallValidator;
 import Utils.AssetPaths;
-import javax.imageio.ImageIO;
+import Utils.ImageLoader;
+import Utils.SpriteCache;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -12,9 +15,10 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.net.URL;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class BuildModePanel extends JPanel {
     public enum CellType {
@@ -22,10 +26,46 @@ public class BuildModePanel extends JPanel {
         WALL
     }
 
+    /**
+     * How mouse presses on the grid edit the hall.
+     */
+    public enum Tool {
+        PAINT,  // place or erase on every cell the mouse is dragged over
+        BOX,    // fill or erase the rectangle dragged out
+        STAMP   // place or erase a pattern of cells around the clicked cell
+    }
+
     private Hall currentHall;
     private static final int GRID_ROWS = 13;
     private static final int GRID_COLS = 13;
-    private final int cellSize = 64;
+    // The door in the bottom wall; the hero leaves the hall from the floor cell above it
+    public static final int DOOR_ROW = 11;
+    public static final int DOOR_COL = 6;
+
+    // Object types offered in the side panel: sprite coordinates, type name, double height
+    static final Object[][] OBJECT_DEFINITIONS = {
+            {AssetPaths.PILLAR, "PILLAR", true},
+            {AssetPaths.LADDER, "LADDER", false},
+            {AssetPaths.BOX, "BOX", false},
+            {AssetPaths.DOUBLE_BOX, "DOUBLE_BOX", true},
+            {AssetPaths.TORCH, "TORCH", false},
+            {AssetPaths.SKULL, "SKULL", false},
+            {AssetPaths.CHEST, "CHEST", false},
+            {AssetPaths.POTION, "POTION", false}
+    };
+
+    // Stamp patterns: name and (row, col) offsets from the clicked cell
+    private static final Object[][] STAMP_PATTERNS = {
+            {"Row", new int[][]{{0, -1}, {0, 0}, {0, 1}}},
+            {"Column", new int[][]{{-1, 0}, {0, 0}, {1, 0}}},
+            {"Square", new int[][]{{0, 0}, {0, 1}, {1, 0}, {1, 1}}},
+            {"Corners", new int[][]{{-1, -1}, {-1, 1}, {1, -1}, {1, 1}}},
+            {"Checker", new int[][]{{-1, -1}, {-1, 1}, {0, 0}, {1, -1}, {1, 1}}},
+            {"Ring", new int[][]{{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}}}
+    };
+    private static final int MESSAGE_MILLIS = 4000;
+    static final int CELL_SIZE = 64;
+    private final int cellSize = CELL_SIZE;
     private final CellType[][] grid;
     private final PlacedObject[][] placedObjectsGrid;
     private BufferedImage floorImage;
@@ -37,6 +77,17 @@ public class BuildModePanel extends JPanel {
     private final List<Boolean> isDoubleHeight = new ArrayList<>();
     private final List<JPanel> objectPanels = new ArrayList<>();
     private int selectedObjectIndex = -1;
+    private HallValidator validator;           // kept in step with every placement and removal
+    private final int[] countsByType = new int[OBJECT_DEFINITIONS.length];
+    private final EditHistory history = new EditHistory();
+    private int placedCount = 0;
+    private JLabel statusLabel;
+    private JLabel messageLabel;
+    private javax.swing.Timer messageTimer;
+    private Tool tool = Tool.PAINT;
+    private int stampIndex = 0;
+    private int hoverRow = -1, hoverCol = -1;  // the grid cell under the mouse, or -1 outside the grid
+    private EditMouseHandler mouseHandler;
     private GameController gameController; // Add this field
 
     private JFrame parentFrame; // Add this field
@@ -60,54 +111,15 @@ public class BuildModePanel extends JPanel {
         setBackground(new Color(255, 255, 255));
 
         initializeGrid();
+        validator = new HallValidator(grid, DOOR_ROW, DOOR_COL);
         initializeImages();
         initializeUI();
         loadObjects();
-        addMouseListener(new MouseAdapter() {
-            @Override
-            public void mousePressed(MouseEvent e) {
-                if (e.getButton() != MouseEvent.BUTTON1) return; // Only respond to left-click
-
-                int mouseX = e.getX();
-                int mouseY = e.getY();
-
-                boolean insideGrid = mouseX >= 0 && mouseX < GRID_COLS * cellSize &&
-                        mouseY >= 0 && mouseY < GRID_ROWS * cellSize;
-
-                if (insideGrid) {
-                    int gridCol = mouseX / cellSize;
-                    int gridRow = mouseY / cellSize;
-
-                    // Prevent interactions with walls
-                    if (isWallCell(gridRow, gridCol)) {
-                        return;
-                    }
-
-                    if (selectedObjectIndex >= 0 && selectedObjectIndex < availableObjects.size()) {
-                        // Placement Mode: Place or Remove Object
-                        PlacedObject existingObj = placedObjectsGrid[gridRow][gridCol];
-                        if (existingObj != null) {
-                            // Remove the object
-                            removePlacedObject(gridRow, gridCol);
-                        } else {
-                            // Place the selected object
-                            placeObject(gridRow, gridCol);
-                        }
-                        repaint();
-                    } else {
-                        // Non-Placement Mode: Remove Object if Exists
-                        PlacedObject existingObj = placedObjectsGrid[gridRow][gridCol];
-                        if (existingObj != null) {
-                            removePlacedObject(gridRow, gridCol);
-                            repaint();
-                        }
-                    }
-                } else {
-                    // Clicked outside the grid; exit placement mode
-                    deselectCurrentObject();
-                }
-            }
-        });
+        updateStatus();
+        bindUndoKeys();
+        mouseHandler = new EditMouseHandler();
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
     }
 
     /**
@@ -131,72 +143,59 @@ public class BuildModePanel extends JPanel {
      * @return the number of placed objects
      */
     public int getNumberOfPlacedObjects() {
-        int count = 0;
-        for (int r = 0; r < GRID_ROWS; r++) {
-            for (int c = 0; c < GRID_COLS; c++) {
-                if (placedObjectsGrid[r][c] != null) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        return placedCount;
+    }
+
+    /**
+     * Returns how many objects of one type have been placed.
+     * @param index the index of the object type in the side panel
+     * @return the number of placed objects of that type
+     */
+    public int getPlacedCount(int index) {
+        return countsByType[index];
     }
 
     /**
      * Initializes the grid, setting all cells to FLOOR and placing WALL cells around the perimeter.
      */
     private void initializeGrid() {
+        CellType[][] layout = createHallGrid();
+        for (int r = 0; r < GRID_ROWS; r++) {
+            System.arraycopy(layout[r], 0, grid[r], 0, GRID_COLS);
+        }
+    }
+
+    /**
+     * Creates the wall layout every hall has, without a panel, e.g. for generating or simulating halls headless.
+     * @return a new grid with FLOOR cells and a WALL perimeter
+     */
+    public static CellType[][] createHallGrid() {
+        CellType[][] layout = new CellType[GRID_ROWS][GRID_COLS];
         for (int r = 0; r < GRID_ROWS; r++) {
             for (int c = 0; c < GRID_COLS; c++) {
-                grid[r][c] = CellType.FLOOR;
+                layout[r][c] = CellType.FLOOR;
             }
         }
         for (int r = 1; r <= 11; r++) {
-            grid[r][0] = CellType.WALL;
-            grid[r][GRID_COLS - 1] = CellType.WALL;
+            layout[r][0] = CellType.WALL;
+            layout[r][GRID_COLS - 1] = CellType.WALL;
         }
         for (int c = 1; c <= 11; c++) {
-            grid[1][c] = CellType.WALL;
-            grid[11][c] = CellType.WALL;
+            layout[1][c] = CellType.WALL;
+            layout[11][c] = CellType.WALL;
         }
+        return layout;
     }
 
     /**
-     * Loads and extracts the required images for floor and wall tiles from the sprite sheet.
+     * Takes the floor and wall tiles from the build mode assets, which are usually preloaded in the background.
      */
     private void initializeImages() {
-        try {
-            URL resourceUrl = getClass().getClassLoader().getResource(AssetPaths.SPRITESHEET.substring(1));
-            if (resourceUrl == null) {
-                throw new IOException("Spritesheet not found.");
-            }
-            BufferedImage spriteSheet = ImageIO.read(resourceUrl);
-            int[] floorCoords = AssetPaths.FLOOR_TILE;
-            floorImage = spriteSheet.getSubimage(floorCoords[0], floorCoords[1], floorCoords[2], floorCoords[3]);
-            horizontalWallImage = spriteSheet.getSubimage(17 * 16, 16, 16, 16);
-            leftVerticalWallImage = spriteSheet.getSubimage(16 * 16, 16, 16, 16);
-            rightVerticalWallImage = spriteSheet.getSubimage(18 * 16, 16, 16, 16);
-        } catch (IOException e) {
-            floorImage = fallbackImage();
-            horizontalWallImage = fallbackImage();
-            leftVerticalWallImage = fallbackImage();
-            rightVerticalWallImage = fallbackImage();
-        }
-    }
-
-    /**
-     * Creates a fallback image for display if loading any of the required images fails.
-     * @return a default BufferedImage
-     */
-    private BufferedImage fallbackImage() {
-        BufferedImage fb = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = fb.createGraphics();
-        g2d.setColor(Color.GRAY);
-        g2d.fillRect(0, 0, 16, 16);
-        g2d.setColor(Color.BLACK);
-        g2d.drawRect(0, 0, 15, 15);
-        g2d.dispose();
-        return fb;
+        BuildModeAssets assets = BuildModeAssets.get();
+        floorImage = assets.floorImage;
+        horizontalWallImage = assets.horizontalWallImage;
+        leftVerticalWallImage = assets.leftVerticalWallImage;
+        rightVerticalWallImage = assets.rightVerticalWallImage;
     }
 
     /**
@@ -209,57 +208,58 @@ public class BuildModePanel extends JPanel {
         objectColumnPanel.setBorder(BorderFactory.createTitledBorder("Available Objects"));
         objectColumnPanel.setBackground(new Color(255, 165, 0));
         add(objectColumnPanel);
+
+        statusLabel = new JLabel();
+        // Shown over the row above the top wall, which is never part of the hall
+        statusLabel.setBounds(10, 18, GRID_COLS * cellSize - 20, 28);
+        statusLabel.setFont(Utils.GameFonts.pixelFont.deriveFont(16f));
+        statusLabel.setOpaque(true);
+        statusLabel.setBackground(new Color(255, 255, 255, 220));
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(0, 8, 0, 8));
+        add(statusLabel);
+
+        messageLabel = new JLabel();
+        // Shown over the row below the bottom wall, for edits that skipped cells
+        messageLabel.setBounds(10, 12 * cellSize + 18, GRID_COLS * cellSize - 20, 28);
+        messageLabel.setFont(Utils.GameFonts.pixelFont.deriveFont(16f));
+        messageLabel.setOpaque(true);
+        messageLabel.setBackground(new Color(255, 255, 255, 220));
+        messageLabel.setForeground(new Color(178, 34, 34));
+        messageLabel.setBorder(BorderFactory.createEmptyBorder(0, 8, 0, 8));
+        messageLabel.setVisible(false);
+        add(messageLabel);
+        messageTimer = new javax.swing.Timer(MESSAGE_MILLIS, e -> messageLabel.setVisible(false));
+        messageTimer.setRepeats(false);
     }
 
     /**
-     * Loads predefined objects from the sprite sheet and populates the side panel with them.
+     * Populates the side panel with the predefined objects from the build mode assets.
      */
     private void loadObjects() {
-        try {
-            URL resourceUrl = getClass().getClassLoader().getResource(AssetPaths.SPRITESHEET.substring(1));
-            if (resourceUrl == null) {
-                return;
-            }
-            BufferedImage spriteSheet = ImageIO.read(resourceUrl);
-            Object[][] objectDefinitions = {
-                    {AssetPaths.PILLAR, true},
-                    {AssetPaths.LADDER, false},
-                    {AssetPaths.BOX, false},
-                    {AssetPaths.DOUBLE_BOX, true},
-                    {AssetPaths.TORCH, false},
-                    {AssetPaths.SKULL, false},
-                    {AssetPaths.CHEST, false},
-                    {AssetPaths.POTION, false}
-            };
-            for (int i = 0; i < objectDefinitions.length; i++) {
-                int[] coords = (int[]) objectDefinitions[i][0];
-                boolean dbl = (boolean) objectDefinitions[i][1];
-                BufferedImage objImage = spriteSheet.getSubimage(coords[0], coords[1], coords[2], coords[3]);
-                availableObjects.add(objImage);
-                isDoubleHeight.add(dbl);
-                JPanel panel = createObjectPanel(objImage, dbl, i);
-                objectPanels.add(panel);
-                objectColumnPanel.add(panel);
-                objectColumnPanel.add(Box.createVerticalStrut(10));
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        BuildModeAssets assets = BuildModeAssets.get();
+        for (int i = 0; i < assets.objectImages.size(); i++) {
+            boolean dbl = (boolean) OBJECT_DEFINITIONS[i][2];
+            availableObjects.add(assets.objectImages.get(i));
+            isDoubleHeight.add(dbl);
+            JPanel panel = createObjectPanel(assets.objectIcons.get(i), dbl, i);
+            objectPanels.add(panel);
+            objectColumnPanel.add(panel);
+            objectColumnPanel.add(Box.createVerticalStrut(10));
         }
     }
 
     /**
      * Creates a panel to display each available object. Sets up a click listener to handle selection or deselection.
-     * @param objectImage the BufferedImage of the object
+     * @param objectIcon the object's image, already scaled to the cell size
      * @param isDouble whether the object is double height
      * @param index the index used to reference this object's details
      * @return a JPanel containing the object's scaled image
      */
-    private JPanel createObjectPanel(BufferedImage objectImage, boolean isDouble, int index) {
+    private JPanel createObjectPanel(BufferedImage objectIcon, boolean isDouble, int index) {
         JPanel objectPanel = new JPanel(new BorderLayout());
         objectPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
         int h = isDouble ? (cellSize * 2) : cellSize;
-        Image scaledImage = objectImage.getScaledInstance(cellSize, h, Image.SCALE_SMOOTH);
-        JLabel objectLabel = new JLabel(new ImageIcon(scaledImage));
+        JLabel objectLabel = new JLabel(new ImageIcon(objectIcon));
         objectPanel.add(objectLabel, BorderLayout.CENTER);
         objectPanel.setMaximumSize(new Dimension(230, h + 10));
         objectPanel.setPreferredSize(new Dimension(230, h + 10));
@@ -322,67 +322,556 @@ public class BuildModePanel extends JPanel {
     }
 
     /**
-     * Places the currently selected object into the grid at the specified cell, if possible.
-     * @param gridRow the row index for placement
-     * @param gridCol the column index for placement
+     * Explains why an object cannot be placed on a cell.
+     * @param r the row index
+     * @param c the column index
+     * @param type the object type index
+     * @return the reason, or null if the object fits
+     */
+    private String placementError(int r, int c, int type) {
+        if (isWallCell(r, c)) {
+            return "wall";
+        }
+        if (placedObjectsGrid[r][c] != null) {
+            return "occupied";
+        }
+        if (isDoubleHeight.get(type)) {
+            if (r <= 0) {
+                return "no room above";
+            }
+            if (isWallCell(r - 1, c)) {
+                return "wall above";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Places an object on, or erases, one cell as part of a bulk edit. Cells that cannot take the object are
+     * skipped and tallied by reason rather than reported one by one.
+     * @param r the row index
+     * @param c the column index
+     * @param type the object type index, or -1 to erase
+     * @param skipped the tally of skipped cells by reason
      */
-    private void placeObject(int gridRow, int gridCol) {
-        BufferedImage selImage = availableObjects.get(selectedObjectIndex);
-        boolean selDouble = isDoubleHeight.get(selectedObjectIndex);
+    private void applyCell(int r, int c, int type, Map<String, Integer> skipped) {
+        if (r < 0 || r >= GRID_ROWS || c < 0 || c >= GRID_COLS || isWallCell(r, c)) {
+            return;
+        }
+        if (type < 0) {
+            editCell(r, c, -1);
+            return;
+        }
+        String error = placementError(r, c, type);
+        if (error == null) {
+            editCell(r, c, type);
+        } else {
+            skipped.merge(error, 1, Integer::sum);
+        }
+    }
 
-        if (selDouble) {
-            if (gridRow <= 0) {
-                JOptionPane.showMessageDialog(BuildModePanel.this,
-                        "Not enough space to place a double-height object here.",
-                        "Placement Error", JOptionPane.ERROR_MESSAGE);
-                return;
+    /**
+     * Shows how many cells a bulk edit skipped and why, below the grid, without interrupting the edit.
+     * An edit that skipped nothing clears the previous message.
+     * @param skipped the tally of skipped cells by reason
+     */
+    private void reportSkipped(Map<String, Integer> skipped) {
+        if (skipped.isEmpty()) {
+            messageLabel.setVisible(false);
+            return;
+        }
+        int total = 0;
+        StringBuilder reasons = new StringBuilder();
+        for (Map.Entry<String, Integer> entry : skipped.entrySet()) {
+            total += entry.getValue();
+            if (reasons.length() > 0) reasons.append(", ");
+            reasons.append(entry.getKey()).append(' ').append(entry.getValue());
+        }
+        showMessage("Skipped " + total + (total == 1 ? " cell" : " cells") + ": " + reasons);
+    }
+
+    /**
+     * Shows a message below the grid for a few seconds.
+     * @param text the message
+     */
+    private void showMessage(String text) {
+        messageLabel.setText(text);
+        messageLabel.setVisible(true);
+        messageTimer.restart();
+    }
+
+    /**
+     * Selects how mouse presses on the grid edit the hall.
+     * @param tool the tool to use
+     */
+    public void setTool(Tool tool) {
+        this.tool = tool;
+        repaint();
+    }
+
+    /**
+     * Returns the names of the stamp patterns, in the order {@link #setStampPattern(int)} expects.
+     * @return the pattern names
+     */
+    public static String[] getStampPatternNames() {
+        String[] names = new String[STAMP_PATTERNS.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = (String) STAMP_PATTERNS[i][0];
+        }
+        return names;
+    }
+
+    /**
+     * Selects the pattern the stamp tool places.
+     * @param index the index of the pattern in {@link #getStampPatternNames()}
+     */
+    public void setStampPattern(int index) {
+        stampIndex = index;
+        repaint();
+    }
+
+    /**
+     * Lists the cells the stamp tool covers when used on a cell.
+     * @param r the row index of the clicked cell
+     * @param c the column index of the clicked cell
+     * @return the covered cells as (row, col) points, including any outside the grid
+     */
+    private List<Point> stampCells(int r, int c) {
+        List<Point> cells = new ArrayList<>();
+        for (int[] offset : (int[][]) STAMP_PATTERNS[stampIndex][1]) {
+            cells.add(new Point(r + offset[0], c + offset[1]));
+        }
+        return cells;
+    }
+
+    /**
+     * Lists the cells of the rectangle spanned by two corner cells.
+     * @return the cells as (row, col) points
+     */
+    private static List<Point> boxCells(int r0, int c0, int r1, int c1) {
+        List<Point> cells = new ArrayList<>();
+        for (int r = Math.min(r0, r1); r <= Math.max(r0, r1); r++) {
+            for (int c = Math.min(c0, c1); c <= Math.max(c0, c1); c++) {
+                cells.add(new Point(r, c));
             }
-            if (isWallCell(gridRow - 1, gridCol)) {
-                JOptionPane.showMessageDialog(BuildModePanel.this,
-                        "Cannot place double-height object here. Space above is a wall.",
-                        "Placement Error", JOptionPane.ERROR_MESSAGE);
+        }
+        return cells;
+    }
+
+    /**
+     * Applies one object type to a set of cells as a single undoable edit and reports skipped cells.
+     * @param cells the cells as (row, col) points
+     * @param type the object type index, or -1 to erase
+     */
+    private void applyToCells(List<Point> cells, int type) {
+        Map<String, Integer> skipped = new LinkedHashMap<>();
+        history.beginGroup();
+        for (Point cell : cells) {
+            applyCell(cell.x, cell.y, type, skipped);
+        }
+        history.endGroup();
+        updateStatus();
+        reportSkipped(skipped);
+    }
+
+    /**
+     * Turns mouse input on the grid into edits for the current tool. Each press, drag and release makes one
+     * undoable group, so a whole paint stroke or box is undone at once.
+     */
+    private class EditMouseHandler extends MouseAdapter {
+        private boolean active = false;     // a stroke or box is in progress
+        private int strokeType;             // the object type being applied, or -1 when erasing
+        private int startRow, startCol;     // where the press happened
+        private int lastRow, lastCol;       // the last cell the stroke reached
+        private final Map<String, Integer> skipped = new LinkedHashMap<>();
+
+        @Override
+        public void mousePressed(MouseEvent e) {
+            // A second button pressed mid-stroke would open a second undo group that is never closed
+            if (active) return;
+            boolean left = SwingUtilities.isLeftMouseButton(e);
+            if (!left && !SwingUtilities.isRightMouseButton(e)) return;
+            if (!insideGrid(e.getX(), e.getY())) {
+                // Clicked outside the grid; exit placement mode
+                deselectCurrentObject();
                 return;
             }
+            int row = e.getY() / cellSize;
+            int col = e.getX() / cellSize;
+            boolean hasSelection = selectedObjectIndex >= 0 && selectedObjectIndex < availableObjects.size();
+
+            // Right button or no selection erases; in paint mode pressing on an object also erases, as a click did
+            boolean erase = !left || !hasSelection
+                    || (tool == Tool.PAINT && placedObjectsGrid[row][col] != null);
+            strokeType = erase ? -1 : selectedObjectIndex;
+            startRow = lastRow = hoverRow = row;
+            startCol = lastCol = hoverCol = col;
+            skipped.clear();
+
+            switch (tool) {
+                case PAINT:
+                    active = true;
+                    history.beginGroup();
+                    applyCell(row, col, strokeType, skipped);
+                    updateStatus();
+                    break;
+                case BOX:
+                    active = true;
+                    break;
+                case STAMP:
+                    applyToCells(stampCells(row, col), strokeType);
+                    break;
+            }
+            repaint();
+        }
+
+        @Override
+        public void mouseDragged(MouseEvent e) {
+            if (!active) return;
+            int row = clamp(e.getY() / cellSize, GRID_ROWS);
+            int col = clamp(e.getX() / cellSize, GRID_COLS);
+            if (row == lastRow && col == lastCol) return;
+            if (tool == Tool.PAINT) {
+                // Walk every cell between the last one and this one, so fast drags leave no gaps
+                int steps = Math.max(Math.abs(row - lastRow), Math.abs(col - lastCol));
+                for (int i = 1; i <= steps; i++) {
+                    int r = lastRow + Math.round((row - lastRow) * i / (float) steps);
+                    int c = lastCol + Math.round((col - lastCol) * i / (float) steps);
+                    applyCell(r, c, strokeType, skipped);
+                }
+                updateStatus();
+            }
+            lastRow = hoverRow = row;
+            lastCol = hoverCol = col;
+            repaint();
+        }
+
+        @Override
+        public void mouseReleased(MouseEvent e) {
+            if (!active) return;
+            active = false;
+            if (tool == Tool.PAINT) {
+                history.endGroup();
+                reportSkipped(skipped);
+            } else if (tool == Tool.BOX) {
+                applyToCells(boxCells(startRow, startCol, lastRow, lastCol), strokeType);
+            }
+            repaint();
+        }
+
+        @Override
+        public void mouseMoved(MouseEvent e) {
+            boolean inside = insideGrid(e.getX(), e.getY());
+            int row = inside ? e.getY() / cellSize : -1;
+            int col = inside ? e.getX() / cellSize : -1;
+            if (row != hoverRow || col != hoverCol) {
+                hoverRow = row;
+                hoverCol = col;
+                if (tool == Tool.STAMP) repaint();
+            }
+        }
+
+        @Override
+        public void mouseExited(MouseEvent e) {
+            if (!active) {
+                hoverRow = hoverCol = -1;
+                repaint();
+            }
+        }
+
+        /**
+         * Checks whether a paint stroke or box is in progress, so its undo group is still open.
+         */
+        boolean isEditing() {
+            return active;
+        }
+
+        /**
+         * Checks whether the box tool is being dragged, so its rectangle should be previewed.
+         */
+        boolean isDraggingBox() {
+            return active && tool == Tool.BOX;
+        }
+
+        private boolean insideGrid(int x, int y) {
+            return x >= 0 && x < GRID_COLS * cellSize && y >= 0 && y < GRID_ROWS * cellSize;
         }
 
-        if (placedObjectsGrid[gridRow][gridCol] != null) {
-            JOptionPane.showMessageDialog(BuildModePanel.this,
-                    "Cannot place object here. Space is already occupied.",
-                    "Placement Error", JOptionPane.ERROR_MESSAGE);
+        private int clamp(int value, int size) {
+            return Math.max(0, Math.min(size - 1, value));
+        }
+    }
+
+    /**
+     * Brings the validator up to date after the object on one cell changed.
+     * @param gridRow the row index of the cell
+     * @param gridCol the column index of the cell
+     */
+    private void cellChanged(int gridRow, int gridCol) {
+        boolean occupied = placedObjectsGrid[gridRow][gridCol] != null;
+        validator.setObject(gridRow, gridCol, occupied);
+    }
+
+    /**
+     * Adjusts the running counters for an object that was placed (+1) or removed (-1).
+     * @param obj the object
+     * @param delta +1 or -1
+     */
+    private void count(PlacedObject obj, int delta) {
+        placedCount += delta;
+        int type = typeIndexOf(obj);
+        if (type >= 0) {
+            countsByType[type] += delta;
+        }
+    }
+
+    /**
+     * Shows the running object counts and whether the hall can be finished yet. Called once per edit or group
+     * of edits, after all of its cells have changed.
+     */
+    private void updateStatus() {
+        if (statusLabel == null) {
             return;
         }
+        StringBuilder types = new StringBuilder();
+        for (int i = 0; i < OBJECT_DEFINITIONS.length; i++) {
+            if (countsByType[i] > 0) {
+                if (types.length() > 0) types.append(", ");
+                types.append(OBJECT_DEFINITIONS[i][1].toString().toLowerCase().replace('_', ' '))
+                        .append(' ').append(countsByType[i]);
+            }
+        }
 
-        PlacedObject newObject = new PlacedObject(selImage, gridRow, gridCol, selDouble);
+        int missing = currentHall.getMinObjectCount() - placedCount;
+        int spawnable = validator.getSpawnableCellCount();
+        int unreachable = validator.getUnreachableObjectCount();
+        String status;
+        if (spawnable == 0) {
+            status = "door blocked";
+        } else if (unreachable > 0) {
+            status = unreachable + " unreachable";
+        } else if (missing > 0) {
+            status = missing + " more needed";
+        } else {
+            status = "ready";
+        }
+        boolean ready = missing <= 0 && spawnable > 0 && unreachable == 0;
+
+        statusLabel.setForeground(ready ? new Color(34, 139, 34) : new Color(178, 34, 34));
+        statusLabel.setText("Objects: " + placedCount + "/" + currentHall.getMinObjectCount()
+                + (types.length() > 0 ? "  (" + types + ")" : "") + "  -  " + status);
+    }
 
-        Object[][] objectDefinitions = {
-                {AssetPaths.PILLAR, "PILLAR", true},
-                {AssetPaths.LADDER, "LADDER", false},
-                {AssetPaths.BOX, "BOX", false},
-                {AssetPaths.DOUBLE_BOX, "DOUBLE_BOX", true},
-                {AssetPaths.TORCH, "TORCH", false},
-                {AssetPaths.SKULL, "SKULL", false},
-                {AssetPaths.CHEST, "CHEST", false},
-                {AssetPaths.POTION, "POTION", false}
-        };
+    /**
+     * Checks whether the hall as currently built can be won.
+     * @return the validator's report of unreachable objects and spawnable area
+     */
+    public HallValidator.Report getValidationReport() {
+        return validator.report();
+    }
 
-        if (selectedObjectIndex >= 0 && selectedObjectIndex < objectDefinitions.length) {
-            int[] coords = (int[]) objectDefinitions[selectedObjectIndex][0];
-            String type = (String) objectDefinitions[selectedObjectIndex][1];
+    /**
+     * Creates a placed object of one of the available object types, with its sprite coordinates and type name set.
+     * @param index the index of the object type in the side panel
+     * @param gridRow the row index of the object
+     * @param gridCol the column index of the object
+     * @return the new object
+     */
+    private PlacedObject createPlacedObject(int index, int gridRow, int gridCol) {
+        PlacedObject newObject = new PlacedObject(availableObjects.get(index), gridRow, gridCol, isDoubleHeight.get(index));
+        if (index >= 0 && index < OBJECT_DEFINITIONS.length) {
+            int[] coords = (int[]) OBJECT_DEFINITIONS[index][0];
+            String type = (String) OBJECT_DEFINITIONS[index][1];
             newObject.setImageCoords(coords, type);
         }
-
-        placedObjectsGrid[gridRow][gridCol] = newObject;
+        return newObject;
     }
 
     /**
-     * Removes any placed object found at the specified grid cell.
+     * Creates a placed object from its type name, e.g. when loading a hall template. The sprite comes from the
+     * shared sprite sheet, so no image is decoded.
+     * @param type the type name, e.g. "PILLAR"
      * @param gridRow the row index of the object
      * @param gridCol the column index of the object
+     * @return the new object, or null if the type is unknown
+     */
+    public static PlacedObject createObject(String type, int gridRow, int gridCol) {
+        for (Object[] definition : OBJECT_DEFINITIONS) {
+            if (definition[1].equals(type)) {
+                int[] coords = (int[]) definition[0];
+                BufferedImage image = SpriteCache.getImage(AssetPaths.SPRITESHEET)
+                        .getSubimage(coords[0], coords[1], coords[2], coords[3]);
+                PlacedObject obj = new PlacedObject(image, gridRow, gridCol, (boolean) definition[2]);
+                obj.setImageCoords(coords, type);
+                return obj;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the side panel index of a placed object's type.
+     * @param obj the placed object
+     * @return the type index, or -1 if the type is unknown
+     */
+    private static int typeIndexOf(PlacedObject obj) {
+        for (int i = 0; i < OBJECT_DEFINITIONS.length; i++) {
+            if (OBJECT_DEFINITIONS[i][1].equals(obj.getObjectType())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns, for each object type build mode defines, whether it is double height. Unlike
+     * {@link #getObjectDoubleHeights()} this needs no panel, so it also covers types whose image failed to load.
+     * @return one flag per object type, in definition order
+     */
+    public static boolean[] getDefinedDoubleHeights() {
+        boolean[] doubles = new boolean[OBJECT_DEFINITIONS.length];
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = (boolean) OBJECT_DEFINITIONS[i][2];
+        }
+        return doubles;
+    }
+
+    /**
+     * Returns, for each object type offered in the side panel, whether it is double height.
+     * @return one flag per object type, in side panel order
+     */
+    public boolean[] getObjectDoubleHeights() {
+        boolean[] doubles = new boolean[isDoubleHeight.size()];
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = isDoubleHeight.get(i);
+        }
+        return doubles;
+    }
+
+    /**
+     * Replaces every placed object with the given layout, e.g. one produced by the hall generator.
+     * @param objectTypes for each cell the index of the object type to place, or -1 to leave it empty
+     */
+    public void applyLayout(int[][] objectTypes) {
+        history.beginGroup();
+        for (int r = 0; r < GRID_ROWS; r++) {
+            for (int c = 0; c < GRID_COLS; c++) {
+                int type = objectTypes[r][c];
+                boolean valid = type >= 0 && type < availableObjects.size() && !isWallCell(r, c);
+                editCell(r, c, valid ? type : -1);
+            }
+        }
+        history.endGroup();
+        updateStatus();
+        deselectCurrentObject();
+        repaint();
+    }
+
+    /**
+     * Replaces every placed object with copies of the given objects, e.g. from a hall template, as one undoable edit.
+     * @param placedObjects the objects to copy, by cell
+     */
+    public void applyPlacedObjects(PlacedObject[][] placedObjects) {
+        int[][] types = new int[GRID_ROWS][GRID_COLS];
+        for (int r = 0; r < GRID_ROWS; r++) {
+            for (int c = 0; c < GRID_COLS; c++) {
+                boolean inside = r < placedObjects.length && c < placedObjects[r].length;
+                types[r][c] = inside && placedObjects[r][c] != null ? typeIndexOf(placedObjects[r][c]) : -1;
+            }
+        }
+        applyLayout(types);
+    }
+
+    /**
+     * Undoes the last edit, or the last group of edits such as a generated layout. Ignored while a stroke is
+     * in progress, as the rest of the stroke would be added to the group before it.
+     */
+    public void undo() {
+        if (mouseHandler.isEditing()) return;
+        history.undo(this::restoreCell);
+        updateStatus();
+        repaint();
+    }
+
+    /**
+     * Redoes the last undone edit or group of edits. Ignored while a stroke is in progress.
+     */
+    public void redo() {
+        if (mouseHandler.isEditing()) return;
+        history.redo(this::restoreCell);
+        updateStatus();
+        repaint();
+    }
+
+    /**
+     * Binds Ctrl+Z to undo and Ctrl+Y (or Ctrl+Shift+Z) to redo while the build window is focused.
+     */
+    private void bindUndoKeys() {
+        InputMap inputMap = getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Z, InputEvent.CTRL_DOWN_MASK), "undo");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Y, InputEvent.CTRL_DOWN_MASK), "redo");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Z, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK), "redo");
+        getActionMap().put("undo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                undo();
+            }
+        });
+        getActionMap().put("redo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                redo();
+            }
+        });
+    }
+
+    /**
+     * Returns the type index of the object on a cell.
+     * @param r the row index
+     * @param c the column index
+     * @return the type index, or -1 if the cell is empty
+     */
+    private int typeAt(int r, int c) {
+        PlacedObject obj = placedObjectsGrid[r][c];
+        return obj == null ? -1 : typeIndexOf(obj);
+    }
+
+    /**
+     * Sets a cell to an object type and records the change in the undo history.
+     * @param r the row index
+     * @param c the column index
+     * @param type the object type index, or -1 to empty the cell
+     */
+    private void editCell(int r, int c, int type) {
+        int old = typeAt(r, c);
+        if (old == type) {
+            return;
+        }
+        history.record(r * GRID_COLS + c, old, type);
+        setCell(r, c, type);
+    }
+
+    /**
+     * Puts a cell back to a type while undoing or redoing.
      */
-    private void removePlacedObject(int gridRow, int gridCol) {
-        PlacedObject obj = placedObjectsGrid[gridRow][gridCol];
-        if (obj == null) return;
-        placedObjectsGrid[gridRow][gridCol] = null;
+    private void restoreCell(int cell, int type) {
+        setCell(cell / GRID_COLS, cell % GRID_COLS, type);
+    }
+
+    /**
+     * Sets a cell to an object type without touching the history, keeping counters and validator in step.
+     */
+    private void setCell(int r, int c, int type) {
+        PlacedObject old = placedObjectsGrid[r][c];
+        if (old != null) {
+            placedObjectsGrid[r][c] = null;
+            count(old, -1);
+        }
+        if (type >= 0) {
+            placedObjectsGrid[r][c] = createPlacedObject(type, r, c);
+            count(placedObjectsGrid[r][c], 1);
+        }
+        cellChanged(r, c);
     }
 
     /**
@@ -395,6 +884,62 @@ public class BuildModePanel extends JPanel {
         drawBoard(g);
         drawGridLines(g);
         drawPlacedObjects(g);
+        drawValidation(g);
+        drawToolPreview(g);
+    }
+
+    /**
+     * Outlines the cells the box or stamp tool would change: green where the selected object fits, red where it
+     * would be skipped, and grey when erasing.
+     * @param g the Graphics context used for drawing
+     */
+    private void drawToolPreview(Graphics g) {
+        List<Point> cells;
+        int type;
+        if (mouseHandler.isDraggingBox()) {
+            cells = boxCells(mouseHandler.startRow, mouseHandler.startCol, hoverRow, hoverCol);
+            type = mouseHandler.strokeType;
+        } else if (tool == Tool.STAMP && hoverRow >= 0) {
+            cells = stampCells(hoverRow, hoverCol);
+            type = selectedObjectIndex >= 0 && selectedObjectIndex < availableObjects.size() ? selectedObjectIndex : -1;
+        } else {
+            return;
+        }
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setStroke(new BasicStroke(3));
+        for (Point cell : cells) {
+            int r = cell.x;
+            int c = cell.y;
+            if (r < 0 || r >= GRID_ROWS || c < 0 || c >= GRID_COLS || isWallCell(r, c)) continue;
+            if (type < 0) {
+                g2d.setColor(new Color(90, 90, 90, 200));
+            } else if (placementError(r, c, type) == null) {
+                g2d.setColor(new Color(34, 139, 34, 200));
+            } else {
+                g2d.setColor(new Color(178, 34, 34, 200));
+            }
+            g2d.drawRect(c * cellSize + 2, r * cellSize + 2, cellSize - 4, cellSize - 4);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * Tints floor cells that objects have cut off from the door, and objects the hero could never search.
+     * @param g the Graphics context used for drawing
+     */
+    private void drawValidation(Graphics g) {
+        for (int r = 0; r < GRID_ROWS; r++) {
+            for (int c = 0; c < GRID_COLS; c++) {
+                if (placedObjectsGrid[r][c] != null && !validator.isSearchable(r, c)) {
+                    g.setColor(new Color(220, 30, 30, 110));
+                } else if (validator.isCutOff(r, c)) {
+                    g.setColor(new Color(0, 0, 0, 110));
+                } else {
+                    continue;
+                }
+                g.fillRect(c * cellSize, r * cellSize, cellSize, cellSize);
+            }
+        }
     }
 
     /**
@@ -508,6 +1053,14 @@ public class BuildModePanel extends JPanel {
             this.objectType = type;
         }
 
+        /**
+         * Returns the type of object, e.g. "PILLAR".
+         * @return the type name, or null if it was never set
+         */
+        public String getObjectType() {
+            return objectType;
+        }
+
         /**
          * Custom serialization logic for this object.
          * @param out the output stream for serialization
@@ -526,9 +1079,8 @@ public class BuildModePanel extends JPanel {
         private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
             in.defaultReadObject();
             try {
-                URL resourceUrl = getClass().getClassLoader().getResource(AssetPaths.SPRITESHEET.substring(1));
-                if (resourceUrl != null && imageCoords != null) {
-                    BufferedImage spriteSheet = ImageIO.read(resourceUrl);
+                if (imageCoords != null) {
+                    BufferedImage spriteSheet = ImageLoader.readCached(AssetPaths.SPRITESHEET);
                     this.image = spriteSheet.getSubimage(
                             imageCoords[0], imageCoords[1], imageCoords[2], imageCoords[3]
                     );
@@ -6,14 +6,12 @@ import Domain.*;
 import UI.BuildModePanel.PlacedObject;
 import Utils.AssetPaths;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.net.URL;
 import java.util.*;
 import java.util.List;
 import java.util.LinkedList;
@@ -28,7 +26,10 @@ import Domain.GameState;
 import Domain.Enchantment;
 import Domain.EnchantmentType;
 import Domain.Inventory;
+import Utils.GameEvents;
 import Utils.GameFonts;
+import Utils.ImageLoader;
+import Utils.PerformanceMonitor;
 import Utils.SoundPlayer;
 
 
@@ -59,11 +60,23 @@ public class GamePanel extends JPanel {
     private BufferedImage heartImage;
 
     private List<Monster> monsters;
+    private Visibility visibility;
+    private FogOfWar fogOfWar;
+    private HierarchicalPathFinder navigation;
+    private boolean fogEnabled = false; // opt-in, toggled with F
+    private ArcherThreatMap archerThreatMap;
+    private BufferedImage archerZoneOverlay;
+    private ProjectileSystem projectiles;
+    private MonsterLodScheduler aiLod;
+    private EntityStore entities;
     private Hero hero;
     private Random random;
 
     private Timer monsterSpawnerTimer;
     private Timer monsterMovementTimer;
+    private Timer gameClockTimer;
+    private GameScheduler scheduler;
+    private TimedEffects timedEffects;
     private Timer gameOverTimer;
     private Timer redirectTimer;
     private Timer enchantmentSpawnTimer;
@@ -72,8 +85,6 @@ public class GamePanel extends JPanel {
     private boolean gameOver = false;
     private boolean heroDied = false;
 
-    private static final int DOOR_ROW = 11;
-    private static final int DOOR_COL = 6;
 
     private JButton pauseButton;
     private JButton exitButton;
@@ -88,7 +99,8 @@ public class GamePanel extends JPanel {
     private Point throwStartPos = null;
     private Point throwCurrentPos = null;
     private long throwStartTime = 0;
-    private static final long THROW_DURATION = 1000; // 1 second for the throw animation
+    public static final long THROW_DURATION = 1000; // 1 second for the throw animation
+    public static final int LURE_DISTANCE = 3; // cells a luring gem is thrown
     private double throwHeight = 0; // Current height of the bounce
     private static final int MAX_BOUNCE_HEIGHT = 100; // Maximum height of the bounce
     private BufferedImage luringGemImage;
@@ -104,25 +116,44 @@ public class GamePanel extends JPanel {
 
     // For the "reveal" effect:
     private boolean revealActive = false;
-    private long revealEndTime = 0L;
     // We'll store a random 4×4 region that contains the rune
     private int revealTopRow, revealLeftCol;
-    private static final long REVEAL_DURATION_MS = 10_000; // 10s in ms
+    public static final long REVEAL_DURATION_MS = 10_000; // 10s in ms
 
     // For the cloak effect:
     private boolean cloakActive = false;
-    private long cloakEndTime = 0L;
-    private static final long CLOAK_DURATION_MS = 20_000; // 20s in ms
+    public static final long CLOAK_DURATION_MS = 20_000; // 20s in ms
+
+    public static final long LURE_DURATION_MS = 5_000; // 5s in ms
+    public static final int EXTRA_TIME_SECONDS = 6; // added to the clock by an extra time enchantment
+
+    // Keys of the hall-wide effects registered with timedEffects
+    private static final String REVEAL_EFFECT = "reveal";
+    private static final String CLOAK_EFFECT = "cloak";
+    private static final String LURE_EFFECT = "lure";
+
+    public static final long MONSTER_TICK_MS = 500; // Monster movement and arrow update period
+    public static final long MONSTER_SPAWN_MS = 8000; // A new monster appears this often
+    public static final long ENCHANTMENT_SPAWN_MS = 12000; // A new enchantment appears this often
+    private static final long GAME_CLOCK_TICK_MS = 20; // Resolution of the game-time scheduler
 
     // Add these fields to GamePanel class
     private boolean luringGemActive = false;
-    private boolean waitingForDirection = false;
     private Point lurePosition = null;
 
+    // The hero is driven by a HeroController polled on the game clock; by default that is the player's input
+    private final KeyboardHeroController keyboardController = new KeyboardHeroController();
+    private HeroController heroController = keyboardController;
+    private final HeroView heroView = new PanelHeroView();
+
     private GameController gameController;
 
     private Font gameFont;
 
+    // Frame/tick instrumentation, toggled with F3 and exported with F4
+    private final PerformanceMonitor perfMonitor = new PerformanceMonitor();
+    private boolean showPerfOverlay = false;
+
     /**
      * Constructs a new GamePanel using the given grid, placed objects, controller, and optional loaded hero.
      * @param g The cell type grid representing the level layout.
@@ -141,6 +172,17 @@ public class GamePanel extends JPanel {
 
         this.random = new Random();
         this.monsters = new ArrayList<>();
+        this.visibility = new Visibility(grid, placedObjects, BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL);
+        this.archerThreatMap = new ArcherThreatMap(visibility);
+        this.fogOfWar = new FogOfWar(visibility);
+        this.navigation = new HierarchicalPathFinder(
+                HierarchicalPathFinder.walkableFrom(grid, placedObjects,
+                        BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL));
+        this.projectiles = new ProjectileSystem(grid, placedObjects);
+        this.scheduler = new GameScheduler(GAME_CLOCK_TICK_MS);
+        this.aiLod = new MonsterLodScheduler();
+        this.entities = new EntityStore();
+        this.timedEffects = new TimedEffects(scheduler);
 
         if (loadedHero != null) {
             this.hero = loadedHero;
@@ -148,29 +190,21 @@ public class GamePanel extends JPanel {
                     loadedHero.getX() + "," + loadedHero.getY());
         } else {
             System.out.println("GamePanel: Creating new hero with random position");
-            int tries = 0;
-            int finalX = 0, finalY = 0;
-            boolean positionFound = false;
-
-            while (tries < 100 && !positionFound) {
-                int r = 1 + random.nextInt(GRID_ROWS - 2);
-                int c = 1 + random.nextInt(GRID_COLS - 2);
-
-                if (grid[r][c] == BuildModePanel.CellType.FLOOR && placedObjects[r][c] == null) {
-                    finalX = c * cellSize;
-                    finalY = r * cellSize;
-                    positionFound = true;
-                }
-                tries++;
-            }
-
-            if (!positionFound) {
-                finalX = 2 * cellSize;
-                finalY = 2 * cellSize;
+            int finalX = 2 * cellSize, finalY = 2 * cellSize;
+
+            // Spawn only on cells connected to the door, so the hero can always escape
+            HallValidator validator = new HallValidator(grid, BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL);
+            validator.load(placedObjects);
+            List<Point> spawnable = validator.getSpawnableCells();
+            if (!spawnable.isEmpty()) {
+                Point cell = spawnable.get(random.nextInt(spawnable.size()));
+                finalX = cell.y * cellSize;
+                finalY = cell.x * cellSize;
             }
 
             this.hero = Hero.getInstance(finalX, finalY, cellSize, cellSize);
         }
+        hero.setTimedEffects(timedEffects);
 
         // Create inventory
         this.inventory = new Inventory();
@@ -195,6 +229,7 @@ public class GamePanel extends JPanel {
         startMonsterSpawner();
         startMonsterMovement();
         startEnchantmentSpawner();
+        startGameClock();
 
         setFocusable(true);
         requestFocusInWindow();
@@ -202,13 +237,23 @@ public class GamePanel extends JPanel {
         addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
-                // Don't move hero if paused/game over/hero died
-                if (!isPaused && !gameOver && !heroDied) {
-                    handleMovementKeys(e);
+                if (handleInstrumentationKeys(e)) {
+                    return;
+                }
+                if (gameOver || heroDied || heroController != keyboardController) {
+                    return;
                 }
-                // Handle usage of enchantments (R for Reveal, P for Cloak)
-                if (!gameOver && !heroDied) {
-                    handleEnchantmentKeys(e);
+                // Keys become hero actions, carried out on the next clock tick. Enchantments can still be used
+                // while paused, when the clock stands still, so those are carried out at once; moves are dropped
+                HeroAction action = keyboardController.translate(e, heroView);
+                if (action == null) {
+                    return;
+                }
+                if (!isPaused) {
+                    keyboardController.enqueue(action);
+                } else if (action.getKind() == HeroAction.Kind.USE_ENCHANTMENT
+                        || action.getKind() == HeroAction.Kind.THROW_LURE) {
+                    applyHeroAction(action);
                 }
             }
         });
@@ -218,6 +263,7 @@ public class GamePanel extends JPanel {
             public void mousePressed(MouseEvent e) {
                 if (isPaused || gameOver || heroDied) return;
                 if (e.getButton() != MouseEvent.BUTTON1) return;
+                if (heroController != keyboardController) return;
 
                 int mx = e.getX();
                 int my = e.getY();
@@ -225,17 +271,15 @@ public class GamePanel extends JPanel {
                 // 1) Check if the user clicked on an enchantment
                 Enchantment clickedEnch = getClickedEnchantment(mx, my);
                 if (clickedEnch != null) {
-                    collectEnchantment(clickedEnch);
+                    keyboardController.enqueue(HeroAction.collect(clickedEnch.getY() / cellSize,
+                            clickedEnch.getX() / cellSize));
                     return;
                 }
 
-                // 2) Check if the user clicked an object with a hidden rune
+                // 2) Otherwise search the clicked object for the rune
                 PlacedObject obj = getClickedObject(mx, my);
-                if (obj != null && obj.hasRune) {
-                    obj.runeVisible = true;
-                    gameController.gameState.setRuneFound(true); // Set the flag when rune is found
-                    System.out.println("Rune discovered!");
-                    SoundPlayer.playSound("/resources/sounds/door_open.wav");
+                if (obj != null) {
+                    keyboardController.enqueue(HeroAction.search(obj.gridRow, obj.gridCol));
                 }
             }
         });
@@ -272,10 +316,7 @@ public class GamePanel extends JPanel {
      */
     private void loadLuringGemImage() {
         try {
-            URL url = getClass().getClassLoader().getResource(AssetPaths.LURING_ENCH.substring(1));
-            if (url != null) {
-                luringGemImage = ImageIO.read(url);
-            }
+            luringGemImage = ImageLoader.readCached(AssetPaths.LURING_ENCH);
         } catch (IOException e) {
             luringGemImage = null;
         }
@@ -290,19 +331,14 @@ public class GamePanel extends JPanel {
     }
 
     /**
-     * Processes the logic for throwing the luring gem based on user input.
-     * @param e The key event containing user input.
+     * Throws a luring gem three cells in a direction, if the hero has one.
+     * @param dRow the direction's row offset, -1, 0 or 1
+     * @param dCol the direction's column offset, -1, 0 or 1
      */
-    private void handleLuringGem(KeyEvent e) {
-        if (waitingForDirection) {
-            int dx = 0, dy = 0;
-            switch (e.getKeyCode()) {
-                case KeyEvent.VK_A: dx = -cellSize * 3; break;
-                case KeyEvent.VK_D: dx = cellSize * 3; break;
-                case KeyEvent.VK_W: dy = -cellSize * 3; break;
-                case KeyEvent.VK_S: dy = cellSize * 3; break;
-                default: return;
-            }
+    private void throwLure(int dRow, int dCol) {
+        if (findEnchantmentIndex(EnchantmentType.LURINGGEM) >= 0) {
+            int dx = dCol * cellSize * LURE_DISTANCE;
+            int dy = dRow * cellSize * LURE_DISTANCE;
 
             // Calculate new lure position
             final int targetX = hero.getX() + dx + cellSize/2; // Center of target cell
@@ -334,50 +370,78 @@ public class GamePanel extends JPanel {
                         throwHeight = bounceHeight;
 
                         if (progress >= 1.0f) {
-                            lurePosition = new Point(targetX - cellSize/2, targetY - cellSize/2);
-                            luringGemActive = true;
-                            throwCurrentPos = null;
-                            throwStartPos = null;
-                            throwHeight = 0;
                             this.cancel();
+                            SwingUtilities.invokeLater(() -> {
+                                lurePosition = new Point(targetX - cellSize/2, targetY - cellSize/2);
+                                luringGemActive = true;
+                                throwCurrentPos = null;
+                                throwStartPos = null;
+                                throwHeight = 0;
+
+                                int idx = findEnchantmentIndex(EnchantmentType.LURINGGEM);
+                                if (idx >= 0) {
+                                    hero.getInventory().getCollectedEnchantments().remove(idx);
+                                }
 
-                            int idx = findEnchantmentIndex(EnchantmentType.LURINGGEM);
-                            if (idx >= 0) {
-                                hero.getInventory().getCollectedEnchantments().remove(idx);
-                            }
-
-                            Timer lureTimer = new Timer(true);
-                            lureTimer.schedule(new TimerTask() {
-                                @Override
-                                public void run() {
+                                timedEffects.start(LURE_EFFECT, LURE_DURATION_MS, () -> {
                                     luringGemActive = false;
                                     lurePosition = null;
                                     repaint();
-                                }
-                            }, 5000);
+                                });
+                            });
                         }
                         repaint();
                     }
                 }, 0, 16);
             }
-
-            waitingForDirection = false;
         }
     }
 
     /**
-     * Handles the hero's movement in response to arrow or WASD key presses.
+     * Checks whether something at the given pixel position is hidden from the hero by the fog of war.
+     * @param px the x-coordinate in pixels
+     * @param py the y-coordinate in pixels
+     * @return true if the fog is on and the hero cannot currently see that cell
+     */
+    private boolean isHiddenByFog(int px, int py) {
+        return fogEnabled && !fogOfWar.isVisible(py / cellSize, px / cellSize);
+    }
+
+    /**
+     * Toggles the fog of war (F) or the performance overlay (F3), or exports the recorded histograms to CSV (F4).
      * @param e The key event containing user input.
+     * @return True if the key was consumed by the instrumentation layer.
      */
-    private void handleMovementKeys(KeyEvent e) {
-        int step = cellSize;
-        int dx = 0, dy = 0;
-        switch (e.getKeyCode()) {
-            case KeyEvent.VK_LEFT: dx = -step; break;
-            case KeyEvent.VK_RIGHT: dx = step; break;
-            case KeyEvent.VK_UP: dy = -step; break;
-            case KeyEvent.VK_DOWN: dy = step; break;
+    private boolean handleInstrumentationKeys(KeyEvent e) {
+        if (e.getKeyCode() == KeyEvent.VK_F && !keyboardController.isWaitingForDirection()) {
+            fogEnabled = !fogEnabled;
+            repaint();
+            return true;
+        }
+        if (e.getKeyCode() == KeyEvent.VK_F3) {
+            showPerfOverlay = !showPerfOverlay;
+            repaint();
+            return true;
         }
+        if (e.getKeyCode() == KeyEvent.VK_F4) {
+            try {
+                System.out.println("Performance data exported: " + perfMonitor.exportCsv().getAbsolutePath());
+            } catch (IOException ex) {
+                ex.printStackTrace();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Moves the hero one cell, unless something is in the way.
+     * @param dRow the row offset, -1, 0 or 1
+     * @param dCol the column offset, -1, 0 or 1
+     */
+    private void moveHero(int dRow, int dCol) {
+        int dx = dCol * cellSize;
+        int dy = dRow * cellSize;
         if (dx != 0 || dy != 0) {
             int oldX = hero.getX();
             int oldY = hero.getY();
@@ -405,10 +469,10 @@ public class GamePanel extends JPanel {
     }
 
     /**
-     * Handles the usage of enchantments when certain keys (R, P, B) are pressed.
-     * @param e The key event containing user input.
+     * Uses a reveal or cloak enchantment from the inventory, if the hero has one.
+     * @param type REVEAL or CLOAK
      */
-    private void handleEnchantmentKeys(KeyEvent e) {
+    private void useEnchantment(EnchantmentType type) {
         if (hero == null || hero.getInventory() == null) {
             System.out.println("No hero or inventory available!");
             return;
@@ -416,17 +480,8 @@ public class GamePanel extends JPanel {
 
         List<Enchantment> heroInventory = hero.getInventory().getCollectedEnchantments();
 
-        if (e.getKeyCode() == KeyEvent.VK_B) {
-            // Check if we have a luring gem
-            int idx = findEnchantmentIndex(EnchantmentType.LURINGGEM);
-            if (idx >= 0) {
-                waitingForDirection = true;
-                System.out.println("Luring Gem activated - Press WASD to choose direction");
-            }
-        } else if (waitingForDirection) {
-            handleLuringGem(e);
-        } else if (e.getKeyCode() == KeyEvent.VK_R) {
-            System.out.println("R key pressed - Attempting to use Reveal");
+        if (type == EnchantmentType.REVEAL) {
+            System.out.println("Attempting to use Reveal");
             // Use a Reveal if we have any
             int idx = findEnchantmentIndex(EnchantmentType.REVEAL);
             System.out.println("Found Reveal enchantment at index: " + idx);
@@ -436,17 +491,20 @@ public class GamePanel extends JPanel {
                 // Remove one from inventory
                 heroInventory.remove(idx);
 
-                // Mark reveal as active for 10s
+                // Mark reveal as active for 10s of game time
                 revealActive = true;
-                revealEndTime = System.currentTimeMillis() + REVEAL_DURATION_MS;
+                timedEffects.start(REVEAL_EFFECT, REVEAL_DURATION_MS, () -> {
+                    revealActive = false;
+                    repaint();
+                });
 
                 // Choose a 4×4 region that definitely contains the rune
                 pickRevealRegion();
                 System.out.println("Reveal used! Highlighting a 4×4 region for 10s.");
                 repaint();
             }
-        } else if (e.getKeyCode() == KeyEvent.VK_P) {
-            System.out.println("P key pressed - Attempting to use Cloak");
+        } else if (type == EnchantmentType.CLOAK) {
+            System.out.println("Attempting to use Cloak");
             // Use a Cloak if we have any
             int idx = findEnchantmentIndex(EnchantmentType.CLOAK);
             System.out.println("Found Cloak enchantment at index: " + idx);
@@ -456,13 +514,84 @@ public class GamePanel extends JPanel {
                 heroInventory.remove(idx);
 
                 cloakActive = true;
-                cloakEndTime = System.currentTimeMillis() + CLOAK_DURATION_MS;
-                System.out.println("Cloak activated! Will last until: " + cloakEndTime);
+                timedEffects.start(CLOAK_EFFECT, CLOAK_DURATION_MS, () -> {
+                    cloakActive = false;
+                    System.out.println("Cloak of Protection wore off.");
+                    repaint();
+                });
+                System.out.println("Cloak activated for " + CLOAK_DURATION_MS + " ms of game time.");
                 repaint();
             }
         }
     }
 
+    /**
+     * Sets what drives the hero, e.g. a scripted bot for a soak test. Player input is ignored while another
+     * controller is in charge.
+     * @param controller the controller to poll on every clock tick, or null to hand control back to the player
+     */
+    public void setHeroController(HeroController controller) {
+        keyboardController.clear();
+        heroController = controller != null ? controller : keyboardController;
+    }
+
+    /**
+     * Asks the hero controller for its action this tick and carries it out.
+     */
+    private void pollHeroController() {
+        applyHeroAction(heroController.nextAction(heroView));
+    }
+
+    /**
+     * Carries out a hero action the same way the matching key press or click always has.
+     * @param action the action to carry out
+     */
+    private void applyHeroAction(HeroAction action) {
+        switch (action.getKind()) {
+            case MOVE:
+                moveHero(action.getRow(), action.getCol());
+                break;
+            case SEARCH:
+                searchObject(action.getRow(), action.getCol());
+                break;
+            case COLLECT:
+                for (Enchantment ench : enchantments) {
+                    if (ench.getY() / cellSize == action.getRow() && ench.getX() / cellSize == action.getCol()) {
+                        collectEnchantment(ench);
+                        break;
+                    }
+                }
+                break;
+            case USE_ENCHANTMENT:
+                useEnchantment(action.getEnchantment());
+                break;
+            case THROW_LURE:
+                throwLure(action.getRow(), action.getCol());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Searches an object for the rune. The hero must be within one block of it, diagonals included.
+     * @param row the object's row
+     * @param col the object's column
+     */
+    private void searchObject(int row, int col) {
+        if (row < 0 || row >= GRID_ROWS || col < 0 || col >= GRID_COLS) return;
+        PlacedObject obj = placedObjects[row][col];
+        int heroRow = hero.getY() / cellSize;
+        int heroCol = hero.getX() / cellSize;
+        if (obj == null || Math.abs(heroRow - row) > 1 || Math.abs(heroCol - col) > 1) return;
+        if (obj.hasRune && !obj.runeVisible) {
+            obj.runeVisible = true;
+            gameController.gameState.setRuneFound(true); // Set the flag when rune is found
+            System.out.println("Rune discovered!");
+            SoundPlayer.playSound("/resources/sounds/door_open.wav");
+        }
+    }
+
     /**
      * Returns the index of the specified enchantment type, or -1 if not found.
      * @param type The enchantment type to locate in the hero's inventory.
@@ -546,7 +675,7 @@ public class GamePanel extends JPanel {
                     });
                 }
             }
-        }, 0, 12000);
+        }, 0, ENCHANTMENT_SPAWN_MS);
     }
 
     /**
@@ -565,7 +694,7 @@ public class GamePanel extends JPanel {
                         cellSize, cellSize,
                         etype
                 );
-                enchantments.add(ench);
+                addFloorEnchantment(ench, Enchantment.LIFETIME_MS);
                 break;
             }
             tries++;
@@ -603,7 +732,7 @@ public class GamePanel extends JPanel {
                 break;
             case EXTRATIME:
                 if (gameController != null && gameController.getGameTimer() != null) {
-                    gameController.getGameTimer().addTime(6);
+                    gameController.getGameTimer().addTime(EXTRA_TIME_SECONDS);
                 }
                 break;
             default:
@@ -617,15 +746,22 @@ public class GamePanel extends JPanel {
                 }
                 break;
         }
+        timedEffects.cancel(ench);
         enchantments.remove(ench);
         repaint();
     }
 
     /**
-     * Removes enchantments from the game that have exceeded their lifespan.
+     * Places an enchantment on the floor and registers its expiry, after which it disappears if not collected.
+     * @param ench The enchantment to place.
+     * @param lifetimeMs How long the enchantment stays on the floor in game-time milliseconds.
      */
-    private void checkEnchantmentExpiry() {
-        enchantments.removeIf(Enchantment::isExpired);
+    private void addFloorEnchantment(Enchantment ench, long lifetimeMs) {
+        enchantments.add(ench);
+        timedEffects.start(ench, lifetimeMs, () -> {
+            enchantments.remove(ench);
+            repaint();
+        });
     }
 
     /**
@@ -639,12 +775,44 @@ public class GamePanel extends JPanel {
                 if (!isPaused && !gameOver && !heroDied) {
                     // Fix concurrency by updating on the EDT
                     SwingUtilities.invokeLater(() -> {
+                        long spawnStart = System.nanoTime();
                         spawnMonster();
+                        perfMonitor.recordSince(PerformanceMonitor.SPAWN, spawnStart);
                         repaint();
                     });
                 }
             }
-        }, 0, 8000);
+        }, 0, MONSTER_SPAWN_MS);
+    }
+
+    /**
+     * Starts the game clock that advances the scheduler while the game is running.
+     * Game time does not pass while paused, after death or after game over, so scheduled tasks wait too.
+     */
+    private void startGameClock() {
+        gameClockTimer = new Timer(true);
+        gameClockTimer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                if (!isPaused && !gameOver && !heroDied) {
+                    SwingUtilities.invokeLater(() -> {
+                        if (!isPaused && !gameOver && !heroDied) {
+                            pollHeroController();
+                            scheduler.advance(GAME_CLOCK_TICK_MS);
+                        }
+                    });
+                }
+            }
+        }, GAME_CLOCK_TICK_MS, GAME_CLOCK_TICK_MS);
+    }
+
+    /**
+     * Stops the game clock and drops every scheduled task, used when the hall is left for good.
+     */
+    private void stopGameClock() {
+        if (gameClockTimer != null) gameClockTimer.cancel();
+        timedEffects.cancelAll();
+        scheduler.cancelAll();
     }
 
     /**
@@ -656,21 +824,51 @@ public class GamePanel extends JPanel {
             @Override
             public void run() {
                 if (!isPaused && !gameOver && !heroDied) {
+                    long queuedAt = System.nanoTime();
                     // Fix concurrency by updating on the EDT
                     SwingUtilities.invokeLater(() -> {
-                        List<Monster> monstersToRemove = new ArrayList<>();
+                        GameEvents.TickEvent tickEvent = new GameEvents.TickEvent();
+                        tickEvent.begin();
+                        long tickStart = System.nanoTime();
+                        long allocStart = perfMonitor.currentThreadAllocatedBytes();
+                        perfMonitor.record(PerformanceMonitor.EDT_QUEUE_DELAY, tickStart - queuedAt);
+
+                        // Plan monsters against one snapshot (in parallel for large halls) at a level of detail
+                        // chosen by their distance to the hero, then resolve the intents one by one in list order
+                        WorldSnapshot world = captureWorld();
+                        byte[] lodModes = aiLod.assign(monsters, world);
+                        MonsterIntent[] intents = MonsterPlanner.plan(monsters, world, lodModes);
+                        for (int i = 0; i < intents.length; i++) {
+                            Monster m = monsters.get(i);
+                            resolveIntent(m, intents[i]);
+                            if (m instanceof ArcherMonster) {
+                                archerThreatMap.archerMoved(m);
+                            }
+                        }
 
+                        List<Monster> monstersToRemove = new ArrayList<>();
                         for (Monster m : monsters) {
-                            m.update();
                             if (m.isPendingRemoval()) {
                                 monstersToRemove.add(m);
                             }
                         }
-                        checkEnchantmentExpiry();
+                        projectiles.update(hero, MONSTER_TICK_MS);
                         checkHealthCondition();
                         repaint();
 
                         monsters.removeAll(monstersToRemove);
+                        for (Monster m : monstersToRemove) {
+                            entities.remove(m);
+                            aiLod.forget(m);
+                            archerThreatMap.removeArcher(m);
+                            if (m instanceof ArcherMonster) {
+                                projectiles.removeOwnedBy((ArcherMonster) m);
+                            }
+                        }
+                        recordTickMetrics(tickStart, allocStart);
+                        tickEvent.monsters = monsters.size();
+                        tickEvent.removed = monstersToRemove.size();
+                        tickEvent.commit();
 
                         SwingUtilities.invokeLater(() -> checkHealthCondition());
                     });
@@ -679,7 +877,24 @@ public class GamePanel extends JPanel {
                     return;
                 }
             }
-        }, 0, 500);
+        }, 0, MONSTER_TICK_MS);
+    }
+
+    /**
+     * Records the duration and allocation of a finished monster tick, along with current entity counts.
+     * @param tickStart System.nanoTime() at the start of the tick
+     * @param allocStart bytes allocated by the EDT at the start of the tick, or -1 if unsupported
+     */
+    private void recordTickMetrics(long tickStart, long allocStart) {
+        perfMonitor.recordSince(PerformanceMonitor.TICK, tickStart);
+        if (allocStart >= 0) {
+            perfMonitor.record(PerformanceMonitor.TICK_ALLOCATION,
+                    perfMonitor.currentThreadAllocatedBytes() - allocStart);
+        }
+        perfMonitor.record(PerformanceMonitor.MONSTERS, monsters.size());
+        perfMonitor.record(PerformanceMonitor.AI_PLANNED, aiLod.getLastPlannedCount());
+        perfMonitor.record(PerformanceMonitor.ARROWS, projectiles.size());
+        perfMonitor.record(PerformanceMonitor.ENCHANTMENTS, enchantments.size());
     }
 
     /**
@@ -698,18 +913,53 @@ public class GamePanel extends JPanel {
                 int t = random.nextInt(3);
                 if (t == 0) {
                     m = new ArcherMonster(pt.x, pt.y, hero, grid, this);
+                    archerThreatMap.addArcher(m);
                 } else if (t == 1) {
                     m = new FighterMonster(pt.x, pt.y, hero, grid, this);
                 } else {
                     m = new WizardMonster(pt.x, pt.y, hero, grid, this);
                 }
                 monsters.add(m);
+                entities.add(m);
                 break;
             }
             tries++;
         }
     }
 
+    /**
+     * Captures the read-only view of the world that monsters plan their turns against.
+     * @return a new WorldSnapshot of the current tick
+     */
+    private WorldSnapshot captureWorld() {
+        double timeRatio = 0.0;
+        for (Monster m : monsters) {
+            if (m instanceof WizardMonster) {
+                timeRatio = getTimeRatio();
+                break;
+            }
+        }
+        return new WorldSnapshot(grid, placedObjects, placedObjects[BuildModePanel.DOOR_ROW][BuildModePanel.DOOR_COL],
+                monsters, hero, cloakActive, luringGemActive ? lurePosition : null, timeRatio,
+                System.currentTimeMillis(), visibility, navigation);
+    }
+
+    /**
+     * Applies one monster's planned intent. Moves are re-checked against the live positions, so when two
+     * monsters planned to enter the same cell the one earlier in the monster list gets it and the other stays put.
+     * @param m The monster whose intent is applied.
+     * @param intent The intent the monster planned this tick.
+     */
+    private void resolveIntent(Monster m, MonsterIntent intent) {
+        if (intent.getKind() == MonsterIntent.Kind.MOVE) {
+            if (canMonsterMove(m, intent.getTargetX(), intent.getTargetY())) {
+                m.setPosition(intent.getTargetX(), intent.getTargetY());
+            }
+        } else if (intent.getKind() != MonsterIntent.Kind.IDLE) {
+            m.applyTurn(intent);
+        }
+    }
+
     /**
      * Determines if a monster can occupy the specified grid location.
      * @param monster The monster attempting to move.
@@ -727,7 +977,7 @@ public class GamePanel extends JPanel {
 
         // Object collision check (except door)
         PlacedObject po = placedObjects[r][c];
-        if (po != null && po != placedObjects[DOOR_ROW][DOOR_COL]) return false;
+        if (po != null && po != placedObjects[BuildModePanel.DOOR_ROW][BuildModePanel.DOOR_COL]) return false;
 
         // If we're pathfinding to the lure, ignore other monsters
         if (luringGemActive && lurePosition != null) {
@@ -736,10 +986,8 @@ public class GamePanel extends JPanel {
         }
 
         // Normal movement - check all collisions
-        for (Monster mm : monsters) {
-            if (mm != monster && mm.getX() == nx && mm.getY() == ny) {
-                return false;
-            }
+        if (entities.isOccupied(nx, ny, monster)) {
+            return false;
         }
 
         // Check hero collision
@@ -759,22 +1007,17 @@ public class GamePanel extends JPanel {
         if (r < 0 || r >= GRID_ROWS || c < 0 || c >= GRID_COLS) return false;
         if (grid[r][c] == BuildModePanel.CellType.WALL) return false;
         PlacedObject po = placedObjects[r][c];
-        if (po != null && po != placedObjects[DOOR_ROW][DOOR_COL]) return false;
+        if (po != null && po != placedObjects[BuildModePanel.DOOR_ROW][BuildModePanel.DOOR_COL]) return false;
 
         // Can't overlap a monster
-        for (Monster mm : monsters) {
-            if (mm.getX() == p.x && mm.getY() == p.y) {
-                return false;
-            }
-        }
-        return true;
+        return !entities.isOccupied(p.x, p.y, null);
     }
 
     /**
      * Identifies which placed object, if any, was clicked at the specified mouse coordinates.
      * @param mx The x-coordinate of the mouse click.
      * @param my The y-coordinate of the mouse click.
-     * @return The PlacedObject that was clicked, or null if none was found or hero is not in range.
+     * @return The PlacedObject that was clicked, or null if none was found.
      */
     private PlacedObject getClickedObject(int mx, int my) {
         for (int r = 0; r < GRID_ROWS; r++) {
@@ -789,13 +1032,7 @@ public class GamePanel extends JPanel {
                         topY -= (h - cellSize);
                     }
                     if (mx >= leftX && mx < leftX + w && my >= topY && my < topY + h) {
-                        // Check if hero is within one block range
-                        int heroGridX = hero.getX() / cellSize;
-                        int heroGridY = hero.getY() / cellSize;
-                        if (Math.abs(heroGridX - c) <= 1 && Math.abs(heroGridY - r) <= 1) {
-                            return obj;
-                        }
-                        return null; // Object found but hero not in range
+                        return obj; // whether the hero is in range is checked when the search is carried out
                     }
                 }
             }
@@ -848,12 +1085,13 @@ public class GamePanel extends JPanel {
     private void checkDoorCondition() {
         int hr = hero.getY() / cellSize;
         int hc = hero.getX() / cellSize;
-        if (hr == DOOR_ROW - 1 && hc == DOOR_COL) {
+        if (hr == BuildModePanel.DOOR_ROW - 1 && hc == BuildModePanel.DOOR_COL) {
             if (heroHasRune()) {
                 // Stop timers
                 if (monsterSpawnerTimer != null) monsterSpawnerTimer.cancel();
                 if (monsterMovementTimer != null) monsterMovementTimer.cancel();
                 if (enchantmentSpawnTimer != null) enchantmentSpawnTimer.cancel();
+                stopGameClock();
 
                 System.out.println("Hero escaped with the rune!");
                 gameController.onHeroEscaped();
@@ -885,6 +1123,28 @@ public class GamePanel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
+        GameEvents.PaintEvent paintEvent = new GameEvents.PaintEvent();
+        paintEvent.begin();
+        long paintStart = System.nanoTime();
+        paintScene(g);
+        perfMonitor.recordSince(PerformanceMonitor.PAINT, paintStart);
+        paintEvent.end();
+        if (paintEvent.shouldCommit()) {
+            paintEvent.monsters = monsters.size();
+            paintEvent.enchantments = enchantments.size();
+            paintEvent.commit();
+        }
+
+        if (showPerfOverlay) {
+            drawPerformanceOverlay(g);
+        }
+    }
+
+    /**
+     * Draws the game scene for the current state (death animation, game over screen, or the running hall).
+     * @param g The Graphics context used for drawing.
+     */
+    private void paintScene(Graphics g) {
         if (heroDied) {
             // Set background to black
             setBackground(Color.BLACK);
@@ -918,60 +1178,61 @@ public class GamePanel extends JPanel {
         drawGridLines(g);
         drawPlacedObjects(g);
 
-        // Draw hall name
-        String hallName = gameController.getHall().getName();
-        g.setColor(Color.WHITE);
-        g.setFont(Utils.GameFonts.pixelFont.deriveFont(32f));
-        FontMetrics fm = g.getFontMetrics();
-        int nameWidth = fm.stringWidth(hallName);
-        int nameX = (getWidth() - nameWidth) / 2;
-        g.drawString(hallName, nameX, 30);
+        // The fog only recasts the hero's view when the hero has entered another cell
+        if (fogEnabled) {
+            fogOfWar.update(hero.getY() / cellSize, hero.getX() / cellSize);
+        }
 
         // Draw hero and monsters
         hero.draw(g);
 
         // Draw monsters (some may be behind objects)
         for (Monster m : monsters) {
-            if (!isCoveredByObject(m)) {
+            if (!isCoveredByObject(m) && !isHiddenByFog(m.getX(), m.getY())) {
                 m.draw(g);
             }
         }
         highlightArcherZones(g);
 
         for (Monster m : monsters) {
-            if (isCoveredByObject(m)) {
+            if (isCoveredByObject(m) && !isHiddenByFog(m.getX(), m.getY())) {
                 m.draw(g);
             }
         }
+        projectiles.draw(g);
         if (!isCoveredByObject(hero)) {
             hero.draw(g);
         }
 
         // Draw enchantments
         for (Enchantment e : enchantments) {
-            e.draw(g);
+            if (!isHiddenByFog(e.getX(), e.getY())) {
+                e.draw(g);
+            }
         }
 
         // Draw double-height objects above hero
         drawObjectsAboveHero(g);
 
+        if (fogEnabled) {
+            fogOfWar.draw(g, cellSize);
+        }
+
+        // Draw hall name
+        String hallName = gameController.getHall().getName();
+        g.setColor(Color.WHITE);
+        g.setFont(Utils.GameFonts.pixelFont.deriveFont(32f));
+        FontMetrics fm = g.getFontMetrics();
+        int nameWidth = fm.stringWidth(hallName);
+        int nameX = (getWidth() - nameWidth) / 2;
+        g.drawString(hallName, nameX, 30);
+
         // Draw hearts
         drawHearts(g);
 
-        // Check reveal duration
-        long now = System.currentTimeMillis();
+        // Reveal and cloak are switched off by their timed effects
         if (revealActive) {
-            if (now > revealEndTime) {
-                revealActive = false;
-            } else {
-                drawRevealHighlight(g);
-            }
-        }
-
-        // Check cloak duration
-        if (cloakActive && now > cloakEndTime) {
-            cloakActive = false;
-            System.out.println("Cloak of Protection wore off.");
+            drawRevealHighlight(g);
         }
 
         // Draw throwing animation
@@ -1051,6 +1312,30 @@ public class GamePanel extends JPanel {
         }
     }
 
+    /**
+     * Draws the instrumentation overlay with percentile summaries for every recorded metric.
+     * @param g The Graphics context used for drawing.
+     */
+    private void drawPerformanceOverlay(Graphics g) {
+        String[] lines = perfMonitor.getSummaryLines();
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        FontMetrics fm = g2.getFontMetrics();
+        int lineHeight = fm.getHeight();
+        int width = 0;
+        for (String line : lines) {
+            width = Math.max(width, fm.stringWidth(line));
+        }
+        int x = 8, y = 40;
+        g2.setColor(new Color(0, 0, 0, 170));
+        g2.fillRect(x - 4, y - 4, width + 8, lines.length * lineHeight + 8);
+        g2.setColor(Color.GREEN);
+        for (int i = 0; i < lines.length; i++) {
+            g2.drawString(lines[i], x, y + fm.getAscent() + i * lineHeight);
+        }
+        g2.dispose();
+    }
+
     /**
      * Draws a highlighted area to indicate the region revealed by the Reveal enchantment.
      * @param g The Graphics context used for drawing.
@@ -1072,57 +1357,36 @@ public class GamePanel extends JPanel {
 
     /**
      * Illustrates the range of archers with a highlighted zone, unless the cloak is active.
+     * The zone comes from the maintained threat map and is drawn from a cached overlay image.
      * @param g The Graphics context used for drawing.
      */
     private void highlightArcherZones(Graphics g) {
-        // If cloak is active, skip BFS coverage entirely so archers can't see the hero
+        // If cloak is active, skip coverage entirely so archers can't see the hero
         if (cloakActive) {
             return;
         }
 
-        boolean[][] coverage = new boolean[GRID_ROWS][GRID_COLS];
-        for (Monster m : monsters) {
-            if (m instanceof ArcherMonster) {
-                int startR = m.getY() / cellSize;
-                int startC = m.getX() / cellSize;
-                Queue<int[]> queue = new LinkedList<>();
-                queue.add(new int[]{startR, startC, 0});
-                boolean[][] visited = new boolean[GRID_ROWS][GRID_COLS];
-                visited[startR][startC] = true;
-                while (!queue.isEmpty()) {
-                    int[] curr = queue.poll();
-                    int rr = curr[0];
-                    int cc = curr[1];
-                    int dist = curr[2];
-                    if (dist < 4) {
-                        coverage[rr][cc] = true;
-                        int[][] dirs = {{1,0},{-1,0},{0,1},{0,-1}};
-                        for (int[] d : dirs) {
-                            int nr = rr + d[0];
-                            int nc = cc + d[1];
-                            if (nr >= 0 && nr < GRID_ROWS && nc >= 0 && nc < GRID_COLS) {
-                                if (!visited[nr][nc] && grid[nr][nc] != BuildModePanel.CellType.WALL) {
-                                    visited[nr][nc] = true;
-                                    queue.add(new int[]{nr, nc, dist+1});
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+        if (archerThreatMap.consumeChanges() || archerZoneOverlay == null) {
+            rebuildArcherZoneOverlay();
         }
+        g.drawImage(archerZoneOverlay, 0, 0, GRID_COLS * cellSize, GRID_ROWS * cellSize, null);
+    }
 
-        // Draw coverage in yellow
-        Graphics2D g2d = (Graphics2D) g.create();
-        g2d.setColor(new Color(255, 255, 0, 10));
-        for (int rr = 0; rr < GRID_ROWS; rr++) {
-            for (int cc = 0; cc < GRID_COLS; cc++) {
-                if (coverage[rr][cc] && grid[rr][cc] != BuildModePanel.CellType.WALL) {
-                    g2d.fillRect(cc * cellSize, rr * cellSize, cellSize, cellSize);
-                }
+    /**
+     * Redraws the archer zone overlay with one pixel per cell, so it can be scaled onto the board in a single draw call.
+     */
+    private void rebuildArcherZoneOverlay() {
+        int rows = archerThreatMap.getRows();
+        int cols = archerThreatMap.getCols();
+        if (archerZoneOverlay == null) {
+            archerZoneOverlay = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_ARGB);
+        }
+        int yellow = new Color(255, 255, 0, 10).getRGB();
+        for (int rr = 0; rr < rows; rr++) {
+            for (int cc = 0; cc < cols; cc++) {
+                archerZoneOverlay.setRGB(cc, rr, archerThreatMap.isCovered(rr, cc) ? yellow : 0);
             }
         }
-        g2d.dispose();
     }
 
     /**
@@ -1162,6 +1426,7 @@ public class GamePanel extends JPanel {
             if (monsterSpawnerTimer != null) monsterSpawnerTimer.cancel();
             if (monsterMovementTimer != null) monsterMovementTimer.cancel();
             if (enchantmentSpawnTimer != null) enchantmentSpawnTimer.cancel();
+            stopGameClock();
 
             // Show death animation for 2 seconds
             gameOverTimer = new Timer(true);
@@ -1297,14 +1562,11 @@ public class GamePanel extends JPanel {
      */
     private void loadDiedHeroImage() {
         try {
-            URL diedHeroUrl = getClass().getClassLoader().getResource(AssetPaths.DIED_HERO.substring(1));
-            if (diedHeroUrl != null) {
-                BufferedImage originalImage = ImageIO.read(diedHeroUrl);
-                if (!hero.isFacingLeft()) {
-                    diedHeroImage = mirrorImage(originalImage);
-                } else {
-                    diedHeroImage = originalImage;
-                }
+            BufferedImage originalImage = ImageLoader.readCached(AssetPaths.DIED_HERO);
+            if (!hero.isFacingLeft()) {
+                diedHeroImage = mirrorImage(originalImage);
+            } else {
+                diedHeroImage = originalImage;
             }
         } catch (IOException e) {
             diedHeroImage = null;
@@ -1349,7 +1611,7 @@ public class GamePanel extends JPanel {
                             cellSize,
                             type
                     );
-                    enchantments.add(ench);
+                    addFloorEnchantment(ench, Enchantment.LIFETIME_MS);
                     System.out.println("Spawned initial " + type + " enchantment at " + r + "," + c);
                     break;
                 }
@@ -1363,10 +1625,7 @@ public class GamePanel extends JPanel {
      */
     private void loadDoorImage() {
         try {
-            URL doorUrl = getClass().getClassLoader().getResource(AssetPaths.DOOR_IMAGE.substring(1));
-            if (doorUrl != null) {
-                doorImage = ImageIO.read(doorUrl);
-            }
+            doorImage = ImageLoader.readCached(AssetPaths.DOOR_IMAGE);
         } catch (IOException e) {
             doorImage = null;
         }
@@ -1377,10 +1636,10 @@ public class GamePanel extends JPanel {
      */
     private void placeDoorAsObject() {
         if (doorImage != null) {
-            placedObjects[DOOR_ROW][DOOR_COL] = new BuildModePanel.PlacedObject(
+            placedObjects[BuildModePanel.DOOR_ROW][BuildModePanel.DOOR_COL] = new BuildModePanel.PlacedObject(
                     toBufferedImage(doorImage),
-                    DOOR_ROW,
-                    DOOR_COL,
+                    BuildModePanel.DOOR_ROW,
+                    BuildModePanel.DOOR_COL,
                     false
             );
         }
@@ -1407,10 +1666,7 @@ public class GamePanel extends JPanel {
      */
     private void loadHeartImage() {
         try {
-            URL heartUrl = getClass().getClassLoader().getResource(AssetPaths.HEART.substring(1));
-            if (heartUrl != null) {
-                heartImage = ImageIO.read(heartUrl);
-            }
+            heartImage = ImageLoader.readCached(AssetPaths.HEART);
         } catch (IOException e) {
             heartImage = null;
         }
@@ -1439,10 +1695,7 @@ public class GamePanel extends JPanel {
      */
     private void loadGameOverImage() {
         try {
-            URL go = getClass().getClassLoader().getResource(AssetPaths.GAME_OVER.substring(1));
-            if (go != null) {
-                gameOverImage = ImageIO.read(go);
-            }
+            gameOverImage = ImageLoader.readCached(AssetPaths.GAME_OVER);
         } catch (IOException e) {
             gameOverImage = null;
         }
@@ -1453,10 +1706,7 @@ public class GamePanel extends JPanel {
      */
     private void loadRuneImage() {
         try {
-            URL r = getClass().getClassLoader().getResource(AssetPaths.RUNE.substring(1));
-            if (r != null) {
-                runeImage = ImageIO.read(r);
-            }
+            runeImage = ImageLoader.readCached(AssetPaths.RUNE);
         } catch (IOException e) {
             runeImage = null;
         }
@@ -1467,9 +1717,7 @@ public class GamePanel extends JPanel {
      */
     private void initializeFloorWallImages() {
         try {
-            URL url = getClass().getClassLoader().getResource(AssetPaths.SPRITESHEET.substring(1));
-            if (url == null) throw new IOException();
-            BufferedImage sheet = ImageIO.read(url);
+            BufferedImage sheet = ImageLoader.readCached(AssetPaths.SPRITESHEET);
 
             int[] floorCoords = AssetPaths.FLOOR_TILE;
             floorImage = sheet.getSubimage(floorCoords[0], floorCoords[1], floorCoords[2], floorCoords[3]);
@@ -1527,6 +1775,10 @@ public class GamePanel extends JPanel {
      */
     public void recreateMonsters(List<GameState.MonsterState> monsterStates) {
         monsters.clear();
+        entities.clear();
+        aiLod.clear();
+        archerThreatMap.clear();
+        projectiles.clear();
         for (GameState.MonsterState state : monsterStates) {
             Point pixelPos = GameState.gridToPixel(state.getGridX(), state.getGridY());
             Monster monster = null;
@@ -1543,6 +1795,10 @@ public class GamePanel extends JPanel {
             }
             if (monster != null) {
                 monsters.add(monster);
+                entities.add(monster);
+                if (monster instanceof ArcherMonster) {
+                    archerThreatMap.addArcher(monster);
+                }
             }
         }
     }
@@ -1552,13 +1808,9 @@ public class GamePanel extends JPanel {
      */
     private void initializeButtonImages() {
         try {
-            URL p = getClass().getClassLoader().getResource(AssetPaths.PAUSE_BUTTON.substring(1));
-            URL r = getClass().getClassLoader().getResource(AssetPaths.RESUME_BUTTON.substring(1));
-            URL e = getClass().getClassLoader().getResource(AssetPaths.EXIT_GAME.substring(1));
-            if (p == null || r == null || e == null) throw new IOException();
-            pauseButtonImage = ImageIO.read(p);
-            resumeButtonImage = ImageIO.read(r);
-            exitButtonImage = ImageIO.read(e);
+            pauseButtonImage = ImageLoader.readCached(AssetPaths.PAUSE_BUTTON);
+            resumeButtonImage = ImageLoader.readCached(AssetPaths.RESUME_BUTTON);
+            exitButtonImage = ImageLoader.readCached(AssetPaths.EXIT_GAME);
         } catch (IOException ex) {
             pauseButtonImage = null;
             resumeButtonImage = null;
@@ -1583,10 +1835,13 @@ public class GamePanel extends JPanel {
                 updatePauseButtonIcon(pauseButton);
 
                 if (isPaused) {
+                    // Drop queued moves so they are not replayed after resuming
+                    keyboardController.clearQueue();
                     // Pause timers
                     if (monsterSpawnerTimer != null) monsterSpawnerTimer.cancel();
                     if (monsterMovementTimer != null) monsterMovementTimer.cancel();
                     if (enchantmentSpawnTimer != null) enchantmentSpawnTimer.cancel();
+                    if (gameClockTimer != null) gameClockTimer.cancel();
                     // Pause game timer
                     if (gameController != null && gameController.getGameTimer() != null) {
                         gameController.getGameTimer().pause();
@@ -1596,6 +1851,7 @@ public class GamePanel extends JPanel {
                     startMonsterSpawner();
                     startMonsterMovement();
                     startEnchantmentSpawner();
+                    startGameClock();
                     // Resume game timer
                     if (gameController != null && gameController.getGameTimer() != null) {
                         gameController.getGameTimer().resume();
@@ -1635,6 +1891,7 @@ public class GamePanel extends JPanel {
             exitButton.setIcon(new ImageIcon(exitButtonImage.getScaledInstance(64, 64, Image.SCALE_SMOOTH)));
         }
         exitButton.addActionListener(e -> {
+            stopGameClock();
             JFrame mm = new RokueLikeMainMenu();
             mm.setVisible(true);
             SwingUtilities.getWindowAncestor(this).dispose();
@@ -1707,6 +1964,7 @@ public class GamePanel extends JPanel {
      */
     public void setHero(Hero h) {
         this.hero = h;
+        h.setTimedEffects(timedEffects);
     }
 
     /**
@@ -1743,6 +2001,22 @@ public class GamePanel extends JPanel {
         m.setPendingRemoval(true);
     }
 
+    /**
+     * Returns the game-time scheduler for this hall. Tasks run on the event thread and stop while paused.
+     * @return the GameScheduler for this hall
+     */
+    public GameScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Returns the system that owns every arrow currently in flight.
+     * @return the ProjectileSystem for this hall
+     */
+    public ProjectileSystem getProjectiles() {
+        return projectiles;
+    }
+
     /**
      * Retrieves the current Hero instance associated with this game panel.
      * @return The Hero object.
@@ -1752,19 +2026,30 @@ public class GamePanel extends JPanel {
     }
 
     /**
-     * Returns a snapshot of the enchantments currently present in the world.
+     * Returns a snapshot of the enchantments currently present in the world, each with the game time it has
+     * left on the floor recorded so that a save can restore it.
      * @return A new List containing all active enchantments.
      */
     public List<Enchantment> getEnchantments() {
+        for (Enchantment e : enchantments) {
+            e.setRemainingLifetime(timedEffects.getRemainingMillis(e));
+        }
         return new ArrayList<>(enchantments);
     }
 
     /**
-     * Sets the current active enchantments in the world to the provided list.
+     * Sets the current active enchantments in the world to the provided list. Each stays on the floor for the
+     * game time it had left when it was saved.
      * @param loadedEnchantments The list of enchantments to be added.
      */
     public void setEnchantments(List<Enchantment> loadedEnchantments) {
-        this.enchantments = new ArrayList<>(loadedEnchantments);
+        for (Enchantment e : enchantments) {
+            timedEffects.cancel(e);
+        }
+        this.enchantments = new ArrayList<>();
+        for (Enchantment e : loadedEnchantments) {
+            addFloorEnchantment(e, e.getRemainingLifetime());
+        }
     }
 
     /**
@@ -1782,4 +2067,66 @@ public class GamePanel extends JPanel {
     public Point getLurePosition() {
         return lurePosition;
     }
-}
\ No newline at end of file
+
+    /**
+     * The live game seen through the same read-only view the headless simulator gives its bots, so any
+     * HeroController can drive the hero here. Pixel positions are converted to cells.
+     */
+    private class PanelHeroView implements HeroView {
+        @Override public int getRows() { return GRID_ROWS; }
+        @Override public int getCols() { return GRID_COLS; }
+        @Override public int getHeroRow() { return hero.getY() / cellSize; }
+        @Override public int getHeroCol() { return hero.getX() / cellSize; }
+        @Override public int getHeroHealth() { return hero.getHealth(); }
+        @Override public int getExitRow() { return BuildModePanel.DOOR_ROW - 1; }
+        @Override public int getExitCol() { return BuildModePanel.DOOR_COL; }
+        @Override public int getTimeRemaining() { return gameController.getTimeRemaining(); }
+        @Override public boolean isRuneFound() { return gameController.gameState.isRuneFound(); }
+
+        @Override
+        public boolean isWalkable(int row, int col) {
+            if (row < 0 || row >= GRID_ROWS || col < 0 || col >= GRID_COLS) return false;
+            if (grid[row][col] == BuildModePanel.CellType.WALL) return false;
+            PlacedObject po = placedObjects[row][col];
+            return po == null || po == placedObjects[BuildModePanel.DOOR_ROW][BuildModePanel.DOOR_COL];
+        }
+
+        @Override
+        public boolean hasObject(int row, int col) {
+            return row >= 0 && row < GRID_ROWS && col >= 0 && col < GRID_COLS && placedObjects[row][col] != null;
+        }
+
+        @Override public int getMonsterCount() { return monsters.size(); }
+        @Override public int getMonsterRow(int i) { return monsters.get(i).getY() / cellSize; }
+        @Override public int getMonsterCol(int i) { return monsters.get(i).getX() / cellSize; }
+
+        @Override
+        public MonsterType getMonsterType(int i) {
+            Monster m = monsters.get(i);
+            if (m instanceof ArcherMonster) return MonsterType.ARCHER;
+            if (m instanceof FighterMonster) return MonsterType.FIGHTER;
+            return MonsterType.WIZARD;
+        }
+
+        @Override public int getFloorEnchantmentCount() { return enchantments.size(); }
+        @Override public EnchantmentType getFloorEnchantmentType(int i) { return enchantments.get(i).getType(); }
+        @Override public int getFloorEnchantmentRow(int i) { return enchantments.get(i).getY() / cellSize; }
+        @Override public int getFloorEnchantmentCol(int i) { return enchantments.get(i).getX() / cellSize; }
+
+        @Override
+        public int getInventoryCount(EnchantmentType type) {
+            int count = 0;
+            for (Enchantment e : hero.getInventory().getCollectedEnchantments()) {
+                if (e.getType() == type) count++;
+            }
+            return count;
+        }
+
+        @Override public boolean isInventoryFull() { return hero.getInventory().isFull(); }
+        @Override public boolean isRevealActive() { return revealActive; }
+        @Override public int getRevealTopRow() { return revealTopRow; }
+        @Override public int getRevealLeftCol() { return revealLeftCol; }
+        @Override public boolean isCloakActive() { return cloakActive; }
+        @Override public boolean isLureActive() { return luringGemActive; }
+    }
+}
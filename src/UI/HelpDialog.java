@@ -31,10 +31,12 @@ public class HelpDialog extends JDialog {
                 "Press 'R' to use the Reveal enchantment if available, highlighting a region where the rune may be.",
                 "Press 'P' to use the Cloak of Protection, which hides the hero from certain dangers for 20 seconds.",
                 "Press 'B' and then a direction key (A, D, W, S) to throw the Luring Gem in the desired direction.",
+                "Press 'F' to turn the fog of war on or off. You can only see monsters and enchantments near the hero.",
                 "Watch the timer and make sure to find the rune before time runs out.",
                 "Check the hero's bag on the screen to see available enchantments and their quantities.",
                 "Use the Pause button to pause/resume the game.",
-                "Use the Exit button to return to the Main Menu."
+                "Use the Exit button to return to the Main Menu.",
+                "Press F3 to show frame and tick statistics, and F4 to export them to the perf folder."
         );
 
         JTextPane helpText = new JTextPane();
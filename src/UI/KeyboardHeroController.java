@@ -0,0 +1,108 @@
+package UI;
+
+import Domain.EnchantmentType;
+import Domain.HeroAction;
+import Domain.HeroController;
+import Domain.HeroView;
+
+import java.awt.event.KeyEvent;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The player at the keyboard and mouse. Key presses are turned into hero actions here: arrow keys move, R reveals,
+ * P cloaks, and B followed by W, A, S or D throws a luring gem. The {@link GamePanel} queues the actions with
+ * {@link #enqueue(HeroAction)} until it asks for the next one on its clock tick, except for enchantments used while
+ * the game is paused, which it carries out at once. Mouse clicks are hit-tested by the panel, which queues the
+ * resulting search or pick-up the same way. Events and ticks both arrive on the event dispatch thread.
+ */
+public class KeyboardHeroController implements HeroController {
+    private final Deque<HeroAction> pending = new ArrayDeque<>();
+    private boolean waitingForDirection = false;
+
+    /**
+     * Translates a key press into a hero action. B only waits for a direction and yields no action itself.
+     * @param e The key event containing user input.
+     * @param view the hall, to check that a luring gem is at hand before B waits for a direction
+     * @return the action, or null if the key makes none
+     */
+    public HeroAction translate(KeyEvent e, HeroView view) {
+        int key = e.getKeyCode();
+        if (waitingForDirection && key != KeyEvent.VK_B) {
+            HeroAction lure = null;
+            switch (key) {
+                case KeyEvent.VK_W: lure = HeroAction.throwLure(-1, 0); break;
+                case KeyEvent.VK_S: lure = HeroAction.throwLure(1, 0); break;
+                case KeyEvent.VK_A: lure = HeroAction.throwLure(0, -1); break;
+                case KeyEvent.VK_D: lure = HeroAction.throwLure(0, 1); break;
+            }
+            if (lure != null) {
+                waitingForDirection = false;
+                return lure;
+            }
+        }
+        switch (key) {
+            case KeyEvent.VK_UP: return HeroAction.move(-1, 0);
+            case KeyEvent.VK_DOWN: return HeroAction.move(1, 0);
+            case KeyEvent.VK_LEFT: return HeroAction.move(0, -1);
+            case KeyEvent.VK_RIGHT: return HeroAction.move(0, 1);
+            case KeyEvent.VK_B:
+                if (view.getInventoryCount(EnchantmentType.LURINGGEM) > 0) {
+                    waitingForDirection = true;
+                    System.out.println("Luring Gem activated - Press WASD to choose direction");
+                }
+                return null;
+        }
+        if (waitingForDirection) {
+            return null; // other keys are ignored until a direction is chosen
+        }
+        switch (key) {
+            case KeyEvent.VK_R: return HeroAction.use(EnchantmentType.REVEAL);
+            case KeyEvent.VK_P: return HeroAction.use(EnchantmentType.CLOAK);
+            default: return null;
+        }
+    }
+
+    /**
+     * Queues an action worked out elsewhere, e.g. from a mouse click.
+     * @param action the action to take on a coming tick
+     */
+    public void enqueue(HeroAction action) {
+        pending.addLast(action);
+    }
+
+    /**
+     * Checks whether B was pressed and the next W, A, S or D key picks the luring gem's direction.
+     * @return true while a direction is awaited
+     */
+    public boolean isWaitingForDirection() {
+        return waitingForDirection;
+    }
+
+    /**
+     * Drops queued actions, e.g. when the game is paused, so they are not replayed afterwards. A luring gem
+     * direction being chosen is kept, as the gem can still be thrown while paused.
+     */
+    public void clearQueue() {
+        pending.clear();
+    }
+
+    /**
+     * Drops queued actions and any pending luring gem throw, when another controller takes over.
+     */
+    public void clear() {
+        pending.clear();
+        waitingForDirection = false;
+    }
+
+    /**
+     * Hands out the queued actions one per tick, in the order they were made.
+     * @param view the current state of the hall, not needed for the player's own input
+     * @return the oldest queued action, or IDLE if there is none
+     */
+    @Override
+    public HeroAction nextAction(HeroView view) {
+        HeroAction action = pending.pollFirst();
+        return action != null ? action : HeroAction.idle();
+    }
+}
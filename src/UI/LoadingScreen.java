@@ -0,0 +1,54 @@
+package UI;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * A small undecorated window shown while the game's images are preloaded, with a progress bar.
+ */
+public class LoadingScreen extends JWindow {
+    private static final int WIDTH = 420;
+    private static final int HEIGHT = 140;
+
+    private final JProgressBar progressBar;
+    private final JLabel statusLabel;
+
+    public LoadingScreen() {
+        JPanel panel = new JPanel(new BorderLayout(10, 10));
+        panel.setBackground(Color.BLACK);
+        panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+
+        JLabel titleLabel = new JLabel("Rokue-Like", SwingConstants.CENTER);
+        titleLabel.setForeground(Color.WHITE);
+        titleLabel.setFont(new Font("Arial", Font.BOLD, 24));
+        panel.add(titleLabel, BorderLayout.NORTH);
+
+        progressBar = new JProgressBar();
+        progressBar.setStringPainted(true);
+        panel.add(progressBar, BorderLayout.CENTER);
+
+        statusLabel = new JLabel("Loading assets...", SwingConstants.CENTER);
+        statusLabel.setForeground(Color.LIGHT_GRAY);
+        statusLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+        panel.add(statusLabel, BorderLayout.SOUTH);
+
+        setContentPane(panel);
+        setSize(WIDTH, HEIGHT);
+        setLocationRelativeTo(null);
+    }
+
+    /**
+     * Shows how far preloading has got. Safe to call from any thread.
+     * @param done the number of images finished
+     * @param total the number of images being loaded
+     * @param path the image that just finished
+     */
+    public void setProgress(int done, int total, String path) {
+        SwingUtilities.invokeLater(() -> {
+            progressBar.setMaximum(total);
+            progressBar.setValue(done);
+            progressBar.setString(done + " / " + total);
+            statusLabel.setText(path.substring(path.lastIndexOf('/') + 1));
+        });
+    }
+}
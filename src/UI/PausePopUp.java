@@ -1,10 +1,13 @@
 package UI;
 
 import Utils.AssetPaths;
+import Utils.ImageLoader;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
 
 public class PausePopUp extends JDialog {
     private JPanel mainPanel;
@@ -29,14 +32,16 @@ public class PausePopUp extends JDialog {
 
         // Load the PNG image using AssetPaths
         String imagePath = AssetPaths.PAUSED_INDICATOR;
-        ImageIcon originalIcon = new ImageIcon(getClass().getResource(imagePath));
-
-        if (originalIcon.getImage() == null) {
+        Image originalImage;
+        try {
+            originalImage = ImageLoader.readCached(imagePath);
+        } catch (IOException e) {
             System.err.println("ERROR: Failed to load image from " + imagePath);
+            originalImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
         }
 
         // Scale the image
-        Image scaledImage = originalIcon.getImage().getScaledInstance(
+        Image scaledImage = originalImage.getScaledInstance(
                 DIALOG_WIDTH - 40, // Leave some padding
                 DIALOG_HEIGHT - 60, // Leave space for button
                 Image.SCALE_SMOOTH
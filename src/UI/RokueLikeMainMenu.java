@@ -1,16 +1,16 @@
 package UI;
 
-import Controller.BuildModeController;
 import Controller.GameController;
 import Domain.Hall;
 import Utils.AssetPaths;
+import Utils.ImageLoader;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.image.BufferedImage;
-import java.net.URL;
+import java.io.IOException;
 
 /**
  * The main menu of the Rokue-Like game.
@@ -51,7 +51,7 @@ public class RokueLikeMainMenu extends JFrame {
             GameController.resetProgress(); // Reset progress for new game
             Hall earthHall = new Hall("Hall of Earth", 13, 13, 6);
             GameController gameController = new GameController(earthHall);
-            new BuildModeController(earthHall, gameController);
+            gameController.openHall(null);
         });
 
         helpButton.addActionListener(e -> {
@@ -86,14 +86,9 @@ public class RokueLikeMainMenu extends JFrame {
 
     private ImageIcon loadImageIcon(String resourcePath) {
         try {
-            String pathForResource = resourcePath.startsWith("/") ? resourcePath.substring(1) : resourcePath;
-            URL resourceUrl = getClass().getClassLoader().getResource(pathForResource);
-            if (resourceUrl == null) {
-                System.err.println("Could not find resource at: " + resourcePath);
-                return createFallbackIcon();
-            }
-            return new ImageIcon(resourceUrl);
-        } catch (Exception e) {
+            // Decoded by the startup preloader, so this normally returns straight from the cache
+            return new ImageIcon(ImageLoader.readCached(resourcePath));
+        } catch (IOException e) {
             System.err.println("Error loading image from " + resourcePath + ": " + e.getMessage());
             return createFallbackIcon();
         }
@@ -43,7 +43,7 @@ public class AssetPaths {
 
 
     // In-game
-    public static final String BUILD_MODE_BACKGROUND = getPath("/Assets/build-mode.png");
+    public static final String BUILD_MODE_BACKGROUND = getPath("/build-mode.png");
     public static final String HERO = getPath("/player.png");
     public static final String ARCHER = getPath("/archer.png");
     public static final String WIZARD = getPath("/wizard.png");
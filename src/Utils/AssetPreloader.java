@@ -0,0 +1,99 @@
+package Utils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes every image listed in {@link AssetPaths} at startup, in parallel, into the {@link ImageLoader} cache.
+ * The images are found by reflection, so a new constant in AssetPaths is preloaded without touching this class.
+ * Later screens read through {@link ImageLoader#readCached(String)} and open without decoding anything.
+ */
+public final class AssetPreloader {
+
+    /**
+     * Receives progress as images finish decoding. Called from the preloading threads.
+     */
+    public interface ProgressListener {
+        /**
+         * @param done the number of images finished so far, including failed ones
+         * @param total the number of images being preloaded
+         * @param path the image that just finished
+         */
+        void onProgress(int done, int total, String path);
+    }
+
+    private AssetPreloader() {
+    }
+
+    /**
+     * Lists the image resource paths declared as constants in AssetPaths.
+     * @return the paths, in declaration order
+     */
+    public static List<String> discoverImagePaths() {
+        List<String> paths = new ArrayList<>();
+        for (Field field : AssetPaths.class.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isPublic(modifiers) || !Modifier.isStatic(modifiers) || field.getType() != String.class) {
+                continue;
+            }
+            try {
+                String path = (String) field.get(null);
+                if (path != null && path.endsWith(".png") && !paths.contains(path)) {
+                    paths.add(path);
+                }
+            } catch (IllegalAccessException e) {
+                System.err.println("Cannot read asset path " + field.getName());
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Decodes every image from AssetPaths on a pool with one thread per processor.
+     * Images that are missing or broken are reported and skipped; the screens that use them fall back as before.
+     * @param listener receives progress, or null
+     * @return a future that completes with the number of images decoded successfully
+     */
+    public static CompletableFuture<Integer> preloadAll(ProgressListener listener) {
+        List<String> paths = discoverImagePaths();
+        int threads = Math.max(1, Math.min(paths.size(), Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preloader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger loaded = new AtomicInteger();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            String path = paths.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    ImageLoader.readCached(path);
+                    loaded.incrementAndGet();
+                } catch (IOException e) {
+                    System.err.println("Could not preload " + path + ": " + e.getMessage());
+                }
+                if (listener != null) {
+                    listener.onProgress(done.incrementAndGet(), paths.size(), path);
+                }
+            }, pool);
+        }
+        return CompletableFuture.allOf(tasks).handle((ignored, error) -> {
+            pool.shutdown();
+            System.out.println("Preloaded " + loaded.get() + "/" + paths.size() + " images on " + threads
+                    + " threads in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            return loaded.get();
+        });
+    }
+}
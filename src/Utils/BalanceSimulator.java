@@ -0,0 +1,256 @@
+package Utils;
+
+import Controller.GameController;
+import Domain.GreedySearchBot;
+import Domain.HallGenerator;
+import Domain.HeroController;
+import Domain.LureBot;
+import Domain.RandomWalkBot;
+import Domain.SimulatedHall;
+import UI.BuildModePanel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays many halls headless with scripted bots to see how the balance constants play out: win rate, how long it
+ * takes to find the rune and how much damage the hero takes, per hall and per bot. Halls are generated with the
+ * build mode generator for each hall's minimum object count and played as {@link SimulatedHall}s on one thread per
+ * processor. Every game has its own seed, so a run is repeatable for the same arguments.
+ * Halls are played on their own: the inventory the game carries from one hall to the next starts empty here.
+ * <pre>java -cp out Utils.BalanceSimulator [games per hall and bot] [--option=value ...]</pre>
+ * Options: --time-per-object, --monster-spawn-ms, --enchantment-spawn-ms, --archer-range, --hero-step-ms,
+ * --hero-health, --min-objects (comma separated), --bots (comma separated: random, greedy, lure), --layouts,
+ * --threads and --seed.
+ */
+public class BalanceSimulator {
+    private static final int GENERATOR_CANDIDATES = 32;
+    private static final int GAMES_PER_TASK = 250;
+    private static final int DAMAGE_BUCKETS = 4;  // 0, 1, 2 and 3+ damage
+
+    /**
+     * The bots the simulator can play with.
+     */
+    enum Policy {
+        RANDOM, GREEDY, LURE;
+
+        HeroController create(Random random) {
+            switch (this) {
+                case GREEDY: return new GreedySearchBot(random);
+                case LURE: return new LureBot(random);
+                default: return new RandomWalkBot(random);
+            }
+        }
+    }
+
+    /**
+     * The results of one hall played by one bot.
+     */
+    private static final class Tally {
+        final int[] outcomes = new int[SimulatedHall.Outcome.values().length];
+        final int[] damage = new int[DAMAGE_BUCKETS];
+        final LatencyHistogram runeFoundMs = new LatencyHistogram();
+        final LatencyHistogram damageTaken = new LatencyHistogram();
+        long timeLeftOnEscape = 0;
+        int games = 0;
+
+        synchronized void add(SimulatedHall.Result result) {
+            games++;
+            outcomes[result.getOutcome().ordinal()]++;
+            damage[Math.min(DAMAGE_BUCKETS - 1, result.getDamageTaken())]++;
+            damageTaken.record(result.getDamageTaken());
+            if (result.getRuneFoundMs() >= 0) {
+                runeFoundMs.record(result.getRuneFoundMs());
+            }
+            if (result.getOutcome() == SimulatedHall.Outcome.ESCAPED) {
+                timeLeftOnEscape += result.getTimeLeft();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int games = 2000;
+        int[] minObjects = GameController.getMinObjectCounts();
+        List<Policy> policies = new ArrayList<>(List.of(Policy.values()));
+        int layoutsPerHall = 64;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 42;
+        SimulatedHall.Rules rules = new SimulatedHall.Rules();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                games = Integer.parseInt(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                usage("Missing value: " + arg);
+                return;
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (name) {
+                case "time-per-object": rules.timePerObject = Integer.parseInt(value); break;
+                case "monster-spawn-ms": rules.monsterSpawnMs = Long.parseLong(value); break;
+                case "enchantment-spawn-ms": rules.enchantmentSpawnMs = Long.parseLong(value); break;
+                case "archer-range": rules.archerRange = Integer.parseInt(value); break;
+                case "hero-step-ms": rules.heroStepMs = Long.parseLong(value); break;
+                case "hero-health": rules.heroHealth = Integer.parseInt(value); break;
+                case "layouts": layoutsPerHall = Integer.parseInt(value); break;
+                case "threads": threads = Integer.parseInt(value); break;
+                case "seed": seed = Long.parseLong(value); break;
+                case "min-objects": {
+                    String[] parts = value.split(",");
+                    minObjects = new int[parts.length];
+                    for (int i = 0; i < parts.length; i++) {
+                        minObjects[i] = Integer.parseInt(parts[i].trim());
+                    }
+                    break;
+                }
+                case "bots": {
+                    policies.clear();
+                    for (String bot : value.split(",")) {
+                        policies.add(Policy.valueOf(bot.trim().toUpperCase()));
+                    }
+                    break;
+                }
+                default:
+                    usage("Unknown option: " + arg);
+                    return;
+            }
+        }
+
+        System.out.printf("Rules: %d s per object, monsters every %d ms, enchantments every %d ms, archer range %d, "
+                        + "hero step %d ms, health %d%n", rules.timePerObject, rules.monsterSpawnMs,
+                rules.enchantmentSpawnMs, rules.archerRange, rules.heroStepMs, rules.heroHealth);
+
+        long start = System.nanoTime();
+        int[][][][] layouts = generateLayouts(minObjects, layoutsPerHall, seed);
+        System.out.printf("Generated %d layouts per hall in %d ms%n", layoutsPerHall,
+                (System.nanoTime() - start) / 1_000_000);
+
+        Tally[][] tallies = play(layouts, policies, rules, games, threads, seed);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%n%-5s %-4s %-7s %6s | %6s %6s %7s | %7s %7s %7s | %5s %-15s | %7s%n",
+                "hall", "min", "bot", "games", "win%", "died%", "timeup%",
+                "rune%", "p50 s", "p90 s", "dmg", "0/1/2/3+ dmg %", "left s");
+        long total = 0;
+        for (int h = 0; h < minObjects.length; h++) {
+            for (int p = 0; p < policies.size(); p++) {
+                Tally t = tallies[h][p];
+                total += t.games;
+                int escaped = t.outcomes[SimulatedHall.Outcome.ESCAPED.ordinal()];
+                System.out.printf("%-5d %-4d %-7s %6d | %6.1f %6.1f %7.1f | %7.1f %7.1f %7.1f | %5.2f %-15s | %7.1f%n",
+                        h + 1, minObjects[h], policies.get(p).name().toLowerCase(), t.games,
+                        percent(escaped, t.games),
+                        percent(t.outcomes[SimulatedHall.Outcome.DIED.ordinal()], t.games),
+                        percent(t.outcomes[SimulatedHall.Outcome.TIME_UP.ordinal()], t.games),
+                        percent((int) t.runeFoundMs.getTotalCount(), t.games),
+                        t.runeFoundMs.getValueAtPercentile(0.5) / 1000.0,
+                        t.runeFoundMs.getValueAtPercentile(0.9) / 1000.0,
+                        t.damageTaken.getMean(),
+                        String.format("%.0f/%.0f/%.0f/%.0f", percent(t.damage[0], t.games),
+                                percent(t.damage[1], t.games), percent(t.damage[2], t.games),
+                                percent(t.damage[3], t.games)),
+                        escaped == 0 ? 0.0 : (double) t.timeLeftOnEscape / escaped);
+            }
+        }
+        System.out.printf("%n%d games on %d threads in %.1f s (%.0f games/s)%n", total, threads,
+                elapsed / 1e9, total / (elapsed / 1e9));
+    }
+
+    /**
+     * Generates the layouts each hall is played on. Every generation already runs its candidates in parallel.
+     * @return for each hall, a list of object type grids
+     */
+    private static int[][][][] generateLayouts(int[] minObjects, int perHall, long seed) {
+        BuildModePanel.CellType[][] grid = BuildModePanel.createHallGrid();
+        HallGenerator generator = new HallGenerator(grid, BuildModePanel.getDefinedDoubleHeights(),
+                BuildModePanel.DOOR_ROW - 1, BuildModePanel.DOOR_COL);
+        int[][][][] layouts = new int[minObjects.length][][][];
+        for (int h = 0; h < minObjects.length; h++) {
+            List<int[][]> found = new ArrayList<>();
+            for (int i = 0; i < perHall; i++) {
+                HallGenerator.Layout layout = generator.generate(minObjects[h], GENERATOR_CANDIDATES,
+                        seed * 31 + h * 1_000_003L + i);
+                if (layout != null) {
+                    found.add(layout.getObjectTypes());
+                }
+            }
+            if (found.isEmpty()) {
+                throw new IllegalStateException("No layout could be generated for " + minObjects[h] + " objects");
+            }
+            layouts[h] = found.toArray(new int[0][][]);
+        }
+        return layouts;
+    }
+
+    /**
+     * Plays every hall with every bot, split into tasks of a few hundred games on a fixed thread pool.
+     */
+    private static Tally[][] play(int[][][][] layouts, List<Policy> policies, SimulatedHall.Rules rules,
+                                  int games, int threads, long seed) throws InterruptedException {
+        Tally[][] tallies = new Tally[layouts.length][policies.size()];
+        List<Callable<Void>> tasks = new ArrayList<>();
+        BuildModePanel.CellType[][] grid = BuildModePanel.createHallGrid();
+        for (int h = 0; h < layouts.length; h++) {
+            for (int p = 0; p < policies.size(); p++) {
+                Tally tally = new Tally();
+                tallies[h][p] = tally;
+                int[][][] hallLayouts = layouts[h];
+                Policy policy = policies.get(p);
+                long pairSeed = seed ^ ((h + 1L) * 0x9E3779B97F4A7C15L) ^ ((p + 1L) * 0xC2B2AE3D27D4EB4FL);
+                for (int from = 0; from < games; from += GAMES_PER_TASK) {
+                    int first = from;
+                    int last = Math.min(games, from + GAMES_PER_TASK);
+                    tasks.add(() -> {
+                        for (int g = first; g < last; g++) {
+                            long gameSeed = pairSeed + g * 0x2545F4914F6CDD1DL;
+                            SimulatedHall hall = new SimulatedHall(grid, hallLayouts[g % hallLayouts.length], rules,
+                                    gameSeed);
+                            tally.add(hall.play(policy.create(new Random(gameSeed + 1))));
+                        }
+                        return null;
+                    });
+                }
+            }
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "balance-simulator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        return tallies;
+    }
+
+    private static double percent(int count, int total) {
+        return total == 0 ? 0.0 : 100.0 * count / total;
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Usage: java -cp out Utils.BalanceSimulator [games per hall and bot] [--option=value ...]");
+        System.err.println("Options: --time-per-object --monster-spawn-ms --enchantment-spawn-ms --archer-range "
+                + "--hero-step-ms --hero-health --min-objects=6,9,13,17 --bots=random,greedy,lure --layouts "
+                + "--threads --seed");
+    }
+}
@@ -0,0 +1,108 @@
+package Utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Custom Java Flight Recorder events emitted from the game's hot paths.
+ * When no recording is running these events are disabled and begin()/commit() cost next to nothing.
+ * Start a recording during play with: jcmd &lt;pid&gt; JFR.start duration=60s filename=rokuelike.jfr
+ */
+public final class GameEvents {
+
+    private GameEvents() {
+    }
+
+    /**
+     * One pass of the monster update loop.
+     */
+    @Name("rokuelike.MonsterTick")
+    @Label("Monster Tick")
+    @Category({"RoKUelike", "Game Loop"})
+    @StackTrace(false)
+    public static class TickEvent extends Event {
+        @Label("Monsters")
+        public int monsters;
+
+        @Label("Removed Monsters")
+        public int removed;
+    }
+
+    /**
+     * One call to PathFinder.findPath.
+     */
+    @Name("rokuelike.Pathfinding")
+    @Label("Pathfinding")
+    @Category({"RoKUelike", "AI"})
+    @StackTrace(false)
+    public static class PathfindingEvent extends Event {
+        @Label("Nodes Expanded")
+        public int nodesExpanded;
+
+        @Label("Path Length")
+        public int pathLength;
+
+        @Label("Path Found")
+        public boolean found;
+    }
+
+    /**
+     * One call to GamePanel.paintComponent.
+     */
+    @Name("rokuelike.Paint")
+    @Label("Paint")
+    @Category({"RoKUelike", "Rendering"})
+    @StackTrace(false)
+    public static class PaintEvent extends Event {
+        @Label("Monsters")
+        public int monsters;
+
+        @Label("Enchantments")
+        public int enchantments;
+    }
+
+    /**
+     * Saving or loading a game through SaveLoadManager.
+     */
+    @Name("rokuelike.SaveLoad")
+    @Label("Save/Load")
+    @Category({"RoKUelike", "I/O"})
+    public static class SaveLoadEvent extends Event {
+        @Label("Operation")
+        public String operation;
+
+        @Label("File")
+        public String file;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+
+        @Label("Success")
+        public boolean success;
+    }
+
+    /**
+     * Decoding a single image asset.
+     */
+    @Name("rokuelike.AssetLoad")
+    @Label("Asset Load")
+    @Category({"RoKUelike", "I/O"})
+    public static class AssetLoadEvent extends Event {
+        @Label("Path")
+        public String path;
+
+        @Label("Width")
+        public int width;
+
+        @Label("Height")
+        public int height;
+
+        @Label("Success")
+        public boolean success;
+    }
+}
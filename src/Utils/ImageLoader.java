@@ -0,0 +1,75 @@
+package Utils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads image resources from the classpath and reports each decode as a JFR asset-load event.
+ * Images that many screens share, like the sprite sheet, can be read through {@link #readCached(String)} so they are
+ * decoded once, possibly on a background thread before the screen that needs them opens.
+ */
+public class ImageLoader {
+    private static final Map<String, BufferedImage> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Reads and decodes an image resource.
+     * @param resourcePath the resource path, with or without a leading slash (e.g. AssetPaths.HEART)
+     * @return the decoded image
+     * @throws IOException if the resource is missing or cannot be decoded
+     */
+    public static BufferedImage read(String resourcePath) throws IOException {
+        GameEvents.AssetLoadEvent event = new GameEvents.AssetLoadEvent();
+        event.begin();
+        try {
+            String p = resourcePath.startsWith("/") ? resourcePath.substring(1) : resourcePath;
+            URL url = ImageLoader.class.getClassLoader().getResource(p);
+            if (url == null) {
+                throw new IOException("Image not found: " + p);
+            }
+            BufferedImage image = ImageIO.read(url);
+            if (image == null) {
+                throw new IOException("Unsupported image format: " + p);
+            }
+            event.width = image.getWidth();
+            event.height = image.getHeight();
+            event.success = true;
+            return image;
+        } finally {
+            event.path = resourcePath;
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the shared decoded copy of an image resource, decoding it on first use. Safe to call from any thread.
+     * The returned image is shared, so callers must not draw into it.
+     * @param resourcePath the resource path, with or without a leading slash
+     * @return the decoded image
+     * @throws IOException if the resource is missing or cannot be decoded
+     */
+    public static BufferedImage readCached(String resourcePath) throws IOException {
+        BufferedImage image = cache.get(resourcePath);
+        if (image == null) {
+            image = read(resourcePath);
+            // Two threads may decode the same image at once; both end up using whichever copy was stored first
+            BufferedImage existing = cache.putIfAbsent(resourcePath, image);
+            if (existing != null) {
+                image = existing;
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Checks whether an image has already been decoded into the shared cache.
+     * @param resourcePath the resource path
+     * @return true if {@link #readCached(String)} would return without decoding
+     */
+    public static boolean isCached(String resourcePath) {
+        return cache.containsKey(resourcePath);
+    }
+}
@@ -0,0 +1,134 @@
+package Utils;
+
+/**
+ * A fixed-size histogram with logarithmic buckets, in the spirit of HdrHistogram.
+ * Values are grouped by power of two and split into 16 linear sub-buckets, giving about 6% precision at any magnitude.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF = SUB_BUCKETS / 2;
+    private static final int MAX_SHIFT = 63 - (SUB_BUCKET_BITS - 1);
+
+    private final long[] counts = new long[SUB_BUCKETS + MAX_SHIFT * HALF];
+    private long totalCount = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+    private double sum = 0;
+
+    /**
+     * Records a single non-negative value. Negative values are clamped to zero.
+     * @param value the value to record
+     */
+    public synchronized void record(long value) {
+        if (value < 0) value = 0;
+        counts[indexFor(value)]++;
+        totalCount++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Returns the value below which the given fraction of recorded values fall.
+     * @param fraction a number between 0 and 1 (e.g. 0.99 for p99)
+     * @return the approximate value at that percentile, or 0 if empty
+     */
+    public synchronized long getValueAtPercentile(double fraction) {
+        if (totalCount == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(fraction * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(max, highestValueIn(i));
+            }
+        }
+        return max;
+    }
+
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    public synchronized double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /**
+     * Clears every recorded value.
+     */
+    public synchronized void reset() {
+        java.util.Arrays.fill(counts, 0);
+        totalCount = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        sum = 0;
+    }
+
+    /**
+     * Copies the non-empty buckets as {lowestValue, highestValue, count} rows.
+     * @return an array of bucket rows in ascending order
+     */
+    public synchronized long[][] getNonEmptyBuckets() {
+        int n = 0;
+        for (long c : counts) {
+            if (c > 0) n++;
+        }
+        long[][] rows = new long[n][];
+        int k = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                rows[k++] = new long[]{lowestValueIn(i), highestValueIn(i), counts[i]};
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Maps a value to its bucket index.
+     */
+    private static int indexFor(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS + 1;
+        int sub = (int) (value >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF + (sub - HALF);
+    }
+
+    /**
+     * Returns the smallest value that maps to the given bucket.
+     */
+    private static long lowestValueIn(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int k = index - SUB_BUCKETS;
+        int shift = k / HALF + 1;
+        long sub = k % HALF + HALF;
+        return sub << shift;
+    }
+
+    /**
+     * Returns the largest value that maps to the given bucket.
+     */
+    private static long highestValueIn(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int k = index - SUB_BUCKETS;
+        int shift = k / HALF + 1;
+        long sub = k % HALF + HALF;
+        return ((sub + 1) << shift) - 1;
+    }
+}
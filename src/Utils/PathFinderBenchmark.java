@@ -0,0 +1,111 @@
+package Utils;
+
+import Controller.SaveLoadManager;
+import Domain.GameState;
+import Domain.HierarchicalPathFinder;
+import Domain.PathFinder;
+import UI.BuildModePanel;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares A* and Jump Point Search on the hall layouts saved from build mode, plus a few larger generated halls
+ * with scattered objects. Run it from the project folder so the "saves" folder is found:
+ * <pre>java -cp out Utils.PathFinderBenchmark [queries per layout]</pre>
+ */
+public class PathFinderBenchmark {
+    private static final int[] GENERATED_SIZES = {32, 64, 128};
+    private static final double GENERATED_OBJECT_DENSITY = 0.08;
+    private static final int WARMUP_ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int queries = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        Random random = new Random(42);
+
+        System.out.printf("%-16s %9s %8s | %10s %10s | %10s %10s | %7s%n",
+                "layout", "size", "queries", "A* mean", "A* p99", "JPS mean", "JPS p99", "speedup");
+
+        for (String save : SaveLoadManager.listSaves()) {
+            GameState state = SaveLoadManager.loadGame(save);
+            if (state == null || state.getGrid() == null || state.getPlacedObjects() == null) {
+                continue;
+            }
+            boolean[][] walkable = HierarchicalPathFinder.walkableFrom(state.getGrid(), state.getPlacedObjects(),
+                    BuildModePanel.DOOR_ROW, BuildModePanel.DOOR_COL);
+            run(save, walkable, queries, random);
+        }
+
+        for (int size : GENERATED_SIZES) {
+            run("generated", generateHall(size, random), queries, random);
+        }
+    }
+
+    /**
+     * Times both algorithms on the same random start and goal pairs and checks that they agree on path lengths.
+     */
+    private static void run(String name, boolean[][] walkable, int queries, Random random) {
+        List<Point> open = new ArrayList<>();
+        for (int r = 0; r < walkable.length; r++) {
+            for (int c = 0; c < walkable[0].length; c++) {
+                if (walkable[r][c]) {
+                    open.add(new Point(r, c));
+                }
+            }
+        }
+        if (open.size() < 2) {
+            return;
+        }
+        Point[] starts = new Point[queries];
+        Point[] goals = new Point[queries];
+        for (int i = 0; i < queries; i++) {
+            starts[i] = open.get(random.nextInt(open.size()));
+            goals[i] = open.get(random.nextInt(open.size()));
+        }
+
+        LatencyHistogram aStar = new LatencyHistogram();
+        LatencyHistogram jps = new LatencyHistogram();
+        int mismatches = 0;
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            aStar.reset();
+            jps.reset();
+            mismatches = 0;
+            for (int i = 0; i < queries; i++) {
+                long t0 = System.nanoTime();
+                List<Point> a = PathFinder.findPath(starts[i], goals[i], walkable, PathFinder.Algorithm.A_STAR);
+                long t1 = System.nanoTime();
+                List<Point> j = PathFinder.findPath(starts[i], goals[i], walkable, PathFinder.Algorithm.JUMP_POINT);
+                long t2 = System.nanoTime();
+                aStar.record(t1 - t0);
+                jps.record(t2 - t1);
+                if ((a == null) != (j == null) || (a != null && a.size() != j.size())) {
+                    mismatches++;
+                }
+            }
+        }
+
+        System.out.printf("%-16s %4dx%-4d %8d | %8.1fus %8.1fus | %8.1fus %8.1fus | %6.2fx%n",
+                name, walkable.length, walkable[0].length, queries,
+                aStar.getMean() / 1000.0, aStar.getValueAtPercentile(0.99) / 1000.0,
+                jps.getMean() / 1000.0, jps.getValueAtPercentile(0.99) / 1000.0,
+                aStar.getMean() / Math.max(1.0, jps.getMean()));
+        if (mismatches > 0) {
+            System.out.println("  WARNING: " + mismatches + " queries returned paths of different lengths");
+        }
+    }
+
+    /**
+     * Generates an open hall with walls around the edge and single-cell objects scattered inside.
+     */
+    private static boolean[][] generateHall(int size, Random random) {
+        boolean[][] walkable = new boolean[size][size];
+        for (int r = 1; r < size - 1; r++) {
+            for (int c = 1; c < size - 1; c++) {
+                walkable[r][c] = random.nextDouble() >= GENERATED_OBJECT_DENSITY;
+            }
+        }
+        return walkable;
+    }
+}
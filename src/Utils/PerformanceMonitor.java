@@ -0,0 +1,193 @@
+package Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects frame, tick and entity-count measurements for one play session into histograms.
+ * Recording is always on and costs a couple of nanoTime calls; the overlay and CSV export only read the histograms.
+ */
+public class PerformanceMonitor {
+    public static final String PAINT = "paint";
+    public static final String TICK = "monster tick";
+    public static final String SPAWN = "spawn monster";
+    public static final String TICK_ALLOCATION = "tick alloc";
+    public static final String EDT_QUEUE_DELAY = "EDT delay";
+    public static final String MONSTERS = "monsters";
+    public static final String AI_PLANNED = "ai planned";
+    public static final String ARROWS = "arrows";
+    public static final String ENCHANTMENTS = "enchantments";
+
+    /**
+     * The unit a metric is recorded in, used for display and export.
+     */
+    public enum Unit { NANOS, BYTES, COUNT }
+
+    private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+    private final Map<String, Unit> units = new LinkedHashMap<>();
+    private final Map<String, Long> lastValues = new LinkedHashMap<>();
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /**
+     * Constructs a monitor with the standard game metrics registered.
+     */
+    public PerformanceMonitor() {
+        register(PAINT, Unit.NANOS);
+        register(TICK, Unit.NANOS);
+        register(SPAWN, Unit.NANOS);
+        register(TICK_ALLOCATION, Unit.BYTES);
+        register(EDT_QUEUE_DELAY, Unit.NANOS);
+        register(MONSTERS, Unit.COUNT);
+        register(AI_PLANNED, Unit.COUNT);
+        register(ARROWS, Unit.COUNT);
+        register(ENCHANTMENTS, Unit.COUNT);
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean sunBean = null;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported() && !sunBean.isThreadAllocatedMemoryEnabled()) {
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            if (!sunBean.isThreadAllocatedMemorySupported()) {
+                sunBean = null;
+            }
+        }
+        allocationBean = sunBean;
+    }
+
+    /**
+     * Adds a metric so it appears in the overlay and export.
+     * @param name the metric name
+     * @param unit the unit values are recorded in
+     */
+    public synchronized void register(String name, Unit unit) {
+        histograms.putIfAbsent(name, new LatencyHistogram());
+        units.putIfAbsent(name, unit);
+    }
+
+    /**
+     * Records a value for the given metric.
+     * @param name the metric name
+     * @param value the value to record
+     */
+    public void record(String name, long value) {
+        LatencyHistogram h;
+        synchronized (this) {
+            h = histograms.get(name);
+            lastValues.put(name, value);
+        }
+        if (h != null) {
+            h.record(value);
+        }
+    }
+
+    /**
+     * Records the time elapsed since the given System.nanoTime() reading.
+     * @param name the metric name
+     * @param startNanos the value of System.nanoTime() when the measured section began
+     */
+    public void recordSince(String name, long startNanos) {
+        record(name, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the calling thread.
+     * @return allocated bytes, or -1 if the JVM cannot report it
+     */
+    public long currentThreadAllocatedBytes() {
+        if (allocationBean == null) {
+            return -1;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the histogram for a metric.
+     * @param name the metric name
+     * @return the histogram, or null if the metric is not registered
+     */
+    public synchronized LatencyHistogram getHistogram(String name) {
+        return histograms.get(name);
+    }
+
+    /**
+     * Builds one human-readable summary line per metric for the on-screen overlay.
+     * @return an array of summary lines
+     */
+    public synchronized String[] getSummaryLines() {
+        String[] lines = new String[histograms.size()];
+        int i = 0;
+        for (Map.Entry<String, LatencyHistogram> e : histograms.entrySet()) {
+            LatencyHistogram h = e.getValue();
+            Unit unit = units.get(e.getKey());
+            if (unit == Unit.COUNT) {
+                Long last = lastValues.get(e.getKey());
+                lines[i++] = String.format("%-13s now %d  max %d", e.getKey(),
+                        last == null ? 0 : last, h.getMax());
+            } else {
+                lines[i++] = String.format("%-13s p50 %s  p99 %s  max %s", e.getKey(),
+                        format(h.getValueAtPercentile(0.50), unit),
+                        format(h.getValueAtPercentile(0.99), unit),
+                        format(h.getMax(), unit));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Writes all histograms to a new CSV file in the "perf" directory.
+     * The file has one summary row per metric followed by one row per non-empty bucket.
+     * @return the written file
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized File exportCsv() throws IOException {
+        File folder = new File("perf");
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File file = new File(folder, "perf-" + stamp + ".csv");
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.println("metric,unit,count,min,p50,p90,p99,p999,max,mean");
+            for (Map.Entry<String, LatencyHistogram> e : histograms.entrySet()) {
+                LatencyHistogram h = e.getValue();
+                out.printf("%s,%s,%d,%d,%d,%d,%d,%d,%d,%.1f%n",
+                        e.getKey(), units.get(e.getKey()), h.getTotalCount(), h.getMin(),
+                        h.getValueAtPercentile(0.50), h.getValueAtPercentile(0.90),
+                        h.getValueAtPercentile(0.99), h.getValueAtPercentile(0.999),
+                        h.getMax(), h.getMean());
+            }
+            out.println();
+            out.println("metric,bucket_low,bucket_high,count");
+            for (Map.Entry<String, LatencyHistogram> e : histograms.entrySet()) {
+                for (long[] row : e.getValue().getNonEmptyBuckets()) {
+                    out.printf("%s,%d,%d,%d%n", e.getKey(), row[0], row[1], row[2]);
+                }
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Formats a value in the metric's unit with a readable suffix.
+     */
+    private static String format(long value, Unit unit) {
+        if (unit == Unit.NANOS) {
+            if (value >= 1_000_000) return String.format("%.1fms", value / 1_000_000.0);
+            return String.format("%dus", value / 1_000);
+        }
+        if (unit == Unit.BYTES) {
+            if (value >= 1024 * 1024) return String.format("%.1fMB", value / (1024.0 * 1024.0));
+            return String.format("%dKB", value / 1024);
+        }
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,108 @@
+package Utils;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds one shared copy of every entity sprite, addressed by a small integer id.
+ * Entities store only the id, so a hundred monsters of one type share a single image and its mirrored version.
+ */
+public final class SpriteCache {
+    private static final int FALLBACK_SIZE = 64;
+
+    private static final Map<String, Integer> ids = new HashMap<>();
+    private static final List<BufferedImage> images = new ArrayList<>();
+    private static final List<BufferedImage> mirrored = new ArrayList<>();
+
+    private SpriteCache() {
+    }
+
+    /**
+     * Returns the id of the sprite at the given resource path, loading it the first time it is requested.
+     * A red placeholder is used if the image cannot be loaded.
+     * @param path the resource path of the image
+     * @return the sprite id
+     */
+    public static synchronized int idFor(String path) {
+        Integer id = ids.get(path);
+        if (id != null) {
+            return id;
+        }
+        BufferedImage image;
+        try {
+            image = ImageLoader.readCached(path);
+        } catch (IOException e) {
+            System.err.println("Failed to load sprite: " + e.getMessage());
+            image = fallback();
+        }
+        images.add(image);
+        mirrored.add(null);
+        id = images.size() - 1;
+        ids.put(path, id);
+        return id;
+    }
+
+    /**
+     * Returns the sprite with the given id.
+     * @param id the sprite id from idFor
+     * @return the shared image
+     */
+    public static synchronized BufferedImage getImage(int id) {
+        return images.get(id);
+    }
+
+    /**
+     * Returns the horizontally mirrored sprite with the given id, creating it on first use.
+     * @param id the sprite id from idFor
+     * @return the shared mirrored image
+     */
+    public static synchronized BufferedImage getMirrored(int id) {
+        BufferedImage m = mirrored.get(id);
+        if (m == null) {
+            m = mirror(images.get(id));
+            mirrored.set(id, m);
+        }
+        return m;
+    }
+
+    /**
+     * Returns the sprite at the given resource path.
+     * @param path the resource path of the image
+     * @return the shared image
+     */
+    public static BufferedImage getImage(String path) {
+        return getImage(idFor(path));
+    }
+
+    /**
+     * Creates a mirrored version of the given image.
+     */
+    private static BufferedImage mirror(BufferedImage original) {
+        AffineTransform transform = AffineTransform.getScaleInstance(-1, 1);
+        transform.translate(-original.getWidth(), 0);
+
+        BufferedImage result = new BufferedImage(original.getWidth(), original.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = result.createGraphics();
+        g.drawImage(original, transform, null);
+        g.dispose();
+        return result;
+    }
+
+    /**
+     * Creates the red placeholder used when an image is missing.
+     */
+    private static BufferedImage fallback() {
+        BufferedImage f = new BufferedImage(FALLBACK_SIZE, FALLBACK_SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = f.createGraphics();
+        g2d.setColor(Color.RED);
+        g2d.fillRect(0, 0, FALLBACK_SIZE, FALLBACK_SIZE);
+        g2d.dispose();
+        return f;
+    }
+}